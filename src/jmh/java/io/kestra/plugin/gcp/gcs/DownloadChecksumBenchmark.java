@@ -0,0 +1,127 @@
+package io.kestra.plugin.gcp.gcs;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of writing a downloaded object to a local file, comparing the plain channel transfer of
+ * unvalidated downloads, the former validated path hashing a heap buffer in an {@link InputStream} loop, and the
+ * {@link HashingWritableByteChannel} transfer through a direct buffer.
+ * <p>
+ * The GCS read channel is simulated by a channel reading a local file, so that only the local copy and hashing costs
+ * are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DownloadChecksumBenchmark {
+    @Param({"64"})
+    private int megabytes;
+
+    private Path source;
+    private Path target;
+
+    @Setup
+    public void setup() throws IOException {
+        source = Files.createTempFile("benchmark-source", ".bin");
+        target = Files.createTempFile("benchmark-target", ".bin");
+
+        byte[] chunk = new byte[1024 * 1024];
+        new Random(42).nextBytes(chunk);
+        try (OutputStream output = Files.newOutputStream(source)) {
+            for (int i = 0; i < megabytes; i++) {
+                output.write(chunk);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(source);
+        Files.deleteIfExists(target);
+    }
+
+    // hides the FileChannel so that no transfer takes the file to file fast path, as with a GCS ReadChannel
+    private ReadableByteChannel readChannel() throws IOException {
+        FileChannel channel = FileChannel.open(source, StandardOpenOption.READ);
+
+        return new ReadableByteChannel() {
+            @Override
+            public int read(ByteBuffer dst) throws IOException {
+                return channel.read(dst);
+            }
+
+            @Override
+            public boolean isOpen() {
+                return channel.isOpen();
+            }
+
+            @Override
+            public void close() throws IOException {
+                channel.close();
+            }
+        };
+    }
+
+    @Benchmark
+    public long transferFrom() throws IOException {
+        try (
+            ReadableByteChannel readChannel = readChannel();
+            FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
+        ) {
+            return channel.transferFrom(readChannel, 0, Long.MAX_VALUE);
+        }
+    }
+
+    @Benchmark
+    public void inputStreamLoop(Blackhole blackhole) throws IOException {
+        CRC32C crc = new CRC32C();
+
+        try (
+            ReadableByteChannel readChannel = readChannel();
+            InputStream inputStream = Channels.newInputStream(readChannel);
+            OutputStream out = new FileOutputStream(target.toFile())
+        ) {
+            byte[] buffer = new byte[16 * 1024];
+            int n;
+            while ((n = inputStream.read(buffer)) != -1) {
+                crc.update(buffer, 0, n);
+                out.write(buffer, 0, n);
+            }
+        }
+
+        blackhole.consume(crc.getValue());
+    }
+
+    @Benchmark
+    public void hashingChannel(Blackhole blackhole) throws IOException {
+        try (
+            ReadableByteChannel readChannel = readChannel();
+            HashingWritableByteChannel channel = HashingWritableByteChannel.crc32c(
+                FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
+            )
+        ) {
+            channel.transferFrom(readChannel, ByteBuffer.allocateDirect(1024 * 1024));
+
+            blackhole.consume(channel.checksum());
+        }
+    }
+}
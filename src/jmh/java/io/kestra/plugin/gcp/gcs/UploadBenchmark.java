@@ -0,0 +1,138 @@
+package io.kestra.plugin.gcp.gcs;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of reading and checksumming a file of the internal storage for an upload, comparing the
+ * former path reading 10 KB heap chunks through a {@link DigestInputStream}, {@link Channels#newChannel(InputStream)}
+ * into chunk sized pooled direct buffers, and {@link InputStreamChannel} filling these buffers, both hashed by
+ * {@link HashingWritableByteChannel}.
+ * <p>
+ * The source is opened as the local internal storage returns it, a {@link FileInputStream} wrapped in a
+ * {@link BufferedInputStream}, so that the exact {@link FileInputStream} shortcut of {@link Channels#newChannel(InputStream)}
+ * doesn't apply. The GCS write channel is replaced by a sink consuming the buffers, so that only the read and hashing
+ * costs are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UploadBenchmark {
+    private static final int CHUNK_SIZE = 16 * 1024 * 1024;
+
+    @Param({"256"})
+    private int megabytes;
+
+    private Path source;
+
+    @Setup
+    public void setup() throws IOException {
+        source = Files.createTempFile("benchmark-source", ".bin");
+
+        byte[] chunk = new byte[1024 * 1024];
+        new Random(42).nextBytes(chunk);
+        try (OutputStream output = Files.newOutputStream(source)) {
+            for (int i = 0; i < megabytes; i++) {
+                output.write(chunk);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(source);
+    }
+
+    // as returned by the local internal storage
+    private InputStream open() throws IOException {
+        return new BufferedInputStream(new FileInputStream(source.toFile()));
+    }
+
+    private static WritableByteChannel sink(Blackhole blackhole) {
+        return new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer src) {
+                int remaining = src.remaining();
+                blackhole.consume(src.get(src.limit() - 1));
+                src.position(src.limit());
+                return remaining;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    @Benchmark
+    public void digestInputStream(Blackhole blackhole) throws IOException, NoSuchAlgorithmException {
+        MessageDigest md5 = MessageDigest.getInstance("MD5");
+        CRC32C crc32c = new CRC32C();
+        WritableByteChannel writer = sink(blackhole);
+
+        try (InputStream data = new DigestInputStream(open(), md5)) {
+            byte[] buffer = new byte[10_240];
+
+            int limit;
+            while ((limit = data.read(buffer)) >= 0) {
+                crc32c.update(buffer, 0, limit);
+                writer.write(ByteBuffer.wrap(buffer, 0, limit));
+            }
+        }
+
+        blackhole.consume(md5.digest());
+        blackhole.consume(crc32c.getValue());
+    }
+
+    @Benchmark
+    public void newChannel(Blackhole blackhole) throws IOException {
+        this.hashingChannel(Channels.newChannel(open()), blackhole);
+    }
+
+    @Benchmark
+    public void inputStreamChannel(Blackhole blackhole) throws IOException {
+        this.hashingChannel(InputStreamChannel.of(open()), blackhole);
+    }
+
+    private void hashingChannel(ReadableByteChannel channel, Blackhole blackhole) throws IOException {
+        ByteBuffer buffer = DirectBufferPool.acquire(CHUNK_SIZE);
+
+        try (ReadableByteChannel data = channel) {
+            HashingWritableByteChannel crc32c = HashingWritableByteChannel.crc32c(sink(blackhole));
+            HashingWritableByteChannel md5 = HashingWritableByteChannel.md5(crc32c);
+
+            md5.transferFrom(data, buffer);
+
+            blackhole.consume(md5.checksum());
+            blackhole.consume(crc32c.checksum());
+        } finally {
+            DirectBufferPool.release(buffer);
+        }
+    }
+}
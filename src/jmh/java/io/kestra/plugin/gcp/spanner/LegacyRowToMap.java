@@ -0,0 +1,99 @@
+package io.kestra.plugin.gcp.spanner;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.cloud.spanner.Struct;
+import com.google.cloud.spanner.Type;
+
+import io.kestra.core.serializers.JacksonMapper;
+
+/**
+ * Copy of the per-row {@code SpannerService.rowToMap} implementation replaced by {@link SpannerRowDecoder}, resolving
+ * every column by name and switching on its type code for each row; kept as the benchmark baseline.
+ */
+final class LegacyRowToMap {
+    private LegacyRowToMap() {
+    }
+
+    static Map<String, Object> rowToMap(Struct row) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (Type.StructField field : row.getType().getStructFields()) {
+            String name = field.getName();
+            map.put(name, getValue(row, name, field.getType()));
+        }
+        return map;
+    }
+
+    private static Object getValue(Struct row, String columnName, Type type) {
+        if (row.isNull(columnName)) {
+            return null;
+        }
+
+        Type.Code code = type.getCode();
+        switch (code) {
+            case BOOL:
+                return row.getBoolean(columnName);
+            case INT64:
+                return row.getLong(columnName);
+            case FLOAT64:
+                return row.getDouble(columnName);
+            case NUMERIC:
+                return row.getBigDecimal(columnName);
+            case STRING:
+                return row.getString(columnName);
+            case JSON:
+                String jsonVal = row.getJson(columnName);
+                try {
+                    return JacksonMapper.toMap(jsonVal);
+                } catch (Exception e) {
+                    return jsonVal;
+                }
+            case BYTES:
+                return row.getBytes(columnName).toByteArray();
+            case TIMESTAMP:
+                return row.getTimestamp(columnName).toSqlTimestamp().toInstant();
+            case DATE:
+                com.google.cloud.Date date = row.getDate(columnName);
+                return java.time.LocalDate.of(date.getYear(), date.getMonth(), date.getDayOfMonth());
+            case ARRAY:
+                return getArrayValue(row, columnName, type.getArrayElementType());
+            case STRUCT:
+                return rowToMap(row.getStruct(columnName));
+            default:
+                return row.getValue(columnName).toString();
+        }
+    }
+
+    private static Object getArrayValue(Struct row, String columnName, Type elementType) {
+        Type.Code elementCode = elementType.getCode();
+        switch (elementCode) {
+            case BOOL:
+                return row.getBooleanList(columnName);
+            case INT64:
+                return row.getLongList(columnName);
+            case FLOAT64:
+                return row.getDoubleList(columnName);
+            case NUMERIC:
+                return row.getBigDecimalList(columnName);
+            case STRING:
+                return row.getStringList(columnName);
+            case JSON:
+                return row.getJsonList(columnName);
+            case TIMESTAMP:
+                return row.getTimestampList(columnName).stream()
+                    .map(t -> t.toSqlTimestamp().toInstant())
+                    .toList();
+            case DATE:
+                return row.getDateList(columnName).stream()
+                    .map(date -> java.time.LocalDate.of(date.getYear(), date.getMonth(), date.getDayOfMonth()))
+                    .toList();
+            case STRUCT:
+                return row.getStructList(columnName).stream()
+                    .map(LegacyRowToMap::rowToMap)
+                    .toList();
+            default:
+                return row.getValue(columnName).toString();
+        }
+    }
+}
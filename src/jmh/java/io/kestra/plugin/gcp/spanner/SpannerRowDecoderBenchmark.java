@@ -0,0 +1,98 @@
+package io.kestra.plugin.gcp.spanner;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.google.cloud.Date;
+import com.google.cloud.Timestamp;
+import com.google.cloud.spanner.ResultSets;
+import com.google.cloud.spanner.Struct;
+import com.google.cloud.spanner.Type;
+
+/**
+ * Measures rows/s decoded from a wide Spanner result set, comparing the original per-row type resolution, kept in
+ * {@link LegacyRowToMap}, with a {@link SpannerRowDecoder} compiled once for the whole result set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpannerRowDecoderBenchmark {
+    private static final int ROWS = 10_000;
+
+    @Param({"20", "100"})
+    private int columns;
+
+    private Type type;
+    private List<Struct> rows;
+
+    @Setup
+    public void setup() {
+        var fields = new ArrayList<Type.StructField>();
+        for (var i = 0; i < columns; i++) {
+            fields.add(Type.StructField.of("col_" + i, columnType(i)));
+        }
+        type = Type.struct(fields);
+
+        rows = new ArrayList<>(ROWS);
+        for (var r = 0; r < ROWS; r++) {
+            var builder = Struct.newBuilder();
+            for (var i = 0; i < columns; i++) {
+                var name = "col_" + i;
+                switch (i % 7) {
+                    case 0 -> builder.set(name).to((long) r * i);
+                    case 1 -> builder.set(name).to("value-" + r + "-" + i);
+                    case 2 -> builder.set(name).to(r * 1.5d);
+                    case 3 -> builder.set(name).to(r % 2 == 0);
+                    case 4 -> builder.set(name).to(Timestamp.ofTimeSecondsAndNanos(1_700_000_000L + r, 0));
+                    case 5 -> builder.set(name).to(Date.fromYearMonthDay(2024, 1 + r % 12, 1 + r % 28));
+                    default -> builder.set(name).to(r % 10 == 0 ? null : BigDecimal.valueOf(r, 2));
+                }
+            }
+            rows.add(builder.build());
+        }
+    }
+
+    private static Type columnType(int index) {
+        return switch (index % 7) {
+            case 0 -> Type.int64();
+            case 1 -> Type.string();
+            case 2 -> Type.float64();
+            case 3 -> Type.bool();
+            case 4 -> Type.timestamp();
+            case 5 -> Type.date();
+            default -> Type.numeric();
+        };
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void legacyRowToMap(Blackhole blackhole) {
+        try (var resultSet = ResultSets.forRows(type, rows)) {
+            while (resultSet.next()) {
+                blackhole.consume(LegacyRowToMap.rowToMap(resultSet.getCurrentRowAsStruct()));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void compiledDecoder(Blackhole blackhole) {
+        try (var resultSet = ResultSets.forRows(type, rows)) {
+            SpannerRowDecoder decoder = null;
+            while (resultSet.next()) {
+                if (decoder == null) {
+                    decoder = SpannerRowDecoder.of(resultSet.getType());
+                }
+                blackhole.consume(decoder.decode(resultSet));
+            }
+        }
+    }
+}
@@ -152,24 +152,63 @@ abstract public class AbstractBigquery extends AbstractTask implements WorkerJob
     }
 
     BigQuery connection(RunContext runContext) throws IllegalVariableEvaluationException, IOException {
+        return this.connection(runContext, null);
+    }
+
+    BigQuery connection(RunContext runContext, QueryJobConfiguration.JobCreationMode jobCreationMode) throws IllegalVariableEvaluationException, IOException {
         GoogleCredentials credentials = this.credentials(runContext);
         String projectId = runContext.render(this.projectId).as(String.class).orElse(null);
         String location = runContext.render(this.location).as(String.class).orElse(null);
 
-        return connection(runContext, credentials, projectId, location);
+        return connection(runContext, credentials, projectId, location, jobCreationMode);
     }
 
     protected static BigQuery connection(RunContext runContext, GoogleCredentials googleCredentials, String projectId, String location) throws IllegalVariableEvaluationException {
-        return BigQueryOptions
+        return connection(runContext, googleCredentials, projectId, location, null);
+    }
+
+    protected static BigQuery connection(
+        RunContext runContext,
+        GoogleCredentials googleCredentials,
+        String projectId,
+        String location,
+        QueryJobConfiguration.JobCreationMode jobCreationMode
+    ) throws IllegalVariableEvaluationException {
+        BigQueryOptions.Builder builder = BigQueryOptions
             .newBuilder()
             .setCredentials(googleCredentials)
             .setProjectId(projectId)
             .setLocation(location)
-            .setHeaderProvider(() -> Map.of("user-agent", "Kestra/" + runContext.version()))
+            .setHeaderProvider(() -> Map.of("user-agent", "Kestra/" + runContext.version()));
+
+        // the default job creation mode drives `BigQuery.query()`: with JOB_CREATION_OPTIONAL, short queries
+        // are answered inline by jobs.query without creating a job
+        if (jobCreationMode != null) {
+            builder.setDefaultJobCreationMode(jobCreationMode);
+        }
+
+        return builder
             .build()
             .getService();
     }
 
+    /**
+     * The `retryAuto` policy, or the default exponential backoff documented on it.
+     */
+    protected AbstractRetry retryAutoOrDefault() {
+        if (this.getRetryAuto() != null) {
+            return this.getRetryAuto();
+        }
+
+        return Exponential.builder()
+            .type("exponential")
+            .interval(Duration.ofSeconds(5))
+            .maxInterval(Duration.ofMinutes(60))
+            .maxDuration(Duration.ofMinutes(15))
+            .maxAttempts(10)
+            .build();
+    }
+
     protected Job waitForJob(Logger logger, Callable<Job> createJob, RunContext runContext, BigQuery connection) {
         return this.waitForJob(logger, createJob, false, runContext, connection);
     }
@@ -179,16 +218,7 @@ abstract public class AbstractBigquery extends AbstractTask implements WorkerJob
 
         return Failsafe
             .with(
-                AbstractRetry.<Job> retryPolicy(
-                    this.getRetryAuto() != null ? this.getRetryAuto()
-                        : Exponential.builder()
-                            .type("exponential")
-                            .interval(Duration.ofSeconds(5))
-                            .maxInterval(Duration.ofMinutes(60))
-                            .maxDuration(Duration.ofMinutes(15))
-                            .maxAttempts(10)
-                            .build()
-                )
+                AbstractRetry.<Job> retryPolicy(this.retryAutoOrDefault())
                     .handleIf(throwable -> this.shouldRetry(throwable, logger, runContext))
                     .onFailure(
                         event -> logger.error(
@@ -277,6 +307,28 @@ abstract public class AbstractBigquery extends AbstractTask implements WorkerJob
             });
     }
 
+    /**
+     * Some client calls (e.g. `tabledata.list` or `tables.delete`) fail without any {@link BigQueryError}, the reason is
+     * then derived from the HTTP status code, so that {@link #shouldRetry} can match it against the `retryReasons`.
+     */
+    static BigQueryException withErrors(com.google.cloud.bigquery.BigQueryException e) {
+        List<BigQueryError> errors = e.getErrors();
+        if (errors == null || errors.isEmpty()) {
+            String reason = e.getReason();
+            if (reason == null) {
+                reason = switch (e.getCode()) {
+                    case 503 -> "backendError";
+                    case 500 -> "internalError";
+                    case 429 -> "rateLimitExceeded";
+                    default -> "unknown";
+                };
+            }
+            errors = List.of(new BigQueryError(reason, e.getLocation(), e.getMessage()));
+        }
+
+        return new BigQueryException(errors);
+    }
+
     boolean shouldRetry(Throwable failure, Logger logger, RunContext runContext) throws IllegalVariableEvaluationException {
         if (!(failure instanceof BigQueryException)) {
             logger.warn("Cancelled retrying, unknown exception type {}", failure.getClass(), failure);
@@ -1,13 +1,24 @@
 package io.kestra.plugin.gcp.bigquery;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.FieldValue;
+import com.google.cloud.bigquery.FieldValueList;
+import com.google.cloud.bigquery.QueryJobConfiguration;
+import com.google.cloud.bigquery.QueryParameterValue;
 import com.google.cloud.bigquery.TableId;
+import com.google.cloud.bigquery.TableResult;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.property.Property;
@@ -15,6 +26,7 @@ import io.kestra.core.runners.RunContext;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -38,6 +50,18 @@ abstract public class AbstractPartition extends AbstractTable {
         YEAR, "0101000000"
     );
 
+    private static final Map<AbstractPartition.PartitionType, DateTimeFormatter> PARTITION_ID_FORMAT = Map.of(
+        HOUR, DateTimeFormatter.ofPattern("yyyyMMddHH"),
+        DAY, DateTimeFormatter.ofPattern("yyyyMMdd"),
+        MONTH, DateTimeFormatter.ofPattern("yyyyMM"),
+        YEAR, DateTimeFormatter.ofPattern("yyyy")
+    );
+
+    private static final DateTimeFormatter RANGE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm[:ss][.SSSSSS][XXX]");
+
+    // partition metadata listed by the tasks of running executions, see cacheTtl
+    private static final Map<CacheKey, CachedPartitions> CACHE = new ConcurrentHashMap<>();
+
     @NotNull
     @Schema(
         title = "Partition type",
@@ -62,6 +86,26 @@ abstract public class AbstractPartition extends AbstractTable {
     @PluginProperty(group = "main")
     protected Property<String> to;
 
+    @Builder.Default
+    @Schema(
+        title = "Partition listing strategy",
+        description = "`PARTITIONS_SUMMARY` (default) lists all the partitions of the table from its partition summary and filters them client-side. " +
+            "`INFORMATION_SCHEMA` queries the `INFORMATION_SCHEMA.PARTITIONS` view of the dataset with the range pushed down, " +
+            "which scales with the number of partitions in the range instead of the whole table and also returns the row count, " +
+            "logical size and last modified time of each partition. The query is billed as a regular query."
+    )
+    @PluginProperty(group = "advanced")
+    protected Property<ListingStrategy> listingStrategy = Property.ofValue(ListingStrategy.PARTITIONS_SUMMARY);
+
+    @Schema(
+        title = "Partition metadata cache TTL",
+        description = "If set, the partitions listed with the `INFORMATION_SCHEMA` strategy are kept in memory for this duration " +
+            "and reused by the following tasks of the same execution listing the same table and range on the same worker. " +
+            "Tasks deleting or copying partitions invalidate the entries of the tables they modify."
+    )
+    @PluginProperty(group = "advanced")
+    protected Property<Duration> cacheTtl;
+
     protected TableId tableId(RunContext runContext, String partition) throws IllegalVariableEvaluationException {
         return this.projectId != null ? TableId.of(
             runContext.render(this.projectId).as(String.class).orElseThrow(),
@@ -75,41 +119,198 @@ abstract public class AbstractPartition extends AbstractTable {
     }
 
     protected List<String> listPartitions(RunContext runContext, BigQuery connection, TableId tableId) throws IllegalVariableEvaluationException {
-        List<String> partitions = connection.listPartitions(tableId);
+        return this.listPartitionsMetadata(runContext, connection, tableId)
+            .stream()
+            .map(PartitionMetadata::getPartitionId)
+            .collect(Collectors.toList());
+    }
+
+    protected List<PartitionMetadata> listPartitionsMetadata(RunContext runContext, BigQuery connection, TableId tableId) throws IllegalVariableEvaluationException {
+        return this.listPartitionsMetadata(
+            runContext,
+            connection,
+            tableId,
+            runContext.render(this.listingStrategy).as(ListingStrategy.class).orElse(ListingStrategy.PARTITIONS_SUMMARY)
+        );
+    }
 
+    protected List<PartitionMetadata> listPartitionsMetadata(RunContext runContext, BigQuery connection, TableId tableId, ListingStrategy strategy) throws IllegalVariableEvaluationException {
         var renderedPartitionType = runContext.render(partitionType).as(PartitionType.class).orElseThrow();
-        if (renderedPartitionType.equals(RANGE)) {
-            int from = Integer.parseInt(runContext.render(this.from).as(String.class).orElseThrow());
-            int to = Integer.parseInt(runContext.render(this.to).as(String.class).orElseThrow());
+        String renderedFrom = runContext.render(this.from).as(String.class).orElseThrow();
+        String renderedTo = runContext.render(this.to).as(String.class).orElseThrow();
+        Predicate<String> inRange = inRange(renderedPartitionType, renderedFrom, renderedTo);
 
-            return partitions
+        if (strategy == ListingStrategy.PARTITIONS_SUMMARY) {
+            return connection.listPartitions(tableId)
                 .stream()
-                .filter(s ->
-                {
-                    int current = Integer.parseInt(s);
-
-                    return current >= from &&
-                        current <= to;
-                })
+                .filter(inRange)
+                .map(partition -> PartitionMetadata.builder().partitionId(partition).build())
                 .collect(Collectors.toList());
+        }
+
+        var rCacheTtl = runContext.render(this.cacheTtl).as(Duration.class);
+        String executionId = executionId(runContext);
+        CacheKey key = new CacheKey(executionId, tableId.toString(), renderedPartitionType + "/" + renderedFrom + "/" + renderedTo);
+
+        if (rCacheTtl.isPresent() && executionId != null) {
+            Instant now = Instant.now();
+            CACHE.values().removeIf(cached -> cached.expiresAt().isBefore(now));
+
+            CachedPartitions cached = CACHE.get(key);
+            if (cached != null) {
+                runContext.logger().debug("Using the cached partitions of table '{}'", tableId);
+                return cached.partitions();
+            }
+        }
+
+        List<PartitionMetadata> partitions = this.queryPartitions(connection, tableId, renderedPartitionType, renderedFrom, renderedTo)
+            .stream()
+            .filter(partition -> inRange.test(partition.getPartitionId()))
+            .toList();
+
+        if (rCacheTtl.isPresent() && executionId != null) {
+            CACHE.put(key, new CachedPartitions(partitions, Instant.now().plus(rCacheTtl.get())));
+        }
+
+        return partitions;
+    }
+
+    /**
+     * Drop the cached partitions of a table modified by the current execution.
+     */
+    protected static void invalidatePartitions(RunContext runContext, TableId tableId) {
+        String executionId = executionId(runContext);
+        String table = tableId.toString();
+
+        CACHE.keySet().removeIf(key -> key.table().equals(table) && key.executionId().equals(executionId));
+    }
+
+    private List<PartitionMetadata> queryPartitions(BigQuery connection, TableId tableId, PartitionType type, String from, String to) {
+        String project = tableId.getProject() != null ? tableId.getProject() : connection.getOptions().getProjectId();
+
+        // partition ids of a given type have a fixed length, so that a lexicographic range on them matches the time range
+        QueryJobConfiguration.Builder query = QueryJobConfiguration.newBuilder(
+                "SELECT partition_id, total_rows, total_logical_bytes, last_modified_time " +
+                    "FROM `" + project + "." + tableId.getDataset() + ".INFORMATION_SCHEMA.PARTITIONS` " +
+                    "WHERE table_name = @table AND " +
+                    (type == RANGE ? "SAFE_CAST(partition_id AS INT64)" : "partition_id") + " BETWEEN @from AND @to " +
+                    "ORDER BY partition_id"
+            )
+            .setUseLegacySql(false)
+            .addNamedParameter("table", QueryParameterValue.string(tableId.getTable()));
+
+        if (type == RANGE) {
+            query
+                .addNamedParameter("from", QueryParameterValue.int64(Long.parseLong(from)))
+                .addNamedParameter("to", QueryParameterValue.int64(Long.parseLong(to)));
         } else {
-            LocalDateTime from = LocalDateTime.parse(runContext.render(this.from).as(String.class).orElseThrow(), DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm[:ss][.SSSSSS][XXX]"));
-            LocalDateTime to = LocalDateTime.parse(runContext.render(this.to).as(String.class).orElseThrow(), DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm[:ss][.SSSSSS][XXX]"));
-            return partitions
-                .stream()
-                .filter(s -> !s.equals("__NULL__"))
-                .filter(s ->
-                {
-                    LocalDateTime current = LocalDateTime.parse(
-                        s + ADDED_DATE.get(renderedPartitionType),
-                        DateTimeFormatter.ofPattern("yyyyMMddHHmmss")
-                    );
-
-                    return current.compareTo(from) >= 0 &&
-                        current.compareTo(to) <= 0;
-                })
-                .collect(Collectors.toList());
+            query
+                .addNamedParameter("from", QueryParameterValue.string(LocalDateTime.parse(from, RANGE_FORMAT).format(PARTITION_ID_FORMAT.get(type))))
+                .addNamedParameter("to", QueryParameterValue.string(LocalDateTime.parse(to, RANGE_FORMAT).format(PARTITION_ID_FORMAT.get(type))));
         }
+
+        TableResult result;
+        try {
+            result = connection.query(query.build());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while listing the partitions of table '" + tableId + "'", e);
+        }
+
+        List<PartitionMetadata> partitions = new ArrayList<>();
+        for (FieldValueList row : result.iterateAll()) {
+            FieldValue lastModifiedTime = row.get("last_modified_time");
+
+            partitions.add(PartitionMetadata.builder()
+                .partitionId(row.get("partition_id").getStringValue())
+                .totalRows(row.get("total_rows").isNull() ? null : row.get("total_rows").getLongValue())
+                .totalLogicalBytes(row.get("total_logical_bytes").isNull() ? null : row.get("total_logical_bytes").getLongValue())
+                .lastModifiedTime(lastModifiedTime.isNull() ? null : Instant.EPOCH.plus(lastModifiedTime.getTimestampValue(), ChronoUnit.MICROS))
+                .build()
+            );
+        }
+
+        return partitions;
+    }
+
+    private static Predicate<String> inRange(PartitionType type, String from, String to) {
+        if (type.equals(RANGE)) {
+            int fromRange = Integer.parseInt(from);
+            int toRange = Integer.parseInt(to);
+
+            return s ->
+            {
+                if (s.equals("__NULL__") || s.equals("__UNPARTITIONED__")) {
+                    return false;
+                }
+
+                int current = Integer.parseInt(s);
+
+                return current >= fromRange &&
+                    current <= toRange;
+            };
+        } else {
+            LocalDateTime fromDate = LocalDateTime.parse(from, RANGE_FORMAT);
+            LocalDateTime toDate = LocalDateTime.parse(to, RANGE_FORMAT);
+
+            return s ->
+            {
+                if (s.equals("__NULL__") || s.equals("__UNPARTITIONED__")) {
+                    return false;
+                }
+
+                LocalDateTime current = LocalDateTime.parse(
+                    s + ADDED_DATE.get(type),
+                    DateTimeFormatter.ofPattern("yyyyMMddHHmmss")
+                );
+
+                return current.compareTo(fromDate) >= 0 &&
+                    current.compareTo(toDate) <= 0;
+            };
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String executionId(RunContext runContext) {
+        var execution = (Map<String, Object>) runContext.getVariables().get("execution");
+
+        return execution != null ? (String) execution.get("id") : null;
+    }
+
+    private record CacheKey(String executionId, String table, String range) {}
+
+    private record CachedPartitions(List<PartitionMetadata> partitions, Instant expiresAt) {}
+
+    @Getter
+    @Builder
+    public static class PartitionMetadata {
+        @Schema(
+            title = "Partition ID"
+        )
+        private final String partitionId;
+
+        @Schema(
+            title = "Number of rows",
+            description = "Only listed with the `INFORMATION_SCHEMA` strategy."
+        )
+        private final Long totalRows;
+
+        @Schema(
+            title = "Logical size in bytes",
+            description = "Only listed with the `INFORMATION_SCHEMA` strategy."
+        )
+        private final Long totalLogicalBytes;
+
+        @Schema(
+            title = "Last modified time",
+            description = "Only listed with the `INFORMATION_SCHEMA` strategy."
+        )
+        private final Instant lastModifiedTime;
+    }
+
+    public enum ListingStrategy {
+        PARTITIONS_SUMMARY,
+        INFORMATION_SCHEMA
     }
 
     public enum PartitionType {
@@ -0,0 +1,212 @@
+package io.kestra.plugin.gcp.bigquery;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.*;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+
+import com.google.cloud.bigquery.Field;
+import com.google.cloud.bigquery.FieldValue;
+import com.google.cloud.bigquery.FieldValueList;
+
+import io.kestra.core.serializers.JacksonMapper;
+
+/**
+ * Writes BigQuery rows to an Arrow IPC file, column by column, in record batches of a fixed number of rows.
+ * <p>
+ * Column vectors are derived once from the BigQuery schema. Scalar columns are mapped to their Arrow equivalent,
+ * while `RECORD`, `REPEATED` and `RANGE` columns, as well as `BIGNUMERIC`, are written as JSON or plain strings.
+ */
+final class BigQueryArrowWriter implements AutoCloseable {
+    // NUMERIC is a DECIMAL(38, 9)
+    private static final int NUMERIC_PRECISION = 38;
+    private static final int NUMERIC_SCALE = 9;
+
+    private final BufferAllocator allocator;
+    private final VectorSchemaRoot root;
+    private final FileOutputStream outputStream;
+    private final ArrowFileWriter writer;
+    private final List<ColumnWriter> columns;
+    private final int batchSize;
+
+    private int batchRows = 0;
+    private long rows = 0;
+
+    BigQueryArrowWriter(
+        com.google.cloud.bigquery.Schema schema,
+        File file,
+        int batchSize,
+        BiFunction<Field, FieldValue, Object> converter
+    ) throws IOException {
+        this.batchSize = batchSize;
+        this.allocator = new RootAllocator();
+
+        List<org.apache.arrow.vector.types.pojo.Field> arrowFields = new ArrayList<>();
+        for (Field field : schema.getFields()) {
+            arrowFields.add(org.apache.arrow.vector.types.pojo.Field.nullable(field.getName(), arrowType(field)));
+        }
+
+        this.root = VectorSchemaRoot.create(new org.apache.arrow.vector.types.pojo.Schema(arrowFields), this.allocator);
+
+        this.columns = new ArrayList<>();
+        for (int i = 0; i < schema.getFields().size(); i++) {
+            this.columns.add(columnWriter(schema.getFields().get(i), this.root.getVector(i), converter));
+        }
+
+        this.outputStream = new FileOutputStream(file);
+        this.writer = new ArrowFileWriter(this.root, null, this.outputStream.getChannel());
+        this.writer.start();
+        this.root.allocateNew();
+    }
+
+    void write(FieldValueList values) throws IOException {
+        for (int i = 0; i < this.columns.size(); i++) {
+            FieldValue value = values.get(i);
+
+            // unset slots are null once the row count is set
+            if (!value.isNull()) {
+                this.columns.get(i).write(this.batchRows, value);
+            }
+        }
+
+        this.batchRows++;
+        this.rows++;
+
+        if (this.batchRows == this.batchSize) {
+            this.flush();
+        }
+    }
+
+    long rows() {
+        return this.rows;
+    }
+
+    private void flush() throws IOException {
+        this.root.setRowCount(this.batchRows);
+        this.writer.writeBatch();
+        this.root.allocateNew();
+        this.batchRows = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (this.batchRows > 0) {
+                this.flush();
+            }
+            this.writer.end();
+        } finally {
+            this.writer.close();
+            this.root.close();
+            this.allocator.close();
+            this.outputStream.close();
+        }
+    }
+
+    private static boolean isComplex(Field field) {
+        return field.getMode() == Field.Mode.REPEATED ||
+            field.getType().getStandardType() == com.google.cloud.bigquery.StandardSQLTypeName.STRUCT ||
+            field.getType().getStandardType() == com.google.cloud.bigquery.StandardSQLTypeName.RANGE;
+    }
+
+    private static ArrowType arrowType(Field field) {
+        if (isComplex(field)) {
+            return ArrowType.Utf8.INSTANCE;
+        }
+
+        return switch (field.getType().getStandardType()) {
+            case BOOL -> ArrowType.Bool.INSTANCE;
+            case INT64 -> new ArrowType.Int(64, true);
+            case FLOAT64 -> new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+            case NUMERIC -> new ArrowType.Decimal(NUMERIC_PRECISION, NUMERIC_SCALE, 128);
+            case BYTES -> ArrowType.Binary.INSTANCE;
+            case DATE -> new ArrowType.Date(DateUnit.DAY);
+            case TIME -> new ArrowType.Time(TimeUnit.MICROSECOND, 64);
+            case DATETIME -> new ArrowType.Timestamp(TimeUnit.MICROSECOND, null);
+            case TIMESTAMP -> new ArrowType.Timestamp(TimeUnit.MICROSECOND, "UTC");
+            default -> ArrowType.Utf8.INSTANCE;
+        };
+    }
+
+    private static ColumnWriter columnWriter(Field field, FieldVector vector, BiFunction<Field, FieldValue, Object> converter) {
+        if (isComplex(field)) {
+            VarCharVector varChar = (VarCharVector) vector;
+            return (index, value) -> varChar.setSafe(
+                index,
+                JacksonMapper.ofJson().writeValueAsBytes(converter.apply(field, value))
+            );
+        }
+
+        return switch (field.getType().getStandardType()) {
+            case BOOL -> {
+                BitVector bit = (BitVector) vector;
+                yield (index, value) -> bit.setSafe(index, value.getBooleanValue() ? 1 : 0);
+            }
+            case INT64 -> {
+                BigIntVector bigInt = (BigIntVector) vector;
+                yield (index, value) -> bigInt.setSafe(index, value.getLongValue());
+            }
+            case FLOAT64 -> {
+                Float8Vector float8 = (Float8Vector) vector;
+                yield (index, value) -> float8.setSafe(index, value.getDoubleValue());
+            }
+            case NUMERIC -> {
+                DecimalVector decimal = (DecimalVector) vector;
+                yield (index, value) -> decimal.setSafe(index, value.getNumericValue().setScale(NUMERIC_SCALE, RoundingMode.UNNECESSARY));
+            }
+            case BYTES -> {
+                VarBinaryVector varBinary = (VarBinaryVector) vector;
+                yield (index, value) -> varBinary.setSafe(index, value.getBytesValue());
+            }
+            case DATE -> {
+                DateDayVector dateDay = (DateDayVector) vector;
+                yield (index, value) -> dateDay.setSafe(index, (int) LocalDate.parse(value.getStringValue()).toEpochDay());
+            }
+            case TIME -> {
+                TimeMicroVector timeMicro = (TimeMicroVector) vector;
+                yield (index, value) -> timeMicro.setSafe(index, LocalTime.parse(value.getStringValue()).toNanoOfDay() / 1000);
+            }
+            case DATETIME -> {
+                TimeStampMicroVector timestamp = (TimeStampMicroVector) vector;
+                yield (index, value) -> {
+                    LocalDateTime dateTime = LocalDateTime.parse(value.getStringValue());
+                    timestamp.setSafe(index, dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1000);
+                };
+            }
+            case TIMESTAMP -> {
+                TimeStampMicroTZVector timestamp = (TimeStampMicroTZVector) vector;
+                yield (index, value) -> timestamp.setSafe(index, value.getTimestampValue());
+            }
+            case BIGNUMERIC -> {
+                VarCharVector varChar = (VarCharVector) vector;
+                yield (index, value) -> varChar.setSafe(index, value.getNumericValue().toPlainString().getBytes(StandardCharsets.UTF_8));
+            }
+            default -> {
+                VarCharVector varChar = (VarCharVector) vector;
+                yield (index, value) -> varChar.setSafe(index, value.getStringValue().getBytes(StandardCharsets.UTF_8));
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface ColumnWriter {
+        void write(int index, FieldValue value) throws IOException;
+    }
+}
@@ -0,0 +1,218 @@
+package io.kestra.plugin.gcp.bigquery;
+
+import java.math.BigDecimal;
+import java.time.*;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.cloud.bigquery.storage.v1.BQTableSchemaToProtoDescriptor;
+import com.google.cloud.bigquery.storage.v1.BigDecimalByteStringEncoder;
+import com.google.cloud.bigquery.storage.v1.CivilTimeEncoder;
+import com.google.cloud.bigquery.storage.v1.ProtoSchema;
+import com.google.cloud.bigquery.storage.v1.ProtoSchemaConverter;
+import com.google.cloud.bigquery.storage.v1.TableFieldSchema;
+import com.google.cloud.bigquery.storage.v1.TableSchema;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+
+import io.kestra.core.serializers.JacksonMapper;
+
+/**
+ * Encodes records into serialized protobuf rows for the Storage Write API, directly from the table schema.
+ * <p>
+ * The protobuf descriptor and one value encoder per column are derived once from the {@link TableSchema}, so that
+ * encoding a record only sets its values on a {@link DynamicMessage}, without any JSON intermediate representation.
+ * Column names are matched case-insensitively, as BigQuery does.
+ */
+final class BigQueryProtoRowEncoder {
+    private final MessageEncoder root;
+    private final ProtoSchema protoSchema;
+
+    BigQueryProtoRowEncoder(TableSchema tableSchema) throws Descriptors.DescriptorValidationException {
+        Descriptors.Descriptor descriptor = BQTableSchemaToProtoDescriptor.convertBQTableSchemaToProtoDescriptor(tableSchema);
+
+        this.root = new MessageEncoder(descriptor, tableSchema.getFieldsList());
+        this.protoSchema = ProtoSchemaConverter.convert(descriptor);
+    }
+
+    ProtoSchema protoSchema() {
+        return this.protoSchema;
+    }
+
+    ByteString encode(Object record) {
+        return this.root.encode(asMap(record)).toByteString();
+    }
+
+    private static Map<?, ?> asMap(Object object) {
+        if (!(object instanceof Map<?, ?> map)) {
+            throw new IllegalArgumentException("Unable to map with type '" + object.getClass().getName() + "'");
+        }
+
+        return map;
+    }
+
+    private static final class MessageEncoder {
+        private final Descriptors.Descriptor descriptor;
+        private final Map<String, FieldEncoder> fields;
+
+        private MessageEncoder(Descriptors.Descriptor descriptor, List<TableFieldSchema> schema) {
+            this.descriptor = descriptor;
+            this.fields = HashMap.newHashMap(schema.size());
+
+            // the descriptor fields are numbered after the position of the column in the schema
+            for (int i = 0; i < schema.size(); i++) {
+                TableFieldSchema field = schema.get(i);
+                Descriptors.FieldDescriptor fieldDescriptor = descriptor.findFieldByNumber(i + 1);
+
+                this.fields.put(
+                    field.getName().toLowerCase(Locale.ROOT),
+                    new FieldEncoder(field.getName(), fieldDescriptor, valueEncoder(field, fieldDescriptor))
+                );
+            }
+        }
+
+        private DynamicMessage encode(Map<?, ?> record) {
+            DynamicMessage.Builder builder = DynamicMessage.newBuilder(this.descriptor);
+
+            for (Map.Entry<?, ?> entry : record.entrySet()) {
+                if (entry.getValue() == null) {
+                    continue;
+                }
+
+                FieldEncoder field = this.fields.get(entry.getKey().toString().toLowerCase(Locale.ROOT));
+                if (field == null) {
+                    throw new IllegalArgumentException("Field '" + entry.getKey() + "' doesn't exist in the table schema");
+                }
+
+                field.set(builder, entry.getValue());
+            }
+
+            return builder.build();
+        }
+    }
+
+    private record FieldEncoder(String name, Descriptors.FieldDescriptor descriptor, Function<Object, Object> encoder) {
+        private void set(DynamicMessage.Builder builder, Object value) {
+            try {
+                if (this.descriptor.isRepeated()) {
+                    if (!(value instanceof Collection<?> values)) {
+                        throw new IllegalArgumentException("expected a list, got '" + value.getClass().getName() + "'");
+                    }
+
+                    for (Object item : values) {
+                        if (item != null) {
+                            builder.addRepeatedField(this.descriptor, this.encoder.apply(item));
+                        }
+                    }
+                } else {
+                    builder.setField(this.descriptor, this.encoder.apply(value));
+                }
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid value for field '" + this.name + "': " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private static Function<Object, Object> valueEncoder(TableFieldSchema field, Descriptors.FieldDescriptor descriptor) {
+        boolean asString = descriptor.getJavaType() == Descriptors.FieldDescriptor.JavaType.STRING;
+
+        return switch (field.getType()) {
+            case BOOL -> value -> value instanceof Boolean bool ? bool : Boolean.parseBoolean(value.toString());
+            case INT64 -> value -> value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+            case DOUBLE -> value -> value instanceof Number number ? number.doubleValue() : Double.parseDouble(value.toString());
+            case NUMERIC -> asString ?
+                value -> decimal(value).toPlainString() :
+                value -> BigDecimalByteStringEncoder.encodeToNumericByteString(decimal(value));
+            case BIGNUMERIC -> asString ?
+                value -> decimal(value).toPlainString() :
+                value -> BigDecimalByteStringEncoder.encodeToBigNumericByteString(decimal(value));
+            case BYTES -> value -> switch (value) {
+                case byte[] bytes -> ByteString.copyFrom(bytes);
+                case ByteString bytes -> bytes;
+                default -> ByteString.copyFrom(Base64.getDecoder().decode(value.toString()));
+            };
+            case DATE -> value -> switch (value) {
+                case LocalDate date -> (int) date.toEpochDay();
+                case Number number -> number.intValue();
+                default -> (int) LocalDate.parse(value.toString()).toEpochDay();
+            };
+            case DATETIME -> asString ?
+                value -> localDateTime(value).toString() :
+                value -> {
+                    LocalDateTime dateTime = localDateTime(value);
+                    return CivilTimeEncoder.encodePacked64DatetimeMicros(org.threeten.bp.LocalDateTime.of(
+                        dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(),
+                        dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano()
+                    ));
+                };
+            case TIME -> asString ?
+                value -> localTime(value).toString() :
+                value -> {
+                    LocalTime time = localTime(value);
+                    return CivilTimeEncoder.encodePacked64TimeMicros(org.threeten.bp.LocalTime.of(
+                        time.getHour(), time.getMinute(), time.getSecond(), time.getNano()
+                    ));
+                };
+            case TIMESTAMP -> value -> switch (value) {
+                case Number number -> number.longValue();
+                case Instant instant -> micros(instant);
+                case ZonedDateTime dateTime -> micros(dateTime.toInstant());
+                case OffsetDateTime dateTime -> micros(dateTime.toInstant());
+                default -> micros(Instant.parse(value.toString()));
+            };
+            case STRUCT -> {
+                MessageEncoder nested = new MessageEncoder(descriptor.getMessageType(), field.getFieldsList());
+                yield value -> nested.encode(asMap(value));
+            }
+            case RANGE -> {
+                TableFieldSchema bound = TableFieldSchema.newBuilder()
+                    .setType(field.getRangeElementType().getType())
+                    .setMode(TableFieldSchema.Mode.NULLABLE)
+                    .build();
+
+                MessageEncoder nested = new MessageEncoder(
+                    descriptor.getMessageType(),
+                    List.of(bound.toBuilder().setName("start").build(), bound.toBuilder().setName("end").build())
+                );
+                yield value -> nested.encode(asMap(value));
+            }
+            case JSON -> value -> value instanceof Map<?, ?> || value instanceof Collection<?> ? json(value) : value.toString();
+            default -> value -> value instanceof Enum<?> enumValue ? enumValue.name() : value.toString();
+        };
+    }
+
+    private static BigDecimal decimal(Object value) {
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+
+    private static LocalDateTime localDateTime(Object value) {
+        return value instanceof LocalDateTime dateTime ? dateTime : LocalDateTime.parse(value.toString());
+    }
+
+    private static LocalTime localTime(Object value) {
+        return switch (value) {
+            case LocalTime time -> time;
+            case OffsetTime time -> time.toLocalTime();
+            default -> LocalTime.parse(value.toString());
+        };
+    }
+
+    private static long micros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+
+    private static String json(Object value) {
+        try {
+            return JacksonMapper.ofJson().writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+}
@@ -4,6 +4,9 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -14,6 +17,7 @@ import com.google.cloud.bigquery.BigQuery;
 import com.google.cloud.bigquery.JobInfo;
 import com.google.cloud.bigquery.TableId;
 
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
@@ -25,6 +29,8 @@ import io.kestra.core.runners.RunContext;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 import static io.kestra.core.utils.Rethrow.throwFunction;
 import io.kestra.core.models.annotations.PluginProperty;
@@ -57,10 +63,35 @@ import io.kestra.core.models.annotations.PluginProperty;
                     from: "{{ now() | dateAdd(-30, 'DAYS') }}"
                     to: "{{ now() | dateAdd(-7, 'DAYS') }}"
                 """
+        ),
+        @Example(
+            title = "Backfill three years of daily partitions with one copy job per partition, 8 at a time",
+            full = true,
+            code = """
+                id: gcp_bq_copy_partitions_backfill
+                namespace: company.team
+
+                tasks:
+                  - id: copy_partitions
+                    type: io.kestra.plugin.gcp.bigquery.CopyPartitions
+                    projectId: my-project
+                    dataset: my-dataset
+                    table: my-table
+                    destinationTable: my-project.my-dataset.my-dest-table
+                    partitionType: DAY
+                    from: "{{ now() | dateAdd(-3, 'YEARS') }}"
+                    to: "{{ now() }}"
+                    copyMode: PER_PARTITION
+                    parallelism: 8
+                    writeDisposition: WRITE_TRUNCATE
+                    skipUnchanged: true
+                """
         )
     },
     metrics = {
-        @Metric(name = "size", type = Counter.TYPE, description = "The number of partitions copied.")
+        @Metric(name = "size", type = Counter.TYPE, description = "The number of partitions copied."),
+        @Metric(name = "failed", type = Counter.TYPE, description = "The number of partitions that could not be copied, only with `PER_PARTITION` copy mode."),
+        @Metric(name = "skipped", type = Counter.TYPE, description = "The number of unchanged partitions not copied, only with `PER_PARTITION` copy mode.")
     }
 )
 public class CopyPartitions extends AbstractPartition implements RunnableTask<CopyPartitions.Output>, AbstractJobInterface {
@@ -73,7 +104,8 @@ public class CopyPartitions extends AbstractPartition implements RunnableTask<Co
 
     @Schema(
         title = "Write disposition",
-        description = "BigQuery write disposition applied to the copy job"
+        description = "BigQuery write disposition applied to the copy job. With `PER_PARTITION` copy mode, only `WRITE_TRUNCATE` is " +
+            "accepted and is used when not set."
     )
     protected Property<JobInfo.WriteDisposition> writeDisposition;
 
@@ -112,6 +144,46 @@ public class CopyPartitions extends AbstractPartition implements RunnableTask<Co
     )
     protected Property<Boolean> skipEmpty = Property.ofValue(false);
 
+    @Builder.Default
+    @Schema(
+        title = "Copy mode",
+        description = "`SINGLE_JOB` (default) copies all the partitions with one copy job listing every partition as a source. " +
+            "`PER_PARTITION` copies each partition into the same partition of the destination table with its own copy job, " +
+            "running `parallelism` jobs concurrently; the destination table must already be partitioned the same way. " +
+            "Each job writes with `WRITE_TRUNCATE`, the only `writeDisposition` accepted in this mode, so it only replaces its own " +
+            "partition and the jobs of the partitions that failed can be run again, up to `maxAttempts` times, without duplicating " +
+            "rows or touching the partitions already copied."
+    )
+    @PluginProperty(group = "execution")
+    protected Property<CopyMode> copyMode = Property.ofValue(CopyMode.SINGLE_JOB);
+
+    @Builder.Default
+    @Schema(
+        title = "Number of copy jobs running concurrently",
+        description = "Only used with `PER_PARTITION` copy mode"
+    )
+    @PluginProperty(group = "execution")
+    protected Property<Integer> parallelism = Property.ofValue(4);
+
+    @Builder.Default
+    @Schema(
+        title = "Maximum attempts per partition",
+        description = "Only used with `PER_PARTITION` copy mode: the partitions whose copy job failed are copied again in a new round, " +
+            "until this number of attempts is reached. Retryable BigQuery errors are also retried within each job, see `retryAuto`."
+    )
+    @PluginProperty(group = "reliability")
+    protected Property<Integer> maxAttempts = Property.ofValue(3);
+
+    @Builder.Default
+    @Schema(
+        title = "Skip unchanged partitions",
+        description = "Only used with `PER_PARTITION` copy mode: the partitions of the source and destination tables are listed from " +
+            "`INFORMATION_SCHEMA.PARTITIONS`, whatever the `listingStrategy`, and a partition is not copied again when the destination " +
+            "partition has the same number of rows and was last modified after the source partition."
+    )
+    @PluginProperty(group = "execution")
+    protected Property<Boolean> skipUnchanged = Property.ofValue(false);
+
     @JsonIgnore
     @Getter(AccessLevel.NONE)
     @EqualsAndHashCode.Exclude
@@ -119,14 +191,38 @@ public class CopyPartitions extends AbstractPartition implements RunnableTask<Co
     @Builder.Default
     private final AtomicReference<Copy> copyTask = new AtomicReference<>();
 
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Builder.Default
+    private final Queue<Copy> partitionCopyTasks = new ConcurrentLinkedQueue<>();
+
     @Override
     public CopyPartitions.Output run(RunContext runContext) throws Exception {
+        CopyMode rCopyMode = runContext.render(this.copyMode).as(CopyMode.class).orElse(CopyMode.SINGLE_JOB);
+        boolean rSkipUnchanged = runContext.render(this.skipUnchanged).as(Boolean.class).orElse(false);
+
+        if (rSkipUnchanged && rCopyMode != CopyMode.PER_PARTITION) {
+            throw new IllegalArgumentException("'skipUnchanged' is only supported with the 'PER_PARTITION' copy mode");
+        }
+
+        // a failed partition job is run again, which would duplicate the rows of an appending job applied before its failure
+        var rWriteDisposition = runContext.render(this.writeDisposition).as(JobInfo.WriteDisposition.class);
+        if (rCopyMode == CopyMode.PER_PARTITION && rWriteDisposition.isPresent() && rWriteDisposition.get() != JobInfo.WriteDisposition.WRITE_TRUNCATE) {
+            throw new IllegalArgumentException("'writeDisposition' must be 'WRITE_TRUNCATE' with the 'PER_PARTITION' copy mode, got '" + rWriteDisposition.get() + "'");
+        }
+
         BigQuery connection = this.connection(runContext);
         Logger logger = runContext.logger();
 
         TableId tableId = this.tableId(runContext);
+        TableId destinationTableId = BigQueryService.tableId(runContext.render(this.destinationTable).as(String.class).orElseThrow());
 
-        List<String> partitionToCopy = this.listPartitions(runContext, connection, tableId);
+        List<PartitionMetadata> sourcePartitions = rSkipUnchanged ?
+            this.listPartitionsMetadata(runContext, connection, tableId, ListingStrategy.INFORMATION_SCHEMA) :
+            this.listPartitionsMetadata(runContext, connection, tableId);
+        List<String> partitionToCopy = sourcePartitions.stream().map(PartitionMetadata::getPartitionId).toList();
 
         logger.debug("Copying partitions '{}'", partitionToCopy);
         runContext.metric(Counter.of("size", partitionToCopy.size()));
@@ -139,29 +235,163 @@ public class CopyPartitions extends AbstractPartition implements RunnableTask<Co
             }
         }
 
-        Copy task = Copy.builder()
-            .sourceTables(
-                Property.ofValue(
-                    partitionToCopy
-                        .stream()
-                        .map(throwFunction(s ->
-                        {
-                            TableId current = this.tableId(runContext, s);
-                            List<String> source = new ArrayList<>();
-                            if (current.getProject() != null) {
-                                source.add(current.getProject());
-                            }
-
-                            source.add(current.getDataset());
-                            source.add(current.getTable());
-
-                            return String.join(".", source);
-                        }))
-                        .collect(Collectors.toList())
-                )
-            )
-            .destinationTable(this.destinationTable)
-            .writeDisposition(this.writeDisposition)
+        if (rCopyMode == CopyMode.PER_PARTITION) {
+            List<String> unchanged = rSkipUnchanged ?
+                this.unchangedPartitions(runContext, connection, sourcePartitions, destinationTableId) :
+                List.of();
+
+            try {
+                return this.copyPerPartition(runContext, tableId, partitionToCopy, unchanged);
+            } finally {
+                invalidatePartitions(runContext, destinationTableId);
+            }
+        }
+
+        Copy task = this.copyTask(
+            this.writeDisposition,
+            Property.ofValue(
+                partitionToCopy
+                    .stream()
+                    .map(throwFunction(s -> this.sourceTable(runContext, s)))
+                    .collect(Collectors.toList())
+            ),
+            this.destinationTable
+        );
+
+        this.copyTask.set(task);
+
+        Copy.Output run;
+        try {
+            run = task.run(runContext);
+        } finally {
+            invalidatePartitions(runContext, destinationTableId);
+        }
+
+        return Output.of(tableId, partitionToCopy, run.getJobId());
+    }
+
+    private List<String> unchangedPartitions(RunContext runContext, BigQuery connection, List<PartitionMetadata> sourcePartitions, TableId destinationTableId) throws IllegalVariableEvaluationException {
+        Map<String, PartitionMetadata> destinationPartitions = this.listPartitionsMetadata(runContext, connection, destinationTableId, ListingStrategy.INFORMATION_SCHEMA)
+            .stream()
+            .collect(Collectors.toMap(PartitionMetadata::getPartitionId, partition -> partition));
+
+        return sourcePartitions.stream()
+            .filter(source -> {
+                PartitionMetadata destination = destinationPartitions.get(source.getPartitionId());
+
+                return destination != null &&
+                    source.getTotalRows() != null &&
+                    source.getTotalRows().equals(destination.getTotalRows()) &&
+                    source.getLastModifiedTime() != null &&
+                    destination.getLastModifiedTime() != null &&
+                    !destination.getLastModifiedTime().isBefore(source.getLastModifiedTime());
+            })
+            .map(PartitionMetadata::getPartitionId)
+            .toList();
+    }
+
+    private Output copyPerPartition(RunContext runContext, TableId tableId, List<String> partitions, List<String> unchanged) throws Exception {
+        Logger logger = runContext.logger();
+        int rParallelism = runContext.render(this.parallelism).as(Integer.class).orElse(4);
+        int rMaxAttempts = runContext.render(this.maxAttempts).as(Integer.class).orElse(3);
+        String rDestinationTable = runContext.render(this.destinationTable).as(String.class).orElseThrow();
+
+        Map<String, PartitionCopy> results = new ConcurrentHashMap<>();
+        unchanged.forEach(partition -> results.put(
+            partition,
+            PartitionCopy.builder()
+                .partition(partition)
+                .status(PartitionCopy.Status.SKIPPED)
+                .attempts(0)
+                .build()
+        ));
+
+        if (!unchanged.isEmpty()) {
+            logger.info("Skipping {} unchanged partitions {}", unchanged.size(), unchanged);
+        }
+        runContext.metric(Counter.of("skipped", unchanged.size()));
+
+        List<String> remaining = partitions.stream()
+            .filter(partition -> !results.containsKey(partition))
+            .toList();
+
+        for (int attempt = 1; attempt <= rMaxAttempts && !remaining.isEmpty(); attempt++) {
+            if (attempt > 1) {
+                logger.warn("Retrying the copy of {} failed partitions {}, attempt {}", remaining.size(), remaining, attempt);
+            }
+
+            int currentAttempt = attempt;
+            List<PartitionCopy> round = Flux.fromIterable(remaining)
+                .parallel(rParallelism)
+                .runOn(Schedulers.boundedElastic())
+                .map(throwFunction(partition -> this.copyPartition(runContext, partition, rDestinationTable, currentAttempt)))
+                .sequential()
+                .collectList()
+                .block();
+
+            round.forEach(copy -> results.put(copy.getPartition(), copy));
+            remaining = round.stream()
+                .filter(copy -> copy.getStatus() == PartitionCopy.Status.FAILED)
+                .map(PartitionCopy::getPartition)
+                .sorted()
+                .toList();
+        }
+
+        runContext.metric(Counter.of("failed", remaining.size()));
+
+        if (!remaining.isEmpty()) {
+            PartitionCopy first = results.get(remaining.getFirst());
+            throw new IllegalStateException(
+                remaining.size() + " of " + partitions.size() + " partitions could not be copied after " + rMaxAttempts + " attempts " +
+                    remaining + ", first error on '" + first.getPartition() + "': " + first.getError()
+            );
+        }
+
+        return Output.builder()
+            .projectId(tableId.getProject())
+            .datasetId(tableId.getDataset())
+            .table(tableId.getTable())
+            .partitions(partitions)
+            .partitionCopies(partitions.stream().map(results::get).toList())
+            .build();
+    }
+
+    private PartitionCopy copyPartition(RunContext runContext, String partition, String destinationTable, int attempt) throws Exception {
+        Copy task = this.copyTask(
+            Property.ofValue(JobInfo.WriteDisposition.WRITE_TRUNCATE),
+            Property.ofValue(List.of(this.sourceTable(runContext, partition))),
+            Property.ofValue(destinationTable + "$" + partition)
+        );
+
+        this.partitionCopyTasks.add(task);
+        try {
+            Copy.Output run = task.run(runContext);
+
+            return PartitionCopy.builder()
+                .partition(partition)
+                .status(PartitionCopy.Status.SUCCEEDED)
+                .jobId(run.getJobId())
+                .attempts(attempt)
+                .build();
+        } catch (Exception e) {
+            runContext.logger().warn("Failed to copy partition '{}' on attempt {}: {}", partition, attempt, e.getMessage());
+
+            return PartitionCopy.builder()
+                .partition(partition)
+                .status(PartitionCopy.Status.FAILED)
+                .attempts(attempt)
+                .error(e.getMessage())
+                .build();
+        } finally {
+            this.partitionCopyTasks.remove(task);
+        }
+    }
+
+    private Copy copyTask(Property<JobInfo.WriteDisposition> writeDisposition, Property<List<String>> sourceTables, Property<String> destinationTable) {
+        return Copy.builder()
+            .sourceTables(sourceTables)
+            .destinationTable(destinationTable)
+            .writeDisposition(writeDisposition)
             .createDisposition(this.createDisposition)
             .jobTimeout(this.jobTimeout)
             .labels(this.labels)
@@ -174,12 +404,19 @@ public class CopyPartitions extends AbstractPartition implements RunnableTask<Co
             .serviceAccount(this.serviceAccount)
             .scopes(this.scopes)
             .build();
+    }
 
-        this.copyTask.set(task);
+    private String sourceTable(RunContext runContext, String partition) throws IllegalVariableEvaluationException {
+        TableId current = this.tableId(runContext, partition);
+        List<String> source = new ArrayList<>();
+        if (current.getProject() != null) {
+            source.add(current.getProject());
+        }
 
-        Copy.Output run = task.run(runContext);
+        source.add(current.getDataset());
+        source.add(current.getTable());
 
-        return Output.of(tableId, partitionToCopy, run.getJobId());
+        return String.join(".", source);
     }
 
     @Override
@@ -189,6 +426,8 @@ public class CopyPartitions extends AbstractPartition implements RunnableTask<Co
         if (task != null) {
             task.kill();
         }
+
+        this.partitionCopyTasks.forEach(Copy::kill);
     }
 
     @Override
@@ -198,6 +437,48 @@ public class CopyPartitions extends AbstractPartition implements RunnableTask<Co
         if (task != null) {
             task.stop();
         }
+
+        this.partitionCopyTasks.forEach(Copy::stop);
+    }
+
+    public enum CopyMode {
+        SINGLE_JOB,
+        PER_PARTITION
+    }
+
+    @Getter
+    @Builder
+    public static class PartitionCopy {
+        @Schema(
+            title = "Partition"
+        )
+        private final String partition;
+
+        @Schema(
+            title = "Copy status of the partition"
+        )
+        private final Status status;
+
+        @Schema(
+            title = "Job ID of the last copy job of the partition"
+        )
+        private final String jobId;
+
+        @Schema(
+            title = "Number of copy attempts"
+        )
+        private final Integer attempts;
+
+        @Schema(
+            title = "Error of the last failed attempt"
+        )
+        private final String error;
+
+        public enum Status {
+            SUCCEEDED,
+            SKIPPED,
+            FAILED
+        }
     }
 
     @Getter
@@ -224,10 +505,17 @@ public class CopyPartitions extends AbstractPartition implements RunnableTask<Co
         private final List<String> partitions;
 
         @Schema(
-            title = "Job ID"
+            title = "Job ID",
+            description = "Only populated with `SINGLE_JOB` copy mode."
         )
         private String jobId;
 
+        @Schema(
+            title = "Copy outcome of each partition",
+            description = "Only populated with `PER_PARTITION` copy mode."
+        )
+        private final List<PartitionCopy> partitionCopies;
+
         public static Output of(TableId table, List<String> partitions, String jobId) {
             return Output.builder()
                 .projectId(table.getProject())
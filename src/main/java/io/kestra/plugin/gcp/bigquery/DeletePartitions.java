@@ -1,24 +1,36 @@
 package io.kestra.plugin.gcp.bigquery;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 
 import com.google.cloud.bigquery.BigQuery;
 import com.google.cloud.bigquery.TableId;
 
+import dev.failsafe.Failsafe;
+import dev.failsafe.FailsafeException;
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.retrys.AbstractRetry;
+import io.kestra.core.models.tasks.retrys.Exponential;
 import io.kestra.core.runners.RunContext;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
-import static io.kestra.core.utils.Rethrow.throwConsumer;
+import static io.kestra.core.utils.Rethrow.throwFunction;
 
 @SuperBuilder
 @ToString
@@ -27,7 +39,7 @@ import static io.kestra.core.utils.Rethrow.throwConsumer;
 @NoArgsConstructor
 @Schema(
     title = "Delete BigQuery partitions in a range",
-    description = "Lists partitions in the given date or range interval and deletes them. Fails if any targeted partition is missing."
+    description = "Lists partitions in the given date or range interval and deletes them concurrently, retrying rate limit errors. Fails if any targeted partition is missing or could not be deleted, unless `errorOnFailure` is false."
 )
 @Plugin(
     examples = {
@@ -50,10 +62,27 @@ import static io.kestra.core.utils.Rethrow.throwConsumer;
         )
     },
     metrics = {
-        @Metric(name = "size", type = Counter.TYPE, description = "The number of partitions deleted.")
+        @Metric(name = "size", type = Counter.TYPE, description = "The number of partitions targeted for deletion."),
+        @Metric(name = "failed", type = Counter.TYPE, description = "The number of partitions that could not be deleted or were not found.")
     }
 )
 public class DeletePartitions extends AbstractPartition implements RunnableTask<DeletePartitions.Output> {
+    @Builder.Default
+    @Schema(
+        title = "Number of partitions deleted concurrently"
+    )
+    @PluginProperty(group = "execution")
+    private Property<Integer> concurrency = Property.ofValue(8);
+
+    @Builder.Default
+    @Schema(
+        title = "Error on failure",
+        description = "If true (default), the task fails when at least one partition could not be deleted or was not found, " +
+            "once all the other partitions have been processed; the outcome of each partition is logged in any case."
+    )
+    @PluginProperty(group = "reliability")
+    private Property<Boolean> errorOnFailure = Property.ofValue(true);
+
     @Override
     public DeletePartitions.Output run(RunContext runContext) throws Exception {
         BigQuery connection = this.connection(runContext);
@@ -66,19 +95,124 @@ public class DeletePartitions extends AbstractPartition implements RunnableTask<
         logger.debug("Deleting partitions '{}'", partitionsToDelete);
         runContext.metric(Counter.of("size", partitionsToDelete.size()));
 
-        partitionsToDelete
-            .parallelStream()
-            .forEach(throwConsumer(s ->
-            {
-                TableId currentPartition = this.tableId(runContext, s);
-                boolean delete = connection.delete(currentPartition);
+        Map<String, PartitionDelete> results = Flux.fromIterable(partitionsToDelete)
+            .parallel(runContext.render(this.concurrency).as(Integer.class).orElse(8))
+            .runOn(Schedulers.boundedElastic())
+            .map(throwFunction(partition -> this.delete(runContext, connection, partition)))
+            .sequential()
+            .collectMap(PartitionDelete::getPartition)
+            .block();
+
+        invalidatePartitions(runContext, tableId);
+
+        List<PartitionDelete> partitionDeletes = partitionsToDelete.stream().map(results::get).toList();
+        List<PartitionDelete> failures = partitionDeletes.stream()
+            .filter(delete -> delete.getStatus() != PartitionDelete.Status.DELETED)
+            .toList();
+
+        runContext.metric(Counter.of("failed", failures.size()));
+
+        if (!failures.isEmpty()) {
+            failures.forEach(failure -> logger.warn("Partition '{}' {}: {}", failure.getPartition(), failure.getStatus(), failure.getError()));
+
+            if (runContext.render(this.errorOnFailure).as(Boolean.class).orElse(true)) {
+                PartitionDelete first = failures.getFirst();
+                throw new IllegalStateException(
+                    failures.size() + " of " + partitionsToDelete.size() + " partitions could not be deleted, " +
+                        "first error on '" + tableId + "$" + first.getPartition() + "': " + first.getError()
+                );
+            }
+        }
+
+        return Output.of(tableId, partitionDeletes);
+    }
 
-                if (!delete) {
-                    throw new Exception("Couldn't find partition '" + tableId + "$" + s + "'");
+    PartitionDelete delete(RunContext runContext, BigQuery connection, String partition) throws IllegalVariableEvaluationException {
+        Logger logger = runContext.logger();
+        TableId currentPartition = this.tableId(runContext, partition);
+
+        // the per-table rate limit clears quickly, hence a shorter default backoff than the one of the jobs
+        var retryConfig = this.getRetryAuto() != null ? this.getRetryAuto() : Exponential.builder()
+            .type("exponential")
+            .interval(Duration.ofSeconds(1))
+            .maxInterval(Duration.ofMinutes(1))
+            .maxDuration(Duration.ofMinutes(15))
+            .maxAttempts(10)
+            .build();
+        AtomicBoolean reachedServer = new AtomicBoolean(false);
+
+        try {
+            // partition deletions are table metadata updates, rate limited per table: rateLimitExceeded is retried with backoff
+            boolean deleted = Failsafe.with(
+                AbstractRetry.<Boolean>retryPolicy(retryConfig)
+                    .handleIf(throwable -> this.shouldRetry(throwable, logger, runContext))
+                    .onRetry(event -> logger.debug(
+                        "Retrying deletion of partition '{}', attempts {} elapsed {} seconds",
+                        partition,
+                        event.getAttemptCount(),
+                        event.getElapsedTime().getSeconds()
+                    ))
+                    .build()
+            ).get(() -> {
+                try {
+                    // a retried attempt finds no partition when a failed one was applied server-side before its response
+                    // was lost, which can't be the case of the attempts rejected by the rate limit
+                    return connection.delete(currentPartition) || reachedServer.get();
+                } catch (com.google.cloud.bigquery.BigQueryException e) {
+                    BigQueryException failure = withErrors(e);
+                    if (!rateLimited(failure)) {
+                        reachedServer.set(true);
+                    }
+
+                    throw failure;
                 }
-            }));
+            });
 
-        return Output.of(tableId, partitionsToDelete);
+            return PartitionDelete.builder()
+                .partition(partition)
+                .status(deleted ? PartitionDelete.Status.DELETED : PartitionDelete.Status.NOT_FOUND)
+                .error(deleted ? null : "Couldn't find partition '" + currentPartition.getTable() + "'")
+                .build();
+        } catch (RuntimeException e) {
+            // the checked BigQueryException of the last attempt is wrapped by Failsafe
+            Throwable cause = e instanceof FailsafeException && e.getCause() != null ? e.getCause() : e;
+
+            return PartitionDelete.builder()
+                .partition(partition)
+                .status(PartitionDelete.Status.FAILED)
+                .error(cause.getMessage())
+                .build();
+        }
+    }
+
+    private static boolean rateLimited(BigQueryException failure) {
+        return !failure.getErrors().isEmpty() &&
+            failure.getErrors().stream().allMatch(error -> "rateLimitExceeded".equals(error.getReason()));
+    }
+
+    @Getter
+    @Builder
+    public static class PartitionDelete {
+        @Schema(
+            title = "Partition"
+        )
+        private final String partition;
+
+        @Schema(
+            title = "Deletion status of the partition"
+        )
+        private final Status status;
+
+        @Schema(
+            title = "Error, if the partition was not deleted"
+        )
+        private final String error;
+
+        public enum Status {
+            DELETED,
+            NOT_FOUND,
+            FAILED
+        }
     }
 
     @Getter
@@ -100,16 +234,27 @@ public class DeletePartitions extends AbstractPartition implements RunnableTask<
         private final String table;
 
         @Schema(
-            title = "Partitions deleted"
+            title = "Partitions deleted",
+            description = "Only the partitions with a `DELETED` outcome; see `partitionDeletes` for the other ones."
         )
         private final List<String> partitions;
 
-        public static Output of(TableId table, List<String> partitions) {
+        @Schema(
+            title = "Deletion outcome of each partition"
+        )
+        private final List<PartitionDelete> partitionDeletes;
+
+        public static Output of(TableId table, List<PartitionDelete> partitionDeletes) {
             return Output.builder()
                 .projectId(table.getProject())
                 .datasetId(table.getDataset())
                 .table(table.getTable())
-                .partitions(partitions)
+                .partitions(partitionDeletes.stream()
+                    .filter(delete -> delete.getStatus() == PartitionDelete.Status.DELETED)
+                    .map(PartitionDelete::getPartition)
+                    .toList()
+                )
+                .partitionDeletes(partitionDeletes)
                 .build();
         }
     }
@@ -1,10 +1,13 @@
 package io.kestra.plugin.gcp.bigquery;
 
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.*;
 import java.net.URI;
 import java.nio.ByteBuffer;
-import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import org.slf4j.Logger;
 
@@ -27,6 +30,11 @@ import io.kestra.core.serializers.JacksonMapper;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import static io.kestra.core.utils.Rethrow.throwFunction;
 
 @SuperBuilder
 @ToString
@@ -51,6 +59,30 @@ import lombok.experimental.SuperBuilder;
                     csvOptions:
                       fieldDelimiter: ";"
                 """
+        ),
+        @Example(
+            title = "Load the files produced by a ForEach in a single gzip-compressed load job",
+            full = true,
+            code = """
+                id: gcp_bq_load_files
+                namespace: company.team
+
+                tasks:
+                  - id: each
+                    type: io.kestra.plugin.core.flow.ForEach
+                    values: ["2024-01-01", "2024-01-02", "2024-01-03"]
+                    tasks:
+                      - id: extract
+                        type: io.kestra.plugin.core.http.Download
+                        uri: "https://example.com/export/{{ taskrun.value }}.json"
+
+                  - id: load
+                    type: io.kestra.plugin.gcp.bigquery.Load
+                    fromFiles: "{{ outputs.extract | jq('.[].uri') }}"
+                    destinationTable: "my-project.my_dataset.my_table"
+                    format: JSON
+                    gzip: true
+                """
         )
     },
     metrics = {
@@ -64,9 +96,11 @@ import lombok.experimental.SuperBuilder;
 )
 @Schema(
     title = "Load an internal file into BigQuery",
-    description = "Streams a file from Kestra internal storage to a BigQuery load job. Fails on empty files by default (`failedOnEmpty` true)."
+    description = "Streams one or more files from Kestra internal storage to a single BigQuery load job. Fails on empty files by default (`failedOnEmpty` true)."
 )
 public class Load extends AbstractLoad implements RunnableTask<AbstractLoad.Output> {
+    private static final int COPY_BUFFER_SIZE = 1024 * 1024;
+
     @Schema(
         title = "Source file URI",
         description = "Kestra internal storage URI for the file to load"
@@ -74,6 +108,39 @@ public class Load extends AbstractLoad implements RunnableTask<AbstractLoad.Outp
     @PluginProperty(internalStorageURI = true, group = "source")
     private Property<String> from;
 
+    @Schema(
+        title = "Source file URIs",
+        description = "Kestra internal storage URIs of several files to load in a single load job, after `from` if both are set. " +
+            "The files are concatenated in order, so this is only supported with `CSV` and `JSON` formats; with `csvOptions.skipLeadingRows`, " +
+            "the leading rows of every file are skipped. Files are read from the internal storage, and compressed if `gzip` is enabled, " +
+            "`concurrency` at a time while the previous ones are uploaded."
+    )
+    @PluginProperty(internalStorageURI = true, group = "source")
+    private Property<List<String>> fromFiles;
+
+    @Schema(
+        title = "Compress the data with gzip before uploading it",
+        description = "Only supported with `CSV` and `JSON` formats; reduces the uploaded size of text files, at the cost of CPU on the worker."
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Boolean> gzip = Property.ofValue(false);
+
+    @Schema(
+        title = "Upload chunk size in bytes",
+        description = "Size of each request of the resumable upload, must be a multiple of 256 KiB; uses the client default (15 MiB) if not set."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Integer> chunkSize;
+
+    @Schema(
+        title = "Number of source files prepared concurrently",
+        description = "Only used with several source files or `gzip`."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> concurrency = Property.ofValue(4);
+
     @Schema(
         title = "Fail on empty file",
         description = "If true (default), raises an error when the input file has zero bytes"
@@ -95,34 +162,135 @@ public class Load extends AbstractLoad implements RunnableTask<AbstractLoad.Outp
         WriteChannelConfiguration configuration = builder.build();
         logger.debug("Starting load\n{}", JacksonMapper.log(configuration));
 
-        URI from = new URI(runContext.render(this.from).as(String.class).orElse(null));
-        try (InputStream data = runContext.storage().getFile(from)) {
-            long byteWritten = 0L;
+        List<URI> sources = new ArrayList<>();
+        var rFrom = runContext.render(this.from).as(String.class);
+        if (rFrom.isPresent()) {
+            sources.add(new URI(rFrom.get()));
+        }
+        for (String file : runContext.render(this.fromFiles).asList(String.class)) {
+            sources.add(new URI(file));
+        }
 
-            TableDataWriteChannel writer = connection.writer(configuration);
-            try (OutputStream stream = Channels.newOutputStream(writer)) {
-                byte[] buffer = new byte[10_240];
+        if (sources.isEmpty()) {
+            throw new IllegalArgumentException("No source file, `from` or `fromFiles` must be set");
+        }
+
+        boolean rGzip = runContext.render(this.gzip).as(Boolean.class).orElse(false);
+        if ((sources.size() > 1 || rGzip) && this.getFormat() != Format.CSV && this.getFormat() != Format.JSON) {
+            throw new IllegalArgumentException("Loading several files or gzip compression is only supported with CSV or JSON format, got " + this.getFormat());
+        }
+
+        long byteWritten;
+        TableDataWriteChannel writer = connection.writer(configuration);
 
-                int limit;
-                while ((limit = data.read(buffer)) >= 0) {
-                    writer.write(ByteBuffer.wrap(buffer, 0, limit));
-                    byteWritten += limit;
+        var rChunkSize = runContext.render(this.chunkSize).as(Integer.class);
+        if (rChunkSize.isPresent()) {
+            writer.setChunkSize(rChunkSize.get());
+        }
+
+        try (writer) {
+            if (sources.size() == 1 && !rGzip) {
+                try (InputStream data = runContext.storage().getFile(sources.getFirst())) {
+                    byteWritten = write(data, writer);
                 }
+            } else {
+                long skipLines = this.getFormat() == Format.CSV && this.getCsvOptions() != null ?
+                    runContext.render(this.getCsvOptions().getSkipLeadingRows()).as(Long.class).orElse(0L) :
+                    0L;
+
+                logger.debug("Loading {} files in a single job", sources.size());
+
+                // prepare the next files while the current one is uploaded, but upload them in order
+                byteWritten = Flux.fromIterable(sources)
+                    .index()
+                    .flatMapSequential(
+                        source -> Mono
+                            .fromCallable(() -> this.stage(runContext, source.getT2(), source.getT1() > 0 ? skipLines : 0L, rGzip))
+                            .subscribeOn(Schedulers.boundedElastic()),
+                        runContext.render(this.concurrency).as(Integer.class).orElse(4)
+                    )
+                    .map(throwFunction(staged -> {
+                        try (InputStream data = Files.newInputStream(staged.path())) {
+                            write(data, writer);
+                        } finally {
+                            Files.deleteIfExists(staged.path());
+                        }
+
+                        return staged.bytes();
+                    }))
+                    .reduce(0L, Long::sum)
+                    .block();
             }
+        }
 
-            if (byteWritten == 0) {
-                if (runContext.render(failedOnEmpty).as(Boolean.class).orElseThrow()) {
-                    throw new Exception("Can't load an empty file and this one don't contain any data");
-                }
+        if (byteWritten == 0) {
+            if (runContext.render(failedOnEmpty).as(Boolean.class).orElseThrow()) {
+                throw new Exception("Can't load an empty file and this one don't contain any data");
+            }
+
+            return Output.builder()
+                .rows(0L)
+                .build();
+        }
+
+        Job job = this.waitForJob(logger, writer::getJob, runContext, connection);
 
-                return Output.builder()
-                    .rows(0L)
-                    .build();
+        return this.outputs(runContext, configuration, job);
+    }
+
+    private static long write(InputStream data, TableDataWriteChannel writer) throws IOException {
+        long byteWritten = 0L;
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+
+        int limit;
+        while ((limit = data.read(buffer)) >= 0) {
+            writer.write(ByteBuffer.wrap(buffer, 0, limit));
+            byteWritten += limit;
+        }
+
+        return byteWritten;
+    }
+
+    /**
+     * Copies a source file to a local file, skipping its leading lines, terminating its last line and compressing it if needed.
+     * Concatenated gzip members are still a valid gzip stream for BigQuery.
+     */
+    private StagedFile stage(RunContext runContext, URI source, long skipLines, boolean gzip) throws IOException {
+        Path path = runContext.workingDir().createTempFile(gzip ? ".gz" : ".tmp");
+
+        try (
+            InputStream data = new BufferedInputStream(runContext.storage().getFile(source), COPY_BUFFER_SIZE);
+            OutputStream fileStream = new BufferedOutputStream(Files.newOutputStream(path), COPY_BUFFER_SIZE);
+            OutputStream output = gzip ? new GZIPOutputStream(fileStream, COPY_BUFFER_SIZE) : fileStream
+        ) {
+            for (long line = 0; line < skipLines; line++) {
+                int read;
+                do {
+                    read = data.read();
+                } while (read != -1 && read != '\n');
             }
 
-            Job job = this.waitForJob(logger, writer::getJob, runContext, connection);
+            long bytes = 0L;
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            byte last = '\n';
+
+            int limit;
+            while ((limit = data.read(buffer)) >= 0) {
+                if (limit > 0) {
+                    output.write(buffer, 0, limit);
+                    bytes += limit;
+                    last = buffer[limit - 1];
+                }
+            }
 
-            return this.outputs(runContext, configuration, job);
+            // make sure that the first line of the next file doesn't end up on the last line of this one
+            if (last != '\n') {
+                output.write('\n');
+            }
+
+            return new StagedFile(path, bytes);
         }
     }
+
+    private record StagedFile(Path path, long bytes) {}
 }
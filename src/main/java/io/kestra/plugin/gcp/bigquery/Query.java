@@ -7,6 +7,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -23,7 +24,6 @@ import dev.failsafe.Failsafe;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.models.tasks.retrys.AbstractRetry;
-import io.kestra.core.models.tasks.retrys.Exponential;
 import io.kestra.core.serializers.JacksonMapper;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
@@ -170,7 +170,13 @@ public class Query extends AbstractJob implements RunnableTask<Query.Output>, Qu
 
     // private List<String> positionalParameters;
 
-    // private Map<String, String> namedParameters;
+    @Schema(
+        title = "Named query parameters",
+        description = "Values bound to the `@name` parameters of a standard SQL query. The type of each parameter is inferred from its value: " +
+            "strings are bound as `STRING`, integers as `INT64`, decimals as `FLOAT64` and booleans as `BOOL`; use `CAST` in the query for other types."
+    )
+    @PluginProperty(group = "processing")
+    private Property<Map<String, Object>> namedParameters;
 
     @Schema(
         title = "The clustering specification for the destination table"
@@ -299,13 +305,58 @@ public class Query extends AbstractJob implements RunnableTask<Query.Output>, Qu
     @PluginProperty(group = "processing")
     private Property<Long> maxResults;
 
+    @Builder.Default
+    @Schema(
+        title = "File format of the stored result",
+        description = "Only used when `fetchType` is `STORE`. `ION` (default) writes one Ion record per row, readable by every Kestra task. " +
+            "`ARROW` writes an Arrow IPC file directly from the result schema, in record batches of `storeBatchSize` rows, " +
+            "which can be read without parsing by Python (pyarrow, pandas, polars) or DuckDB. " +
+            "With `ARROW`, `RECORD`, `REPEATED` and `RANGE` columns are written as JSON strings and `BIGNUMERIC` as strings."
+    )
+    @PluginProperty(group = "processing")
+    private Property<StoreFormat> storeFormat = Property.ofValue(StoreFormat.ION);
+
+    @Builder.Default
+    @Schema(
+        title = "Number of rows per record batch when `storeFormat` is `ARROW`"
+    )
+    @PluginProperty(group = "processing")
+    private Property<Integer> storeBatchSize = Property.ofValue(10_000);
+
+    @Builder.Default
+    @Schema(
+        title = "Job creation mode",
+        description = "`JOB_CREATION_REQUIRED` (default) always creates a query job, waits for it and then reads its results. " +
+            "`JOB_CREATION_OPTIONAL` sends the query through the jobs.query API: short queries are answered inline in a single round trip " +
+            "without creating a job, which removes most of the latency of small lookup or polling queries. " +
+            "BigQuery still creates a job when the query can't be answered inline (long running queries, `destinationTable`, large results); " +
+            "job statistics metrics and `destinationTable` output are only available in that case, and the output `queryId` is set otherwise. " +
+            "As the query is sent again when a transient error is retried, only a single `SELECT` statement without `destinationTable` uses this mode; " +
+            "DML, DDL and scripts always create a job. Ignored for `dryRun` queries."
+    )
+    @PluginProperty(group = "execution")
+    private Property<QueryJobConfiguration.JobCreationMode> jobCreationMode = Property.ofValue(QueryJobConfiguration.JobCreationMode.JOB_CREATION_REQUIRED);
+
     @Override
     public Query.Output run(RunContext runContext) throws Exception {
-        BigQuery connection = this.connection(runContext);
-        Logger logger = runContext.logger();
+        FetchType fetchTypeRendered = this.computeFetchType(runContext);
+        boolean rDryRun = runContext.render(this.dryRun).as(Boolean.class).orElse(false);
+        var rJobCreationMode = runContext.render(this.jobCreationMode).as(QueryJobConfiguration.JobCreationMode.class)
+            .orElse(QueryJobConfiguration.JobCreationMode.JOB_CREATION_REQUIRED);
 
+        Logger logger = runContext.logger();
         QueryJobConfiguration jobConfiguration = this.jobConfiguration(runContext);
 
+        if (rJobCreationMode == QueryJobConfiguration.JobCreationMode.JOB_CREATION_OPTIONAL && !rDryRun) {
+            if (jobConfiguration.getDestinationTable() == null && isSingleSelect(jobConfiguration.getQuery())) {
+                return this.runStateless(runContext, jobConfiguration, fetchTypeRendered);
+            }
+
+            logger.debug("Query isn't a single SELECT statement, creating a job so that a retry can't run it twice");
+        }
+
+        BigQuery connection = this.connection(runContext);
+
         logger.debug("Starting query: {}", jobConfiguration.getQuery());
 
         Job queryJob = this.waitForJob(
@@ -329,95 +380,173 @@ public class Query extends AbstractJob implements RunnableTask<Query.Output>, Qu
             logger.debug("Query loaded in: {}", tableIdentity.getDataset() + "." + tableIdentity.getTable());
         }
 
-        FetchType fetchTypeRendered = this.computeFetchType(runContext);
-
         this.metrics(runContext, queryJobStatistics, queryJob, fetchTypeRendered);
 
         Output.OutputBuilder output = Output.builder()
-            .jobId(queryJob.getJobId().getJob());
+            .jobId(queryJob.getJobId().getJob())
+            .referencedTables(referencedTables(queryJobStatistics));
 
         if (!FetchType.NONE.equals(fetchTypeRendered)) {
-            var retryConfig = this.getRetryAuto() != null ? this.getRetryAuto() : Exponential.builder()
-                .type("exponential")
-                .interval(Duration.ofSeconds(5))
-                .maxInterval(Duration.ofMinutes(60))
-                .maxDuration(Duration.ofMinutes(15))
-                .maxAttempts(10)
-                .build();
-
-            TableResult result = Failsafe.with(
-                AbstractRetry.<TableResult>retryPolicy(retryConfig)
-                    .handleIf(throwable -> this.shouldRetry(throwable, logger, runContext))
-                    .onFailure(event -> logger.error(
-                        "Stop retry fetching query results, attempts {} elapsed {} seconds",
-                        event.getAttemptCount(),
-                        event.getElapsedTime().getSeconds(),
-                        event.getException()
-                    ))
-                    .onRetry(event -> logger.warn(
-                        "Retrying fetching query results, attempts {} elapsed {} seconds",
-                        event.getAttemptCount(),
-                        event.getElapsedTime().getSeconds()
-                    ))
-                    .build()
-            ).get(() -> {
-                try {
-                    return queryJob.getQueryResults();
-                } catch (com.google.cloud.bigquery.BigQueryException e) {
-                    List<BigQueryError> errors = e.getErrors();
-                    if (errors == null || errors.isEmpty()) {
-                        String reason = e.getReason();
-                        if (reason == null) {
-                            reason = switch (e.getCode()) {
-                                case 503 -> "backendError";
-                                case 500 -> "internalError";
-                                case 429 -> "rateLimitExceeded";
-                                default -> "unknown";
-                            };
-                        }
-                        errors = List.of(new BigQueryError(reason, e.getLocation(), e.getMessage()));
-                    }
-                    throw new BigQueryException(errors);
-                }
-            });
+            TableResult result = this.queryResults(logger, runContext, queryJob::getQueryResults);
 
-            String[] tags = this.tags(queryJobStatistics, queryJob, fetchTypeRendered);
+            this.fetchOrStore(runContext, result, fetchTypeRendered, this.tags(queryJobStatistics, queryJob, fetchTypeRendered), output);
+        }
 
-            runContext.metric(Counter.of("total.rows", result.getTotalRows(), tags));
+        if (tableIdentity != null) {
+            DestinationTable destinationTable = new DestinationTable(tableIdentity.getProject(), tableIdentity.getDataset(), tableIdentity.getTable());
+            output.destinationTable(destinationTable);
+        }
 
-            if (FetchType.STORE.equals(fetchTypeRendered)) {
-                Map.Entry<URI, Long> store = this.storeResult(result, runContext);
+        return output.build();
+    }
 
-                runContext.metric(Counter.of("fetch.rows", store.getValue(), tags));
-                output
-                    .uri(store.getKey())
-                    .size(store.getValue());
+    /**
+     * Without a job, nothing identifies a query that was already run when its submission is retried: only read-only
+     * queries, a single SELECT statement, are sent again safely.
+     */
+    private Query.Output runStateless(RunContext runContext, QueryJobConfiguration jobConfiguration, FetchType fetchTypeRendered) throws Exception {
+        BigQuery connection = this.connection(runContext, QueryJobConfiguration.JobCreationMode.JOB_CREATION_OPTIONAL);
+        Logger logger = runContext.logger();
 
-            } else {
-                List<Map<String, Object>> fetch = this.fetchResult(result);
+        logger.debug("Starting query with optional job creation: {}", jobConfiguration.getQuery());
 
-                if (result.getTotalRows() > fetch.size()) {
-                    throw new IllegalStateException("Invalid fetch rows, got " + fetch.size() + ", expected " + result.getTotalRows());
-                }
+        Instant start = Instant.now();
+        TableResult result = this.queryResults(logger, runContext, () -> connection.query(jobConfiguration));
 
-                runContext.metric(Counter.of("fetch.rows", fetch.size(), tags));
-                output.size((long) fetch.size());
+        Output.OutputBuilder output = Output.builder()
+            .queryId(result.getQueryId());
+
+        String[] tags;
+        if (result.getJobId() != null) {
+            // BigQuery decided to create a job, so its statistics are available as usual
+            Job queryJob = connection.getJob(result.getJobId());
+            JobStatistics.QueryStatistics queryJobStatistics = queryJob.getStatistics();
+            TableId tableIdentity = queryJob.<QueryJobConfiguration>getConfiguration().getDestinationTable();
+
+            this.metrics(runContext, queryJobStatistics, queryJob, fetchTypeRendered);
+            tags = this.tags(queryJobStatistics, queryJob, fetchTypeRendered);
+
+            output.jobId(result.getJobId().getJob());
+            output.referencedTables(referencedTables(queryJobStatistics));
+            if (tableIdentity != null) {
+                output.destinationTable(new DestinationTable(tableIdentity.getProject(), tableIdentity.getDataset(), tableIdentity.getTable()));
+            }
+        } else {
+            tags = this.statelessTags(connection, fetchTypeRendered);
+
+            runContext.metric(Timer.of("duration", Duration.between(start, Instant.now()), tags));
+            logger.debug("Query '{}' answered inline without job creation", result.getQueryId());
+        }
+
+        if (!FetchType.NONE.equals(fetchTypeRendered)) {
+            this.fetchOrStore(runContext, result, fetchTypeRendered, tags, output);
+        }
 
-                if (FetchType.FETCH.equals(fetchTypeRendered)) {
-                    output.rows(fetch);
-                } else {
-                    output.row(fetch.size() > 0 ? fetch.get(0) : ImmutableMap.of());
+        return output.build();
+    }
+
+    /**
+     * Whether the SQL is a single SELECT statement, optionally starting with a WITH clause, ignoring comments and the
+     * content of string literals and quoted identifiers.
+     */
+    static boolean isSingleSelect(String sql) {
+        StringBuilder code = new StringBuilder();
+
+        int i = 0;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+
+            if ((c == '\'' || c == '"') && sql.startsWith(String.valueOf(c).repeat(3), i)) {
+                String quotes = String.valueOf(c).repeat(3);
+                int end = sql.indexOf(quotes, i + 3);
+                i = end < 0 ? sql.length() : end + 3;
+                code.append(' ');
+            } else if (c == '\'' || c == '"' || c == '`') {
+                // literals and quoted identifiers are replaced by a blank, escaped quotes included
+                i++;
+                while (i < sql.length() && sql.charAt(i) != c) {
+                    i += sql.charAt(i) == '\\' ? 2 : 1;
                 }
+                i++;
+                code.append(' ');
+            } else if (c == '#' || (c == '-' && sql.startsWith("--", i))) {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? sql.length() : end;
+            } else if (c == '/' && sql.startsWith("/*", i)) {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? sql.length() : end + 2;
+                code.append(' ');
+            } else {
+                code.append(c);
+                i++;
             }
         }
 
+        String statement = code.toString().strip();
+        while (statement.endsWith(";")) {
+            statement = statement.substring(0, statement.length() - 1).strip();
+        }
 
-        if (tableIdentity != null) {
-            DestinationTable destinationTable = new DestinationTable(tableIdentity.getProject(), tableIdentity.getDataset(), tableIdentity.getTable());
-            output.destinationTable(destinationTable);
+        if (statement.contains(";")) {
+            return false;
         }
 
-        return output.build();
+        String upper = statement.toUpperCase(Locale.ROOT);
+        return upper.startsWith("(") || upper.matches("^(SELECT|WITH)\\b[\\s\\S]*");
+    }
+
+    private TableResult queryResults(Logger logger, RunContext runContext, Callable<TableResult> results) {
+        return Failsafe.with(
+            AbstractRetry.<TableResult>retryPolicy(this.retryAutoOrDefault())
+                .handleIf(throwable -> this.shouldRetry(throwable, logger, runContext))
+                .onFailure(event -> logger.error(
+                    "Stop retry fetching query results, attempts {} elapsed {} seconds",
+                    event.getAttemptCount(),
+                    event.getElapsedTime().getSeconds(),
+                    event.getException()
+                ))
+                .onRetry(event -> logger.warn(
+                    "Retrying fetching query results, attempts {} elapsed {} seconds",
+                    event.getAttemptCount(),
+                    event.getElapsedTime().getSeconds()
+                ))
+                .build()
+        ).get(() -> {
+            try {
+                return results.call();
+            } catch (com.google.cloud.bigquery.BigQueryException e) {
+                throw withErrors(e);
+            }
+        });
+    }
+
+    private void fetchOrStore(RunContext runContext, TableResult result, FetchType fetchTypeRendered, String[] tags, Output.OutputBuilder output) throws IOException, IllegalVariableEvaluationException {
+        runContext.metric(Counter.of("total.rows", result.getTotalRows(), tags));
+
+        if (FetchType.STORE.equals(fetchTypeRendered)) {
+            Map.Entry<URI, Long> store = this.storeResult(result, runContext);
+
+            runContext.metric(Counter.of("fetch.rows", store.getValue(), tags));
+            output
+                .uri(store.getKey())
+                .size(store.getValue());
+
+        } else {
+            List<Map<String, Object>> fetch = this.fetchResult(result);
+
+            if (result.getTotalRows() > fetch.size()) {
+                throw new IllegalStateException("Invalid fetch rows, got " + fetch.size() + ", expected " + result.getTotalRows());
+            }
+
+            runContext.metric(Counter.of("fetch.rows", fetch.size(), tags));
+            output.size((long) fetch.size());
+
+            if (FetchType.FETCH.equals(fetchTypeRendered)) {
+                output.rows(fetch);
+            } else {
+                output.row(fetch.size() > 0 ? fetch.get(0) : ImmutableMap.of());
+            }
+        }
     }
 
     protected QueryJobConfiguration jobConfiguration(RunContext runContext) throws IllegalVariableEvaluationException {
@@ -513,6 +642,9 @@ public class Query extends AbstractJob implements RunnableTask<Query.Output>, Qu
             builder.setFlattenResults(runContext.render(this.flattenResults).as(Boolean.class).orElseThrow());
         }
 
+        runContext.render(this.namedParameters).asMap(String.class, Object.class)
+            .forEach((name, value) -> builder.addNamedParameter(name, queryParameter(name, value)));
+
         Map<String, String> finalLabels = new HashMap<>(BigQueryService.labels(runContext));
         var renderedLabels = runContext.render(this.labels).asMap(String.class, String.class);
         if (!renderedLabels.isEmpty()) {
@@ -523,6 +655,30 @@ public class Query extends AbstractJob implements RunnableTask<Query.Output>, Qu
         return builder.build();
     }
 
+    static QueryParameterValue queryParameter(String name, Object value) {
+        return switch (value) {
+            case QueryParameterValue parameter -> parameter;
+            case String string -> QueryParameterValue.string(string);
+            case Integer number -> QueryParameterValue.int64(number);
+            case Long number -> QueryParameterValue.int64(number);
+            case Double number -> QueryParameterValue.float64(number);
+            case Float number -> QueryParameterValue.float64(number);
+            case java.math.BigDecimal number -> QueryParameterValue.bigNumeric(number);
+            case Boolean bool -> QueryParameterValue.bool(bool);
+            case Instant instant -> QueryParameterValue.timestamp(instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000);
+            case LocalDate date -> QueryParameterValue.date(date.toString());
+            case null -> throw new IllegalArgumentException("Missing value for query parameter '" + name + "'");
+            default -> throw new IllegalArgumentException(
+                "Unsupported type '" + value.getClass().getName() + "' for query parameter '" + name + "'"
+            );
+        };
+    }
+
+    public enum StoreFormat {
+        ION,
+        ARROW
+    }
+
     @Builder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
@@ -531,6 +687,12 @@ public class Query extends AbstractJob implements RunnableTask<Query.Output>, Qu
         )
         private String jobId;
 
+        @Schema(
+            title = "The query id",
+            description = "Only populated when `jobCreationMode` is `JOB_CREATION_OPTIONAL`; identifies the query when no job was created."
+        )
+        private String queryId;
+
         @Schema(
             title = "List containing the fetched data",
             description = "Only populated if `fetchType` is `FETCH`."
@@ -558,6 +720,23 @@ public class Query extends AbstractJob implements RunnableTask<Query.Output>, Qu
             title = "The destination table (if one) or the temporary table created automatically "
         )
         private DestinationTable destinationTable;
+
+        @Schema(
+            title = "The tables referenced by the query",
+            description = "Only populated when a query job was created."
+        )
+        private List<String> referencedTables;
+    }
+
+    private static List<String> referencedTables(JobStatistics.QueryStatistics stats) {
+        if (stats == null || stats.getReferencedTables() == null) {
+            return null;
+        }
+
+        return stats.getReferencedTables()
+            .stream()
+            .map(table -> table.getProject() + "." + table.getDataset() + "." + table.getTable())
+            .toList();
     }
 
     private String[] tags(JobStatistics.QueryStatistics stats, Job queryJob, FetchType fetchType) {
@@ -570,6 +749,21 @@ public class Query extends AbstractJob implements RunnableTask<Query.Output>, Qu
         };
     }
 
+    private String[] statelessTags(BigQuery connection, FetchType fetchType) {
+        List<String> tags = new ArrayList<>(List.of(
+            "fetch", FetchType.FETCH.equals(fetchType) || FetchType.FETCH_ONE.equals(fetchType) ? "true" : "false",
+            "store", FetchType.STORE.equals(fetchType) ? "true" : "false",
+            "project_id", connection.getOptions().getProjectId()
+        ));
+
+        if (connection.getOptions().getLocation() != null) {
+            tags.add("location");
+            tags.add(connection.getOptions().getLocation());
+        }
+
+        return tags.toArray(String[]::new);
+    }
+
     public class DestinationTable {
         @Schema(
             title = "The project of the table"
@@ -655,7 +849,11 @@ public class Query extends AbstractJob implements RunnableTask<Query.Output>, Qu
             .collect(Collectors.toList());
     }
 
-    private Map.Entry<URI, Long> storeResult(TableResult result, RunContext runContext) throws IOException {
+    private Map.Entry<URI, Long> storeResult(TableResult result, RunContext runContext) throws IOException, IllegalVariableEvaluationException {
+        if (runContext.render(this.storeFormat).as(StoreFormat.class).orElse(StoreFormat.ION) == StoreFormat.ARROW) {
+            return this.storeArrowResult(result, runContext);
+        }
+
         // temp file
         File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
 
@@ -680,6 +878,26 @@ public class Query extends AbstractJob implements RunnableTask<Query.Output>, Qu
         }
     }
 
+    private Map.Entry<URI, Long> storeArrowResult(TableResult result, RunContext runContext) throws IOException, IllegalVariableEvaluationException {
+        File tempFile = runContext.workingDir().createTempFile(".arrow").toFile();
+        int batchSize = runContext.render(this.storeBatchSize).as(Integer.class).orElse(10_000);
+
+        long lineCount;
+        try (
+            var writer = new BigQueryArrowWriter(result.getSchema(), tempFile, batchSize, (field, value) -> this.convertCell(field, value, false))
+        ) {
+            for (FieldValueList fieldValues : result.iterateAll()) {
+                writer.write(fieldValues);
+            }
+            lineCount = writer.rows();
+        }
+
+        return new AbstractMap.SimpleEntry<>(
+            runContext.storage().putFile(tempFile),
+            lineCount
+        );
+    }
+
     private Map<String, Object> convertRows(TableResult result, FieldValueList fieldValues) {
         Map<String, Object> row = new LinkedHashMap<>();
         result
@@ -4,30 +4,31 @@ import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
-import java.time.*;
-import java.time.format.DateTimeFormatter;
-import java.util.AbstractMap;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.slf4j.Logger;
 
 import com.google.api.core.ApiFuture;
 import com.google.api.core.ApiFutureCallback;
 import com.google.api.core.ApiFutures;
 import com.google.api.gax.core.FixedCredentialsProvider;
+import com.google.api.gax.rpc.NotFoundException;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.cloud.bigquery.BigQuery;
 import com.google.cloud.bigquery.Table;
 import com.google.cloud.bigquery.TableId;
 import com.google.cloud.bigquery.storage.v1.*;
-import com.google.common.primitives.Primitives;
+import com.google.protobuf.ByteString;
+import io.grpc.Status;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.Example;
@@ -36,6 +37,7 @@ import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.triggers.StatefulTriggerService;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.serializers.FileSerde;
 import io.kestra.plugin.gcp.AbstractTask;
@@ -44,7 +46,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
 
+import static io.kestra.core.models.triggers.StatefulTriggerService.*;
 import static io.kestra.core.utils.Rethrow.throwFunction;
 import io.kestra.core.models.annotations.PluginProperty;
 
@@ -72,6 +77,26 @@ import io.kestra.core.models.annotations.PluginProperty;
                     destinationTable: "my-project.my_dataset.my_table"
                     writeStreamType: DEFAULT
                 """
+        ),
+        @Example(
+            title = "Backfill a large file through 8 pending streams committed atomically",
+            full = true,
+            code = """
+                id: gcp_bq_storage_write_parallel
+                namespace: company.team
+
+                inputs:
+                  - id: file
+                    type: FILE
+
+                tasks:
+                  - id: storage_write
+                    type: io.kestra.plugin.gcp.bigquery.StorageWrite
+                    from: "{{ inputs.file }}"
+                    destinationTable: "my-project.my_dataset.my_table"
+                    writeStreamType: PENDING
+                    parallelism: 8
+                """
         )
     },
     metrics = {
@@ -85,6 +110,9 @@ import io.kestra.core.models.annotations.PluginProperty;
 )
 public class StorageWrite extends AbstractTask implements RunnableTask<StorageWrite.Output> {
     private static final int MAX_IN_FLIGHT_APPENDS = 20;
+    private static final Duration RETRY_INITIAL_DELAY = Duration.ofMillis(500);
+    private static final Duration RETRY_MAX_DELAY = Duration.ofSeconds(30);
+    private static final Duration CHECKPOINT_INTERVAL = Duration.ofSeconds(10);
 
     @Schema(
         title = "The fully-qualified URIs that point to source data"
@@ -126,6 +154,59 @@ public class StorageWrite extends AbstractTask implements RunnableTask<StorageWr
     @PluginProperty(group = "advanced")
     protected Property<String> location;
 
+    @NotNull
+    @Builder.Default
+    @Schema(
+        title = "The maximum size in bytes of the rows sent on each query",
+        description = "Rows are batched until either `bufferSize` rows or this size is reached, so that wide rows don't exceed " +
+            "the 10 MB limit of an append request."
+    )
+    @PluginProperty(group = "advanced")
+    protected final Property<Long> bufferBytes = Property.ofValue(5L * 1024 * 1024);
+
+    @NotNull
+    @Builder.Default
+    @Schema(
+        title = "The number of write streams to append to in parallel",
+        description = "The input rows are partitioned across this number of streams, each one encoding and appending its own batches. " +
+            "With `PENDING` or `COMMITTED`, one write stream is created per partition; `PENDING` streams are all finalized and then " +
+            "committed atomically in a single batch commit. With `DEFAULT`, the appends on the default stream are multiplexed over a " +
+            "shared connection pool."
+    )
+    @PluginProperty(group = "execution")
+    protected final Property<Integer> parallelism = Property.ofValue(1);
+
+    @NotNull
+    @Builder.Default
+    @Schema(
+        title = "The maximum number of retries of a failed append",
+        description = "Only used with `COMMITTED`, where every append is sent with its offset in the stream: appends failing with " +
+            "`INTERNAL`, `UNAVAILABLE` or `ABORTED` are sent again in order, with an exponential backoff, on a new connection. " +
+            "Appends already written by a previous attempt are rejected by BigQuery on their offset and are not duplicated."
+    )
+    @PluginProperty(group = "reliability")
+    protected final Property<Integer> maxRetries = Property.ofValue(5);
+
+    @NotNull
+    @Builder.Default
+    @Schema(
+        title = "Whether a failed write can be resumed",
+        description = "Only used with `COMMITTED`. The write stream of each partition and the number of rows acknowledged by BigQuery on " +
+            "it are checkpointed in the KV store while the appends complete, and when the task fails. The next run with the same `from`, " +
+            "`destinationTable` and `parallelism`, for instance a task retry, appends to the same write streams: it skips the checkpointed " +
+            "rows and sends the remaining ones at their original offsets, so that the rows acknowledged after the last checkpoint are " +
+            "rejected by BigQuery on their offset and not duplicated. The checkpoint is removed once the write completes."
+    )
+    @PluginProperty(group = "reliability")
+    protected final Property<Boolean> resumable = Property.ofValue(false);
+
+    @Schema(
+        title = "State key",
+        description = "Override the key used to store the checkpoint of a `resumable` write; defaults to namespace/flow/id and the source file"
+    )
+    @PluginProperty(group = "reliability")
+    protected Property<String> stateKey;
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         Logger logger = runContext.logger();
@@ -136,105 +217,233 @@ public class StorageWrite extends AbstractTask implements RunnableTask<StorageWr
         }
 
         TableName parentTable = TableName.of(tableId.getProject(), tableId.getDataset(), tableId.getTable());
+        WriteStreamType rWriteStreamType = runContext.render(this.writeStreamType).as(WriteStreamType.class).orElseThrow();
+        int rParallelism = runContext.render(this.parallelism).as(Integer.class).orElse(1);
+        int rBufferSize = runContext.render(this.bufferSize).as(Integer.class).orElseThrow();
+        long rBufferBytes = runContext.render(this.bufferBytes).as(Long.class).orElseThrow();
+        int rMaxRetries = runContext.render(this.maxRetries).as(Integer.class).orElse(5);
+        boolean withOffsets = rWriteStreamType == WriteStreamType.COMMITTED;
+        boolean rResumable = withOffsets && runContext.render(this.resumable).as(Boolean.class).orElse(false);
+
+        if (rParallelism < 1) {
+            throw new IllegalArgumentException("Invalid parallelism " + rParallelism + ", must be at least 1");
+        }
 
         // reader
         URI from = new URI(runContext.render(this.from).as(String.class).orElseThrow());
 
+        String rStateKey = null;
+        Map<String, StatefulTriggerService.Entry> state = Map.of();
+        if (rResumable) {
+            rStateKey = runContext.render(this.stateKey).as(String.class).orElse(defaultKey(
+                runContext.flowInfo().namespace(),
+                runContext.flowInfo().id(),
+                this.getId() + "_" + Integer.toHexString(Objects.hash(from.toString(), parentTable.toString(), rParallelism))
+            ));
+
+            state = readState(runContext, rStateKey, Optional.empty());
+        }
+
+        // rows of each partition skipped from the file, and rows of each partition written before offset 0 of its stream
+        long[] skipped = new long[rParallelism];
+        long[] streamStart = new long[rParallelism];
+        List<StreamAppender> appenders = new ArrayList<>(rParallelism);
+
         try (
             BigQueryWriteClient connection = this.connection(runContext);
             InputStream inputStream = new BufferedInputStream(runContext.storage().getFile(from), FileSerde.BUFFER_SIZE)
         ) {
-            try (JsonStreamWriter writer = this.jsonStreamWriter(runContext, parentTable, connection).build()) {
-                Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT_APPENDS);
-                AtomicReference<Throwable> appendError = new AtomicReference<>();
-
-                Integer count = FileSerde.readAll(inputStream)
-                    .map(this::map)
-                    .buffer(runContext.render(this.bufferSize).as(Integer.class).orElseThrow())
-                    .map(list ->
-                    {
-                        JSONArray result = new JSONArray();
-                        list.forEach(result::put);
-
-                        return result;
-                    })
-                    .map(throwFunction(o ->
-                    {
-                        throwIfAppendFailed(appendError);
-
-                        inFlight.acquire();
-                        ApiFuture<AppendRowsResponse> future = writer.append(o);
-                        ApiFutures.addCallback(future, new ApiFutureCallback<>() {
-                            @Override
-                            public void onFailure(Throwable t) {
-                                // If the wrapped exception is a StatusRuntimeException, check the state of the operation.
-                                // If the state is INTERNAL, CANCELLED, or ABORTED, you can retry. For more information, see:
-                                // https://grpc.github.io/grpc-java/javadoc/io/grpc/StatusRuntimeException.html
-                                appendError.compareAndSet(null, t);
-                                inFlight.release();
-                            }
-
-                            @Override
-                            public void onSuccess(AppendRowsResponse response) {
-                                inFlight.release();
-                            }
-                        }, MoreExecutors.directExecutor());
-
-                        return o.length();
-                    }))
-                    .reduce(Integer::sum)
-                    .block();
+            AtomicReference<Throwable> appendError = new AtomicReference<>();
+            BigQueryProtoRowEncoder encoder = null;
+
+            for (int i = 0; i < rParallelism; i++) {
+                WriteStream writeStream = null;
+                long streamOffset = 0;
+
+                StatefulTriggerService.Entry rowsEntry = state.get(partitionKey(i));
+                if (rowsEntry != null) {
+                    String[] written = rowsEntry.version().split(":");
+                    skipped[i] = Long.parseLong(written[0]);
+
+                    StatefulTriggerService.Entry streamEntry = state.get(streamKey(i));
+                    writeStream = streamEntry == null ? null : existingWriteStream(connection, streamEntry.version());
+                    if (writeStream != null) {
+                        streamOffset = Long.parseLong(written[1]);
+                    } else if (streamEntry != null) {
+                        logger.warn(
+                            "Write stream '{}' of partition {} no longer exists, rows acknowledged after its last checkpoint may be written twice",
+                            streamEntry.version(), i
+                        );
+                    }
+                }
 
-                inFlight.acquire(MAX_IN_FLIGHT_APPENDS);
-                throwIfAppendFailed(appendError);
+                if (writeStream == null) {
+                    writeStream = this.writeStream(runContext, rWriteStreamType, parentTable, connection);
+                }
+                streamStart[i] = skipped[i] - streamOffset;
 
-                Output.OutputBuilder builder = Output.builder()
-                    .rows(count);
+                if (encoder == null) {
+                    encoder = new BigQueryProtoRowEncoder(writeStream.getTableSchema());
+                }
 
-                if (runContext.render(this.writeStreamType).as(WriteStreamType.class).orElseThrow() == WriteStreamType.PENDING) {
-                    logger.debug("Commit pending stream '{}'", writer.getStreamName());
+                ProtoSchema protoSchema = encoder.protoSchema();
+                String streamName = writeStream.getName();
+                appenders.add(new StreamAppender(
+                    () -> StreamWriter.newBuilder(streamName, connection)
+                        .setWriterSchema(protoSchema)
+                        // concurrent appends on the default stream share multiplexed connections
+                        .setEnableConnectionPool(rWriteStreamType == WriteStreamType.DEFAULT && rParallelism > 1)
+                        .build(),
+                    appendError,
+                    withOffsets,
+                    streamOffset,
+                    rMaxRetries,
+                    logger
+                ));
+            }
 
-                    // Commit the streams for PENDING
-                    FinalizeWriteStreamResponse finalizeResponse = connection.finalizeWriteStream(writer.getStreamName());
+            if (Arrays.stream(skipped).sum() > 0) {
+                logger.info("Resuming write to '{}', skipping {} rows already written", parentTable, Arrays.stream(skipped).sum());
+            }
 
-                    builder.rowsCount(finalizeResponse.getRowCount());
+            logger.debug("Appending to {} '{}' stream(s) of '{}'", rParallelism, rWriteStreamType, parentTable);
 
-                    BatchCommitWriteStreamsRequest commitRequest = BatchCommitWriteStreamsRequest
-                        .newBuilder()
-                        .setParent(parentTable.toString())
-                        .addWriteStreams(writer.getStreamName())
-                        .build();
+            String checkpointKey = rStateKey;
+            AtomicLong lastCheckpoint = new AtomicLong(System.nanoTime());
+            if (rResumable) {
+                // the streams are recorded before any append, so that a killed run can still be resumed on them
+                checkpoint(runContext, checkpointKey, appenders, streamStart);
+            }
 
-                    BatchCommitWriteStreamsResponse commitResponse = connection.batchCommitWriteStreams(commitRequest);
+            BigQueryProtoRowEncoder rowEncoder = encoder;
+            Integer count;
+            try {
+                // rows are partitioned on their position in the file, so that a resumed write assigns them to the same partitions
+                count = FileSerde.readAll(inputStream)
+                    .index()
+                    .groupBy(tuple -> (int) (tuple.getT1() % rParallelism), Tuple2::getT2)
+                    .flatMap(partition -> {
+                        StreamAppender appender = appenders.get(partition.key());
+
+                        return partition
+                            .skip(skipped[partition.key()])
+                            .publishOn(Schedulers.boundedElastic())
+                            .map(rowEncoder::encode)
+                            .bufferUntil(batchBoundary(rBufferSize, rBufferBytes), true)
+                            .map(throwFunction(rows -> {
+                                appender.append(rows);
+
+                                long now = System.nanoTime();
+                                long last = lastCheckpoint.get();
+                                if (rResumable && now - last >= CHECKPOINT_INTERVAL.toNanos() && lastCheckpoint.compareAndSet(last, now)) {
+                                    checkpoint(runContext, checkpointKey, appenders, streamStart);
+                                }
+
+                                return rows.size();
+                            }));
+                    }, rParallelism)
+                    .reduce(Integer::sum)
+                    .blockOptional()
+                    .orElse(0);
 
-                    if (!commitResponse.hasCommitTime()) {
-                        // If the response does not have a commit time, it means the commit operation failed.
-                        throw new Exception(
-                            "Error on commit with error: " + commitResponse.getStreamErrorsList()
-                                .stream()
-                                .map(StorageError::getErrorMessage)
-                                .collect(Collectors.joining("\n- "))
-                        );
-                    } else {
-                        builder.commitTime(Instant.ofEpochSecond(commitResponse.getCommitTime().getSeconds()));
-                    }
+                for (StreamAppender appender : appenders) {
+                    appender.awaitInFlight();
+                }
+            } catch (Exception e) {
+                if (rResumable) {
+                    checkpoint(runContext, rStateKey, appenders, streamStart);
+                    logger.warn("Write to '{}' failed, saved a checkpoint under state key '{}' to resume it", parentTable, rStateKey);
                 }
 
-                Output output = builder
-                    .build();
+                throw e;
+            }
+
+            if (rResumable) {
+                writeState(runContext, rStateKey, new HashMap<>(), Optional.empty());
+            }
+
+            Output.OutputBuilder builder = Output.builder()
+                .rows(count);
 
-                String[] tags = tags(tableId, runContext);
+            if (rWriteStreamType == WriteStreamType.PENDING) {
+                List<String> streamNames = appenders.stream().map(StreamAppender::streamName).toList();
+                logger.debug("Commit pending streams {}", streamNames);
 
-                runContext.metric(Counter.of("rows", output.getRows(), tags));
-                if (output.getRowsCount() != null) {
-                    runContext.metric(Counter.of("rows_count", output.getRowsCount(), tags));
+                // Finalize every stream, then commit them all at once for PENDING
+                long rowsCount = 0;
+                for (String streamName : streamNames) {
+                    rowsCount += connection.finalizeWriteStream(streamName).getRowCount();
                 }
 
-                return output;
+                builder.rowsCount(rowsCount);
+
+                BatchCommitWriteStreamsRequest commitRequest = BatchCommitWriteStreamsRequest
+                    .newBuilder()
+                    .setParent(parentTable.toString())
+                    .addAllWriteStreams(streamNames)
+                    .build();
+
+                BatchCommitWriteStreamsResponse commitResponse = connection.batchCommitWriteStreams(commitRequest);
+
+                if (!commitResponse.hasCommitTime()) {
+                    // If the response does not have a commit time, it means the commit operation failed.
+                    throw new Exception(
+                        "Error on commit with error: " + commitResponse.getStreamErrorsList()
+                            .stream()
+                            .map(StorageError::getErrorMessage)
+                            .collect(Collectors.joining("\n- "))
+                    );
+                } else {
+                    builder.commitTime(Instant.ofEpochSecond(commitResponse.getCommitTime().getSeconds()));
+                }
+            }
+
+            Output output = builder
+                .build();
+
+            String[] tags = tags(tableId, runContext);
+
+            runContext.metric(Counter.of("rows", output.getRows(), tags));
+            if (output.getRowsCount() != null) {
+                runContext.metric(Counter.of("rows_count", output.getRowsCount(), tags));
+            }
+
+            return output;
+        } finally {
+            for (StreamAppender appender : appenders) {
+                appender.close();
             }
         }
     }
 
+    private static String partitionKey(int partition) {
+        return "partition-" + partition;
+    }
+
+    private static String streamKey(int partition) {
+        return "stream-" + partition;
+    }
+
+    /**
+     * Stores, for each partition, its write stream and the rows acknowledged on it, as {@code <rows of the partition>:<stream offset>}.
+     */
+    private static void checkpoint(RunContext runContext, String stateKey, List<StreamAppender> appenders, long[] streamStart) throws Exception {
+        synchronized (appenders) {
+            Map<String, StatefulTriggerService.Entry> checkpoint = new HashMap<>();
+            Instant now = Instant.now();
+
+            for (int i = 0; i < appenders.size(); i++) {
+                StreamAppender appender = appenders.get(i);
+                long acknowledged = appender.acknowledged();
+
+                checkpoint.put(partitionKey(i), StatefulTriggerService.Entry.candidate(partitionKey(i), (streamStart[i] + acknowledged) + ":" + acknowledged, now));
+                checkpoint.put(streamKey(i), StatefulTriggerService.Entry.candidate(streamKey(i), appender.streamName(), now));
+            }
+
+            writeState(runContext, stateKey, checkpoint, Optional.empty());
+        }
+    }
+
     private static void throwIfAppendFailed(AtomicReference<Throwable> appendError) throws Exception {
         Throwable error = appendError.get();
         if (error != null) {
@@ -242,74 +451,170 @@ public class StorageWrite extends AbstractTask implements RunnableTask<StorageWr
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private JSONObject map(Object object) {
-        if (!(object instanceof Map)) {
-            throw new IllegalArgumentException("Unable to map with type '" + object.getClass().getName() + "'");
+    /**
+     * Appends batches on a single write stream, with at most {@link #MAX_IN_FLIGHT_APPENDS} outstanding requests.
+     * The first failure is shared by all the appenders of the task so that every partition stops early.
+     * <p>
+     * With offsets, the batches are kept until they are acknowledged. A retryable failure fails every append in flight on
+     * the connection, so the appender waits for all of them, then sends the unacknowledged batches again in offset order on
+     * a new writer; a batch rejected because its offset already exists was written by a previous attempt and is acknowledged,
+     * and a batch rejected because its offset is out of range follows a failed one and is sent again with it.
+     */
+    static final class StreamAppender implements AutoCloseable {
+        private final Callable<StreamWriter> writerFactory;
+        private final AtomicReference<Throwable> appendError;
+        private final boolean withOffsets;
+        private final int maxRetries;
+        private final Logger logger;
+
+        private final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT_APPENDS);
+        private final AtomicReference<Throwable> retryableError = new AtomicReference<>();
+        private final ConcurrentSkipListMap<Long, ProtoRows> pending = new ConcurrentSkipListMap<>();
+        private final AtomicLong acknowledged = new AtomicLong();
+
+        private StreamWriter writer;
+        private long nextOffset;
+
+        StreamAppender(Callable<StreamWriter> writerFactory, AtomicReference<Throwable> appendError, boolean withOffsets, long initialOffset, int maxRetries, Logger logger) throws Exception {
+            this.writerFactory = writerFactory;
+            this.appendError = appendError;
+            this.withOffsets = withOffsets;
+            this.maxRetries = maxRetries;
+            this.logger = logger;
+            this.nextOffset = initialOffset;
+            this.acknowledged.set(initialOffset);
+            this.writer = writerFactory.call();
         }
 
-        Map<String, Object> map = (Map<String, Object>) object;
+        String streamName() {
+            return this.writer.getStreamName();
+        }
 
-        JSONObject record = new JSONObject();
-        map.forEach((s, o) -> record.put(s, transform(o)));
+        long acknowledged() {
+            return this.acknowledged.get();
+        }
 
-        return record;
-    }
+        void append(List<ByteString> rows) throws Exception {
+            throwIfAppendFailed(this.appendError);
+            this.recover();
 
-    private Object transform(Object object) {
-        if (object instanceof Map) {
-            Map<?, ?> value = (Map<?, ?>) object;
-
-            HashMap<Object, Object> map = value
-                .entrySet()
-                .stream()
-                .map(
-                    e -> new AbstractMap.SimpleEntry<>(
-                        e.getKey(),
-                        transform(e.getValue())
-                    )
-                )
-                // https://bugs.openjdk.java.net/browse/JDK-8148463
-                .collect(HashMap::new, (m, v) -> m.put(v.getKey(), v.getValue()), HashMap::putAll);
-
-            return new JSONObject(map);
-        } else if (object instanceof Collection) {
-            Collection<?> value = (Collection<?>) object;
-            return new JSONArray(
-                value
-                    .stream()
-                    .map(this::transform)
-                    .collect(Collectors.toList())
-            );
-        } else if (object instanceof ZonedDateTime) {
-            ZonedDateTime value = (ZonedDateTime) object;
-            return value.toInstant().toEpochMilli() * 1000;
-        } else if (object instanceof Instant) {
-            Instant value = (Instant) object;
-            return value.toEpochMilli() * 1000;
-        } else if (object instanceof LocalDate) {
-            LocalDate value = (LocalDate) object;
-            return (int) value.toEpochDay();
-        } else if (object instanceof LocalDateTime) {
-            LocalDateTime value = (LocalDateTime) object;
-            return CivilTimeEncoder.encodePacked64DatetimeMicros(org.threeten.bp.LocalDateTime.parse(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)));
-        } else if (object instanceof LocalTime) {
-            LocalTime value = (LocalTime) object;
-            return CivilTimeEncoder.encodePacked64TimeMicros(org.threeten.bp.LocalTime.parse(value.format(DateTimeFormatter.ISO_LOCAL_TIME)));
-        } else if (object instanceof OffsetTime) {
-            OffsetTime value = (OffsetTime) object;
-            return CivilTimeEncoder.encodePacked64TimeMicros(org.threeten.bp.LocalTime.parse(value.format(DateTimeFormatter.ISO_LOCAL_TIME)));
-        } else if (object == null) {
-            return null;
-        } else if (object instanceof String) {
-            return object;
-        } else if (object.getClass().isPrimitive() || Primitives.isWrapperType(object.getClass())) {
-            return object;
-        } else if (object instanceof Enum) {
-            return ((Enum<?>) object).name();
-        } else {
-            return object;
+            ProtoRows protoRows = ProtoRows.newBuilder().addAllSerializedRows(rows).build();
+            long offset = this.nextOffset;
+            this.nextOffset += rows.size();
+
+            if (this.withOffsets) {
+                this.pending.put(offset, protoRows);
+            }
+
+            this.send(offset, protoRows);
         }
+
+        private void send(long offset, ProtoRows protoRows) throws InterruptedException {
+            this.inFlight.acquire();
+            ApiFuture<AppendRowsResponse> future = this.withOffsets ? this.writer.append(protoRows, offset) : this.writer.append(protoRows);
+            ApiFutures.addCallback(future, new ApiFutureCallback<>() {
+                @Override
+                public void onFailure(Throwable t) {
+                    if (withOffsets && t instanceof Exceptions.OffsetAlreadyExists) {
+                        acknowledge(offset, protoRows);
+                    } else if (withOffsets && (isRetryable(t) || t instanceof Exceptions.OffsetOutOfRange)) {
+                        // the appends sent after a failed one are out of range, they are sent again with it
+                        retryableError.compareAndSet(null, t);
+                    } else {
+                        appendError.compareAndSet(null, t);
+                    }
+                    inFlight.release();
+                }
+
+                @Override
+                public void onSuccess(AppendRowsResponse response) {
+                    acknowledge(offset, protoRows);
+                    inFlight.release();
+                }
+            }, MoreExecutors.directExecutor());
+        }
+
+        private void acknowledge(long offset, ProtoRows protoRows) {
+            this.pending.remove(offset);
+            this.acknowledged.accumulateAndGet(offset + protoRows.getSerializedRowsCount(), Math::max);
+        }
+
+        private void recover() throws Exception {
+            int attempt = 0;
+
+            while (this.retryableError.get() != null) {
+                this.drain();
+                throwIfAppendFailed(this.appendError);
+
+                Throwable error = this.retryableError.getAndSet(null);
+                if (++attempt > this.maxRetries) {
+                    this.appendError.compareAndSet(null, error);
+                    throwIfAppendFailed(this.appendError);
+                }
+
+                Duration backoff = Duration.ofMillis(Math.min(RETRY_MAX_DELAY.toMillis(), RETRY_INITIAL_DELAY.toMillis() << (attempt - 1)));
+                this.logger.warn(
+                    "Retrying {} appends on '{}' from offset {} in {}, attempt {}: {}",
+                    this.pending.size(), this.writer.getStreamName(), this.acknowledged.get(), backoff, attempt, error.getMessage()
+                );
+                Thread.sleep(backoff.toMillis());
+
+                this.writer.close();
+                this.writer = this.writerFactory.call();
+
+                for (Map.Entry<Long, ProtoRows> entry : this.pending.entrySet()) {
+                    this.send(entry.getKey(), entry.getValue());
+                }
+
+                this.drain();
+            }
+        }
+
+        private void drain() throws InterruptedException {
+            this.inFlight.acquire(MAX_IN_FLIGHT_APPENDS);
+            this.inFlight.release(MAX_IN_FLIGHT_APPENDS);
+        }
+
+        void awaitInFlight() throws Exception {
+            this.drain();
+            this.recover();
+
+            throwIfAppendFailed(this.appendError);
+        }
+
+        private static boolean isRetryable(Throwable t) {
+            return switch (Status.fromThrowable(t).getCode()) {
+                case INTERNAL, UNAVAILABLE, ABORTED -> true;
+                default -> false;
+            };
+        }
+
+        @Override
+        public void close() {
+            this.writer.close();
+        }
+    }
+
+    /**
+     * Cuts a new batch before the row that would make the current one exceed {@code maxRows} rows or {@code maxBytes} bytes.
+     */
+    private static Predicate<ByteString> batchBoundary(int maxRows, long maxBytes) {
+        long[] bytes = {0};
+        int[] rows = {0};
+
+        return row -> {
+            boolean cut = rows[0] > 0 && (rows[0] >= maxRows || bytes[0] + row.size() > maxBytes);
+
+            if (cut) {
+                bytes[0] = 0;
+                rows[0] = 0;
+            }
+
+            bytes[0] += row.size();
+            rows[0]++;
+
+            return cut;
+        };
     }
 
     private BigQueryWriteClient connection(RunContext runContext) throws IllegalVariableEvaluationException, IOException {
@@ -330,8 +635,20 @@ public class StorageWrite extends AbstractTask implements RunnableTask<StorageWr
         };
     }
 
-    private JsonStreamWriter.Builder jsonStreamWriter(RunContext runContext, TableName parentTable, BigQueryWriteClient client) throws IllegalVariableEvaluationException, IOException {
-        if (runContext.render(this.writeStreamType).as(WriteStreamType.class).orElseThrow() == WriteStreamType.DEFAULT) {
+    private static WriteStream existingWriteStream(BigQueryWriteClient client, String name) {
+        try {
+            return client.getWriteStream(GetWriteStreamRequest.newBuilder()
+                .setName(name)
+                .setView(WriteStreamView.FULL)
+                .build()
+            );
+        } catch (NotFoundException e) {
+            return null;
+        }
+    }
+
+    private WriteStream writeStream(RunContext runContext, WriteStreamType writeStreamType, TableName parentTable, BigQueryWriteClient client) throws IllegalVariableEvaluationException, IOException {
+        if (writeStreamType == WriteStreamType.DEFAULT) {
             // Write to the default stream: https://cloud.google.com/bigquery/docs/write-api#write_to_the_default_stream
             BigQuery bigQuery = AbstractBigquery.connection(
                 runContext,
@@ -354,16 +671,18 @@ public class StorageWrite extends AbstractTask implements RunnableTask<StorageWr
                 throw new IllegalArgumentException("No schema defined for table '" + tableId);
             }
 
-            TableSchema tableSchema = BigQueryToBigQueryStorageSchemaConverter.convertTableSchema(schema);
-
-            return JsonStreamWriter.newBuilder(parentTable.toString(), tableSchema);
+            return WriteStream.newBuilder()
+                .setName(parentTable.toString() + "/streams/_default")
+                .setType(WriteStream.Type.COMMITTED)
+                .setTableSchema(BigQueryToBigQueryStorageSchemaConverter.convertTableSchema(schema))
+                .build();
         } else {
             // Write to a stream in pending mode: https://cloud.google.com/bigquery/docs/write-api#write_to_a_stream_in_pending_mode
             // Write to a stream in committed mode : https://cloud.google.com/bigquery/docs/write-api#write_to_a_stream_in_committed_mode
 
             WriteStream stream = WriteStream
                 .newBuilder()
-                .setType(WriteStream.Type.valueOf(runContext.render(this.writeStreamType).as(WriteStreamType.class).orElseThrow().name()))
+                .setType(WriteStream.Type.valueOf(writeStreamType.name()))
                 .build();
 
             CreateWriteStreamRequest createWriteStreamRequest = CreateWriteStreamRequest
@@ -371,9 +690,8 @@ public class StorageWrite extends AbstractTask implements RunnableTask<StorageWr
                 .setParent(parentTable.toString())
                 .setWriteStream(stream)
                 .build();
-            WriteStream writeStream = client.createWriteStream(createWriteStreamRequest);
 
-            return JsonStreamWriter.newBuilder(writeStream.getName(), writeStream.getTableSchema(), client);
+            return client.createWriteStream(createWriteStreamRequest);
         }
     }
 
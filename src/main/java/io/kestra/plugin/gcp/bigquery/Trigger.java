@@ -1,11 +1,28 @@
 package io.kestra.plugin.gcp.bigquery;
 
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.QueryJobConfiguration;
+import com.google.cloud.bigquery.Table;
+import com.google.cloud.bigquery.TableDefinition;
+
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.conditions.ConditionContext;
@@ -14,12 +31,15 @@ import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.models.triggers.*;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import io.kestra.core.models.annotations.PluginProperty;
 
+import static io.kestra.core.models.triggers.StatefulTriggerService.*;
+
 @SuperBuilder
 @ToString
 @EqualsAndHashCode
@@ -27,7 +47,8 @@ import io.kestra.core.models.annotations.PluginProperty;
 @NoArgsConstructor
 @Schema(
     title = "Trigger on BigQuery query results",
-    description = "Polls BigQuery every `interval` (default 60s) by running the rendered SQL. Starts a Flow execution when at least one row is returned and exposes query outputs (rows/size). Supports project/service account override and both standard and legacy SQL."
+    description = "Polls BigQuery every `interval` (default 60s) by running the rendered SQL. Starts a Flow execution when at least one row is returned and exposes query outputs (rows/size). Supports project/service account override and both standard and legacy SQL. " +
+        "With `watermarkColumn`, the trigger is incremental: it only selects the rows newer than the previous executions and doesn't run the query while the tables it reads are unchanged."
 )
 @Plugin(
     examples = {
@@ -54,11 +75,40 @@ import io.kestra.core.models.annotations.PluginProperty;
                     sql: "SELECT * FROM `myproject.mydataset.mytable`"
                     fetchType: FETCH
                 """
+        ),
+        @Example(
+            title = "Start an execution for the new orders only, without running the query while the table is unchanged",
+            full = true,
+            code = """
+                id: bigquery_new_orders
+                namespace: company.team
+
+                tasks:
+                  - id: log
+                    type: io.kestra.plugin.core.log.Log
+                    message: "{{ trigger.size }} new orders"
+
+                triggers:
+                  - id: watch
+                    type: io.kestra.plugin.gcp.bigquery.Trigger
+                    interval: "PT1M"
+                    sql: |
+                      SELECT * FROM `myproject.mydataset.orders`
+                      WHERE created_at > @watermark
+                    watermarkColumn: created_at
+                    initialWatermark: "2024-01-01T00:00:00Z"
+                    fetchType: STORE
+                """
         )
     }
 )
 @StoreFetchValidation
 public class Trigger extends AbstractTrigger implements PollingTriggerInterface, TriggerOutput<Query.Output>, QueryInterface {
+    private static final String WATERMARK_KEY = "watermark";
+    private static final String TABLE_KEY_PREFIX = "table:";
+    private static final Pattern INTEGER = Pattern.compile("-?\\d+");
+    private static final Pattern DECIMAL = Pattern.compile("-?\\d+\\.\\d+");
+
     @Schema(
         title = "Polling interval",
         description = "Duration between query runs; defaults to 60 seconds"
@@ -108,12 +158,248 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
     @PluginProperty(group = "execution")
     private Property<FetchType> fetchType = Property.ofValue(FetchType.NONE);
 
+    @Builder.Default
+    @Schema(
+        title = "Job creation mode",
+        description = "Use `JOB_CREATION_OPTIONAL` to answer short polling queries inline through the jobs.query API without creating a job on each poll; see the `Query` task."
+    )
+    @PluginProperty(group = "execution")
+    private Property<QueryJobConfiguration.JobCreationMode> jobCreationMode = Property.ofValue(QueryJobConfiguration.JobCreationMode.JOB_CREATION_REQUIRED);
+
+    @Schema(
+        title = "Watermark column",
+        description = "Enables the incremental mode: the query is run with a `@watermark` named parameter holding the greatest value of this column " +
+            "among the rows of the previous executions, and must only select the rows above it, e.g. `WHERE updated_at > @watermark`. " +
+            "The greatest value among the returned rows is kept in the trigger state once an execution is started. " +
+            "The rows are read from the query results, so `fetchType` must be `FETCH`, `FETCH_ONE` or `STORE`; " +
+            "the column should be a `TIMESTAMP`, `DATE`, `INT64`, `FLOAT64`, `NUMERIC` or `STRING`."
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> watermarkColumn;
+
+    @Schema(
+        title = "Initial watermark",
+        description = "Value of the `@watermark` parameter until a first execution is started, required with `watermarkColumn`. " +
+            "Integers and decimals are bound as `INT64` and `FLOAT64`, other values as `STRING`, that BigQuery coerces to `DATE` or `TIMESTAMP` " +
+            "when compared to such a column."
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> initialWatermark;
+
+    @Builder.Default
+    @Schema(
+        title = "Skip the poll while the referenced tables are unchanged",
+        description = "Only used with `watermarkColumn`: the last modified time of the tables read by the previous query is kept in the trigger state, " +
+            "and the query isn't run again until one of them is modified, which only costs a metadata request per table. " +
+            "Queries reading external tables, or answered without a job with `JOB_CREATION_OPTIONAL`, are always run."
+    )
+    @PluginProperty(group = "execution")
+    private Property<Boolean> skipUnchangedTables = Property.ofValue(true);
+
+    @Schema(
+        title = "State key",
+        description = "Override key used to persist the watermark; defaults to namespace/flow/id"
+    )
+    @PluginProperty(group = "advanced")
+    private Property<String> stateKey;
+
+    @Schema(
+        title = "State TTL",
+        description = "Optional TTL for the persisted watermark"
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Duration> stateTtl;
+
     @Override
     public Optional<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
         RunContext runContext = conditionContext.getRunContext();
+
+        if (this.watermarkColumn != null) {
+            return this.evaluateIncremental(conditionContext, context);
+        }
+
+        Logger logger = runContext.logger();
+
+        Query.Output run = this.query(null).run(runContext);
+
+        logger.debug("Found '{}' rows from '{}'", run.getSize(), runContext.render(this.sql));
+
+        if (run.getSize() == 0) {
+            return Optional.empty();
+        }
+
+        Execution execution = TriggerService.generateExecution(this, conditionContext, context, run);
+
+        return Optional.of(execution);
+    }
+
+    private Optional<Execution> evaluateIncremental(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        RunContext runContext = conditionContext.getRunContext();
         Logger logger = runContext.logger();
 
-        Query task = Query.builder()
+        String rWatermarkColumn = runContext.render(this.watermarkColumn).as(String.class).orElseThrow();
+        boolean rSkipUnchangedTables = runContext.render(this.skipUnchangedTables).as(Boolean.class).orElse(true);
+        var rStateKey = runContext.render(this.stateKey).as(String.class).orElse(defaultKey(context.getNamespace(), context.getFlowId(), id));
+        var rStateTtl = runContext.render(this.stateTtl).as(Duration.class);
+
+        if (runContext.render(this.fetchType).as(FetchType.class).orElse(FetchType.NONE) == FetchType.NONE && !this.fetch && !this.store && !this.fetchOne) {
+            throw new IllegalArgumentException("'watermarkColumn' requires 'fetchType' to be FETCH, FETCH_ONE or STORE");
+        }
+
+        Map<String, Entry> state = new HashMap<>(readState(runContext, rStateKey, rStateTtl));
+
+        Query task = this.query(Property.ofValue(Map.of(WATERMARK_KEY, this.watermarkParameter(runContext, state.get(WATERMARK_KEY)))));
+        BigQuery connection = task.connection(runContext);
+
+        if (rSkipUnchangedTables && this.tablesUnchanged(connection, state)) {
+            logger.debug("Referenced tables unchanged since the last poll, skipping the query");
+            return Optional.empty();
+        }
+
+        Instant pollStart = Instant.now();
+        Query.Output run = task.run(runContext);
+
+        logger.debug("Found '{}' new rows from '{}'", run.getSize(), runContext.render(this.sql));
+
+        this.updateTables(connection, state, run.getReferencedTables(), pollStart);
+
+        if (run.getSize() == 0) {
+            writeState(runContext, rStateKey, state, rStateTtl);
+            return Optional.empty();
+        }
+
+        Comparable<Object> watermark = this.maxWatermark(runContext, run, rWatermarkColumn);
+        if (watermark != null) {
+            state.put(WATERMARK_KEY, Entry.candidate(WATERMARK_KEY, serializeWatermark(watermark), Instant.now()));
+        } else {
+            logger.warn("Column '{}' is null in all the returned rows, keeping the previous watermark", rWatermarkColumn);
+        }
+
+        Execution execution = TriggerService.generateExecution(this, conditionContext, context, run);
+
+        writeState(runContext, rStateKey, state, rStateTtl);
+
+        return Optional.of(execution);
+    }
+
+    private Object watermarkParameter(RunContext runContext, Entry watermark) throws Exception {
+        if (watermark != null) {
+            return deserializeWatermark(watermark.version());
+        }
+
+        String initial = runContext.render(this.initialWatermark).as(String.class)
+            .orElseThrow(() -> new IllegalArgumentException("'initialWatermark' is required with 'watermarkColumn'"));
+
+        if (INTEGER.matcher(initial).matches()) {
+            return Long.parseLong(initial);
+        } else if (DECIMAL.matcher(initial).matches()) {
+            return Double.parseDouble(initial);
+        }
+
+        return initial;
+    }
+
+    private boolean tablesUnchanged(BigQuery connection, Map<String, Entry> state) {
+        List<Map.Entry<String, Entry>> tables = state.entrySet().stream()
+            .filter(entry -> entry.getKey().startsWith(TABLE_KEY_PREFIX))
+            .toList();
+
+        if (tables.isEmpty()) {
+            return false;
+        }
+
+        return tables.stream().allMatch(entry -> {
+            Table table = connection.getTable(BigQueryService.tableId(entry.getKey().substring(TABLE_KEY_PREFIX.length())));
+
+            return table != null && Objects.equals(String.valueOf(table.getLastModifiedTime()), entry.getValue().version());
+        });
+    }
+
+    private void updateTables(BigQuery connection, Map<String, Entry> state, List<String> referencedTables, Instant pollStart) {
+        state.keySet().removeIf(key -> key.startsWith(TABLE_KEY_PREFIX));
+
+        if (referencedTables == null || referencedTables.isEmpty()) {
+            return;
+        }
+
+        Map<String, Entry> tables = new HashMap<>();
+        for (String referencedTable : referencedTables) {
+            Table table = connection.getTable(BigQueryService.tableId(referencedTable));
+
+            // external tables data can change without any table update, the query must always be run
+            if (table == null || table.getLastModifiedTime() == null || table.getDefinition().getType() == TableDefinition.Type.EXTERNAL) {
+                return;
+            }
+
+            // a table modified while the query ran must be polled again, whether its new rows were read or not
+            String version = table.getLastModifiedTime() <= pollStart.toEpochMilli() ? String.valueOf(table.getLastModifiedTime()) : "modified";
+
+            tables.put(TABLE_KEY_PREFIX + referencedTable, Entry.candidate(TABLE_KEY_PREFIX + referencedTable, version, pollStart));
+        }
+
+        state.putAll(tables);
+    }
+
+    private Comparable<Object> maxWatermark(RunContext runContext, Query.Output run, String column) throws Exception {
+        Comparator<Comparable<Object>> comparator = Comparator.nullsFirst(Comparator.naturalOrder());
+
+        if (run.getRows() != null) {
+            return run.getRows().stream()
+                .map(row -> watermark(row.get(column)))
+                .max(comparator)
+                .orElse(null);
+        }
+
+        if (run.getRow() != null) {
+            return watermark(run.getRow().get(column));
+        }
+
+        try (InputStream inputStream = new BufferedInputStream(runContext.storage().getFile(run.getUri()), FileSerde.BUFFER_SIZE)) {
+            return FileSerde.readAll(inputStream)
+                .map(row -> Optional.ofNullable(watermark(((Map<?, ?>) row).get(column))))
+                .reduce(Optional.<Comparable<Object>>empty(), (max, current) -> comparator.compare(max.orElse(null), current.orElse(null)) >= 0 ? max : current)
+                .block()
+                .orElse(null);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> watermark(Object value) {
+        Object comparable = switch (value) {
+            case null -> null;
+            case Integer number -> number.longValue();
+            case Float number -> number.doubleValue();
+            case ZonedDateTime dateTime -> dateTime.toInstant();
+            case OffsetDateTime dateTime -> dateTime.toInstant();
+            case Comparable<?> other -> other;
+            default -> throw new IllegalArgumentException("Unsupported watermark value of type '" + value.getClass().getName() + "'");
+        };
+
+        return (Comparable<Object>) comparable;
+    }
+
+    private static String serializeWatermark(Object watermark) {
+        return switch (watermark) {
+            case Long number -> "INT64:" + number;
+            case Double number -> "FLOAT64:" + number;
+            case BigDecimal number -> "NUMERIC:" + number.toPlainString();
+            default -> "STRING:" + watermark;
+        };
+    }
+
+    private static Object deserializeWatermark(String watermark) {
+        String value = watermark.substring(watermark.indexOf(':') + 1);
+
+        return switch (watermark.substring(0, watermark.indexOf(':'))) {
+            case "INT64" -> Long.parseLong(value);
+            case "FLOAT64" -> Double.parseDouble(value);
+            case "NUMERIC" -> new BigDecimal(value);
+            default -> value;
+        };
+    }
+
+    private Query query(Property<Map<String, Object>> namedParameters) {
+        return Query.builder()
             .id(this.id)
             .type(Query.class.getName())
             .projectId(this.projectId)
@@ -125,17 +411,8 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
             .store(this.store)
             .fetchType(this.fetchType)
             .fetchOne(this.fetchOne)
+            .jobCreationMode(this.jobCreationMode)
+            .namedParameters(namedParameters)
             .build();
-        Query.Output run = task.run(runContext);
-
-        logger.debug("Found '{}' rows from '{}'", run.getSize(), runContext.render(this.sql));
-
-        if (run.getSize() == 0) {
-            return Optional.empty();
-        }
-
-        Execution execution = TriggerService.generateExecution(this, conditionContext, context, run);
-
-        return Optional.of(execution);
     }
 }
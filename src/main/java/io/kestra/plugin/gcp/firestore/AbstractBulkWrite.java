@@ -0,0 +1,248 @@
+package io.kestra.plugin.gcp.firestore;
+
+import java.io.*;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+
+import com.google.cloud.firestore.BulkWriter;
+import com.google.cloud.firestore.BulkWriterException;
+import com.google.cloud.firestore.BulkWriterOptions;
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.DocumentReference;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import static io.kestra.core.utils.Rethrow.throwFunction;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+abstract public class AbstractBulkWrite extends AbstractFirestore implements RunnableTask<AbstractBulkWrite.Output> {
+    // flush regularly so that the writes buffered by the BulkWriter stay bounded on large files
+    private static final int FLUSH_SIZE = 10_000;
+
+    @Schema(
+        title = "Source file URI",
+        description = "Kestra internal storage URI of an ION file with one record per line"
+    )
+    @NotNull
+    @PluginProperty(internalStorageURI = true, group = "source")
+    protected Property<String> from;
+
+    @Schema(
+        title = "Document ID field",
+        description = "Name of the record field holding the document ID (or child path relative to the collection)"
+    )
+    @PluginProperty(group = "main")
+    protected Property<String> idField;
+
+    @Schema(
+        title = "Initial operations per second",
+        description = "Starting rate of the BulkWriter ramp-up throttling; uses the Firestore client default if not set"
+    )
+    @PluginProperty(group = "advanced")
+    protected Property<Integer> initialOpsPerSecond;
+
+    @Schema(
+        title = "Maximum operations per second",
+        description = "Upper bound of the BulkWriter ramp-up throttling; uses the Firestore client default if not set"
+    )
+    @PluginProperty(group = "advanced")
+    protected Property<Integer> maxOpsPerSecond;
+
+    @Schema(
+        title = "Maximum attempts per document",
+        description = "Writes failing with a retryable status (`ABORTED`, `UNAVAILABLE`, `RESOURCE_EXHAUSTED`, `INTERNAL`, `DEADLINE_EXCEEDED`) " +
+            "are retried by the BulkWriter with backoff until this number of attempts is reached"
+    )
+    @Builder.Default
+    @PluginProperty(group = "reliability")
+    protected Property<Integer> maxAttempts = Property.ofValue(10);
+
+    @Schema(
+        title = "Error on failure",
+        description = "If true, the task fails when at least one document could not be written; the failures are always stored in `failedUri`"
+    )
+    @Builder.Default
+    @PluginProperty(group = "reliability")
+    protected Property<Boolean> errorOnFailure = Property.ofValue(true);
+
+    protected abstract void write(RunContext runContext, BulkWriter bulkWriter, CollectionReference collectionRef, Object record) throws Exception;
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+        URI from = new URI(runContext.render(this.from).as(String.class).orElseThrow());
+        int rMaxAttempts = runContext.render(this.maxAttempts).as(Integer.class).orElse(10);
+
+        AtomicLong succeeded = new AtomicLong();
+        Queue<Map<String, Object>> failures = new ConcurrentLinkedQueue<>();
+        Instant start = Instant.now();
+
+        long records;
+        // closing the writer flushes and waits for the pending writes, also when reading or writing a record failed
+        try (
+            var firestore = this.connection(runContext);
+            InputStream inputStream = new BufferedInputStream(runContext.storage().getFile(from), FileSerde.BUFFER_SIZE);
+            BulkWriter bulkWriter = firestore.bulkWriter(this.bulkWriterOptions(runContext))
+        ) {
+            var collectionRef = this.collection(runContext, firestore);
+
+            bulkWriter.addWriteResultListener((documentReference, result) -> succeeded.incrementAndGet());
+            bulkWriter.addWriteErrorListener(error -> {
+                if (error.getFailedAttempts() < rMaxAttempts && isRetryable(error)) {
+                    logger.debug("Retrying '{}' after {} failed attempts: {}", error.getDocumentReference().getPath(), error.getFailedAttempts(), error.getMessage());
+                    return true;
+                }
+
+                failures.add(Map.of(
+                    "path", error.getDocumentReference().getPath(),
+                    "operation", error.getOperationType().name(),
+                    "code", error.getStatus().getCode().name(),
+                    "message", String.valueOf(error.getMessage())
+                ));
+                return false;
+            });
+
+            AtomicLong enqueued = new AtomicLong();
+            records = FileSerde.readAll(inputStream)
+                .map(throwFunction(record -> {
+                    this.write(runContext, bulkWriter, collectionRef, record);
+
+                    if (enqueued.incrementAndGet() % FLUSH_SIZE == 0) {
+                        bulkWriter.flush().get();
+                        logger.debug("Flushed {} documents", enqueued.get());
+                    }
+
+                    return 1L;
+                }))
+                .reduce(0L, Long::sum)
+                .block();
+        }
+
+        Duration duration = Duration.between(start, Instant.now());
+        String collectionId = runContext.render(this.collection).as(String.class).orElse(null);
+
+        runContext.metric(Counter.of("records", records, "collection", collectionId));
+        runContext.metric(Counter.of("failed", failures.size(), "collection", collectionId));
+        runContext.metric(Timer.of("duration", duration, "collection", collectionId));
+
+        logger.info(
+            "Wrote {} documents ({} failed) in {} ({} documents/s)",
+            succeeded.get(),
+            failures.size(),
+            duration,
+            duration.toMillis() > 0 ? succeeded.get() * 1000 / duration.toMillis() : succeeded.get()
+        );
+
+        Output.OutputBuilder output = Output.builder()
+            .records(records)
+            .succeeded(succeeded.get())
+            .failed((long) failures.size());
+
+        if (!failures.isEmpty()) {
+            File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+            try (var outputStream = new BufferedOutputStream(new FileOutputStream(tempFile), FileSerde.BUFFER_SIZE)) {
+                for (Map<String, Object> failure : failures) {
+                    FileSerde.write(outputStream, failure);
+                }
+            }
+            output.failedUri(runContext.storage().putFile(tempFile));
+
+            if (runContext.render(this.errorOnFailure).as(Boolean.class).orElse(true)) {
+                throw new IllegalStateException(
+                    failures.size() + " of " + records + " documents could not be written, first failure on '" +
+                        failures.peek().get("path") + "': " + failures.peek().get("message")
+                );
+            }
+        }
+
+        return output.build();
+    }
+
+    protected DocumentReference documentReference(RunContext runContext, CollectionReference collectionRef, Object record) throws IllegalVariableEvaluationException {
+        if (record instanceof String path) {
+            return collectionRef.document(path);
+        }
+
+        var rIdField = runContext.render(this.idField).as(String.class);
+        if (rIdField.isEmpty()) {
+            return collectionRef.document();
+        }
+
+        if (!(record instanceof Map<?, ?> map) || map.get(rIdField.get()) == null) {
+            throw new IllegalArgumentException("Missing document ID field '" + rIdField.get() + "' on record " + record);
+        }
+
+        return collectionRef.document(map.get(rIdField.get()).toString());
+    }
+
+    private BulkWriterOptions bulkWriterOptions(RunContext runContext) throws IllegalVariableEvaluationException {
+        var builder = BulkWriterOptions.builder();
+
+        var rInitialOpsPerSecond = runContext.render(this.initialOpsPerSecond).as(Integer.class);
+        if (rInitialOpsPerSecond.isPresent()) {
+            builder.setInitialOpsPerSecond(rInitialOpsPerSecond.get());
+        }
+
+        var rMaxOpsPerSecond = runContext.render(this.maxOpsPerSecond).as(Integer.class);
+        if (rMaxOpsPerSecond.isPresent()) {
+            builder.setMaxOpsPerSecond(rMaxOpsPerSecond.get());
+        }
+
+        return builder.build();
+    }
+
+    private static boolean isRetryable(BulkWriterException error) {
+        return switch (error.getStatus().getCode()) {
+            case ABORTED, UNAVAILABLE, RESOURCE_EXHAUSTED, INTERNAL, DEADLINE_EXCEEDED -> true;
+            default -> false;
+        };
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Number of records read from the source file"
+        )
+        private final Long records;
+
+        @Schema(
+            title = "Number of documents successfully written"
+        )
+        private final Long succeeded;
+
+        @Schema(
+            title = "Number of documents that could not be written"
+        )
+        private final Long failed;
+
+        @Schema(
+            title = "URI of the file listing the failed documents",
+            description = "One record per failed document with its `path`, `operation`, status `code` and `message`"
+        )
+        private final URI failedUri;
+    }
+}
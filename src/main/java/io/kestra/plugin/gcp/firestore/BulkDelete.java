@@ -0,0 +1,61 @@
+package io.kestra.plugin.gcp.firestore;
+
+import com.google.cloud.firestore.BulkWriter;
+import com.google.cloud.firestore.CollectionReference;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.runners.RunContext;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Delete Firestore documents in bulk",
+    description = "Reads document paths from an ION file and deletes them through the Firestore BulkWriter, " +
+        "which batches the deletes, ramps up throughput progressively and retries transient failures. " +
+        "Each record is either a child path relative to the collection, or a map holding it in `idField`."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Delete the documents whose IDs were returned by a query",
+            full = true,
+            code = """
+                id: gcp_firestore_bulk_delete
+                namespace: company.team
+
+                tasks:
+                  - id: bulk_delete
+                    type: io.kestra.plugin.gcp.firestore.BulkDelete
+                    collection: "persons"
+                    from: "{{ outputs.query.uri }}"
+                    idField: id
+                """
+        )
+    },
+    metrics = {
+        @Metric(name = "records", type = Counter.TYPE, unit = "records", description = "Number of records read from the source file."),
+        @Metric(name = "failed", type = Counter.TYPE, unit = "records", description = "Number of documents that could not be deleted."),
+        @Metric(name = "duration", type = Timer.TYPE, description = "Time spent deleting the documents.")
+    }
+)
+public class BulkDelete extends AbstractBulkWrite {
+    @Override
+    protected void write(RunContext runContext, BulkWriter bulkWriter, CollectionReference collectionRef, Object record) throws Exception {
+        if (!(record instanceof String) && this.idField == null) {
+            throw new IllegalArgumentException("`idField` is required to delete documents from records of type '" + record.getClass().getName() + "'");
+        }
+
+        bulkWriter.delete(this.documentReference(runContext, collectionRef, record));
+    }
+}
@@ -0,0 +1,65 @@
+package io.kestra.plugin.gcp.firestore;
+
+import java.util.Map;
+
+import com.google.cloud.firestore.BulkWriter;
+import com.google.cloud.firestore.CollectionReference;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.runners.RunContext;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Create or replace Firestore documents in bulk",
+    description = "Reads records from an ION file and writes each of them as a document through the Firestore BulkWriter, " +
+        "which batches the writes, ramps up throughput progressively and retries transient failures. " +
+        "Generates an ID for each document if `idField` is not set."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Write every row of a query result as a document keyed by its `id` field",
+            full = true,
+            code = """
+                id: gcp_firestore_bulk_set
+                namespace: company.team
+
+                tasks:
+                  - id: bulk_set
+                    type: io.kestra.plugin.gcp.firestore.BulkSet
+                    collection: "persons"
+                    from: "{{ outputs.query.uri }}"
+                    idField: id
+                    maxOpsPerSecond: 2000
+                """
+        )
+    },
+    metrics = {
+        @Metric(name = "records", type = Counter.TYPE, unit = "records", description = "Number of records read from the source file."),
+        @Metric(name = "failed", type = Counter.TYPE, unit = "records", description = "Number of documents that could not be written."),
+        @Metric(name = "duration", type = Timer.TYPE, description = "Time spent writing the documents.")
+    }
+)
+public class BulkSet extends AbstractBulkWrite {
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void write(RunContext runContext, BulkWriter bulkWriter, CollectionReference collectionRef, Object record) throws Exception {
+        if (!(record instanceof Map)) {
+            throw new IllegalArgumentException("Unable to write a document from type '" + record.getClass().getName() + "'");
+        }
+
+        bulkWriter.set(this.documentReference(runContext, collectionRef, record), (Map<String, Object>) record);
+    }
+}
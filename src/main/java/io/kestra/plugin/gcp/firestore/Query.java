@@ -2,16 +2,24 @@ package io.kestra.plugin.gcp.firestore;
 
 import java.io.*;
 import java.net.URI;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 
 import org.apache.commons.lang3.tuple.Pair;
 
 import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.Firestore;
 import com.google.cloud.firestore.Query.Direction;
 import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.QueryPartition;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.Example;
@@ -31,8 +39,12 @@ import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import static io.kestra.core.utils.Rethrow.throwConsumer;
+import static io.kestra.core.utils.Rethrow.throwFunction;
 
 @SuperBuilder
 @ToString
@@ -41,7 +53,8 @@ import static io.kestra.core.utils.Rethrow.throwConsumer;
 @NoArgsConstructor
 @Schema(
     title = "Query documents from Firestore",
-    description = "Executes a Firestore query with optional filters, ordering, pagination, and fetch mode. Supports fetching first/all rows or storing results to a file."
+    description = "Executes a Firestore query with optional filters, ordering, field projection, pagination, and fetch mode. Supports fetching first/all rows or storing results to a file; " +
+        "STORE mode streams the results page by page so large collections are never held in memory."
 )
 @Plugin(
     examples = {
@@ -67,10 +80,19 @@ import static io.kestra.core.utils.Rethrow.throwConsumer;
             type = Counter.TYPE,
             unit = "records",
             description = "Number of records queried from the Firestore collection."
+        ),
+        @Metric(
+            name = "partitions",
+            type = Counter.TYPE,
+            description = "Number of partitions read concurrently when `partitions` is set."
         )
     }
 )
 public class Query extends AbstractFirestore implements RunnableTask<FetchOutput> {
+    // document names are ordered by the UTF-8 bytes of their IDs, these bound every ID of a collection
+    private static final String LOWEST_DOCUMENT_ID = "\u0000";
+    private static final String HIGHEST_DOCUMENT_ID = "\uDBFF\uDFFF\uDBFF\uDFFF";
+
     @Schema(
         title = "Fetch type",
         description = "FETCH_ONE returns first row; FETCH returns all rows in output; STORE writes rows to a file; NONE returns nothing."
@@ -114,41 +136,53 @@ public class Query extends AbstractFirestore implements RunnableTask<FetchOutput
     @PluginProperty(group = "processing")
     private Property<Integer> limit;
 
+    @Schema(
+        title = "Field projection",
+        description = "Only the listed fields are fetched from Firestore, reducing the transferred payload and memory footprint."
+    )
+    @PluginProperty(group = "processing")
+    private Property<List<String>> select;
+
+    @Schema(
+        title = "Page size used in STORE mode",
+        description = "In STORE mode, documents are read page by page using `startAfter` cursors and each page is written " +
+            "to the file as soon as it arrives, so only one page is held in memory at a time."
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> pageSize = Property.ofValue(1000);
+
+    @Schema(
+        title = "Number of partitions to read concurrently in STORE mode",
+        description = "When greater than 1, the collection group is split with `CollectionGroup.getPartitions` and the partitions are read " +
+            "concurrently, each into its own file, then merged in partition order into the stored file. " +
+            "Only the documents of the configured collection path are read, but the partitions are computed over every collection sharing its ID, so some partitions may be empty. " +
+            "Cannot be combined with `filters`, `orderBy`, `offset` or `limit`."
+    )
+    @PluginProperty(group = "execution")
+    private Property<Integer> partitions;
+
     @Override
     public FetchOutput run(RunContext runContext) throws Exception {
         try (var firestore = this.connection(runContext)) {
             var collectionRef = this.collection(runContext, firestore);
 
-            var query = getQuery(runContext, collectionRef, this.filters);
-
-            if (this.orderBy != null) {
-                query.orderBy(
-                    runContext.render(this.orderBy).as(String.class).orElseThrow(),
-                    runContext.render(this.orderDirection).as(Direction.class).orElseThrow()
-                );
-            }
-
-            if (this.offset != null) {
-                query.offset(runContext.render(this.offset).as(Integer.class).orElseThrow());
-            }
-
-            if (this.limit != null) {
-                query.limit(runContext.render(this.limit).as(Integer.class).orElseThrow());
-            }
-
-            var queryDocumentSnapshots = query.get().get().getDocuments();
+            var hiddenFields = this.hiddenFields(runContext);
+            var query = this.query(runContext, collectionRef, hiddenFields);
+            var rOffset = runContext.render(this.offset).as(Integer.class);
+            var rLimit = runContext.render(this.limit).as(Integer.class);
 
             var outputBuilder = FetchOutput.builder();
             switch (runContext.render(fetchType).as(FetchType.class).orElseThrow()) {
                 case FETCH:
-                    Pair<List<Object>, Long> fetch = this.fetch(queryDocumentSnapshots);
+                    Pair<List<Object>, Long> fetch = this.fetch(this.documents(query, rOffset, rLimit), hiddenFields);
                     outputBuilder
                         .rows(fetch.getLeft())
                         .size(fetch.getRight());
                     break;
 
                 case FETCH_ONE:
-                    var o = this.fetchOne(queryDocumentSnapshots);
+                    var o = this.fetchOne(this.documents(query, rOffset, rLimit), hiddenFields);
 
                     outputBuilder
                         .row(o)
@@ -156,7 +190,11 @@ public class Query extends AbstractFirestore implements RunnableTask<FetchOutput
                     break;
 
                 case STORE:
-                    Pair<URI, Long> store = this.store(runContext, queryDocumentSnapshots);
+                    var rPageSize = runContext.render(this.pageSize).as(Integer.class).orElse(1000);
+                    var rPartitions = runContext.render(this.partitions).as(Integer.class).orElse(1);
+                    Pair<URI, Long> store = rPartitions > 1 ?
+                        this.storePartitioned(runContext, firestore, collectionRef, rPartitions, rPageSize) :
+                        this.store(runContext, query, rOffset.orElse(null), rLimit.orElse(null), rPageSize, hiddenFields);
                     outputBuilder
                         .uri(store.getLeft())
                         .size(store.getRight());
@@ -176,6 +214,95 @@ public class Query extends AbstractFirestore implements RunnableTask<FetchOutput
         }
     }
 
+    private com.google.cloud.firestore.Query query(RunContext runContext, CollectionReference collectionRef, List<String> hiddenFields) throws IllegalVariableEvaluationException {
+        var query = getQuery(runContext, collectionRef, this.filters);
+
+        if (this.orderBy != null) {
+            query = query.orderBy(
+                runContext.render(this.orderBy).as(String.class).orElseThrow(),
+                runContext.render(this.orderDirection).as(Direction.class).orElseThrow()
+            );
+        }
+
+        var rSelect = new ArrayList<>(runContext.render(this.select).asList(String.class));
+        if (!rSelect.isEmpty()) {
+            rSelect.addAll(hiddenFields);
+            query = query.select(rSelect.toArray(new String[0]));
+        }
+
+        return query;
+    }
+
+    /**
+     * The fields the query is ordered on that the `select` projection doesn't include: the `orderBy` field and the fields
+     * of the inequality filters, which Firestore implicitly orders on. They are still projected, as the `startAfter`
+     * cursor of the next page is built from their values, then removed from the documents returned.
+     */
+    private List<String> hiddenFields(RunContext runContext) throws IllegalVariableEvaluationException {
+        var rSelect = runContext.render(this.select).asList(String.class);
+        if (rSelect.isEmpty()) {
+            return List.of();
+        }
+
+        var orderedFields = new ArrayList<String>();
+        if (this.filters != null) {
+            for (Filter filter : this.filters) {
+                if (runContext.render(filter.getOperator()).as(QueryOperator.class).orElseThrow() != QueryOperator.EQUAL_TO) {
+                    orderedFields.add(runContext.render(filter.getField()).as(String.class).orElseThrow());
+                }
+            }
+        }
+        runContext.render(this.orderBy).as(String.class).ifPresent(orderedFields::add);
+
+        return orderedFields.stream()
+            .filter(field -> rSelect.stream().noneMatch(selectedField -> field.equals(selectedField) || field.startsWith(selectedField + ".")))
+            .distinct()
+            .toList();
+    }
+
+    private static Map<String, Object> data(QueryDocumentSnapshot document, List<String> hiddenFields) {
+        Map<String, Object> data = document.getData();
+        for (String field : hiddenFields) {
+            data = withoutField(data, field);
+        }
+
+        return data;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> withoutField(Map<String, Object> data, String path) {
+        var result = new LinkedHashMap<>(data);
+        int dot = path.indexOf('.');
+
+        if (dot < 0) {
+            result.remove(path);
+        } else if (result.get(path.substring(0, dot)) instanceof Map<?, ?> nested) {
+            var key = path.substring(0, dot);
+            var remaining = withoutField((Map<String, Object>) nested, path.substring(dot + 1));
+
+            // the parent map only exists because of the projection of the hidden field
+            if (remaining.isEmpty()) {
+                result.remove(key);
+            } else {
+                result.put(key, remaining);
+            }
+        }
+
+        return result;
+    }
+
+    private List<QueryDocumentSnapshot> documents(com.google.cloud.firestore.Query query, Optional<Integer> offset, Optional<Integer> limit) throws Exception {
+        if (offset.isPresent()) {
+            query = query.offset(offset.get());
+        }
+
+        if (limit.isPresent()) {
+            query = query.limit(limit.get());
+        }
+
+        return query.get().get().getDocuments();
+    }
+
     private com.google.cloud.firestore.Query getQuery(RunContext runContext, CollectionReference collectionRef, List<Filter> filters)
         throws IllegalVariableEvaluationException {
         // this is a no-op but allow to create an empty query
@@ -236,12 +363,11 @@ public class Query extends AbstractFirestore implements RunnableTask<FetchOutput
         throw new IllegalArgumentException("Unknown QueryOperator: " + filter.getOperator());
     }
 
-    private Pair<URI, Long> store(RunContext runContext, List<QueryDocumentSnapshot> documents) throws IOException {
+    private Pair<URI, Long> store(RunContext runContext, com.google.cloud.firestore.Query query, Integer offset, Integer limit, int pageSize, List<String> hiddenFields) throws Exception {
         File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
 
         try (var output = new BufferedOutputStream(new FileOutputStream(tempFile), FileSerde.BUFFER_SIZE)) {
-            Flux<Map<String, Object>> flux = Flux.fromIterable(documents).map(snapshot -> snapshot.getData());
-            Long count = FileSerde.writeAll(output, flux).block();
+            long count = this.storePages(query, offset, limit, pageSize, document -> true, hiddenFields, output);
 
             return Pair.of(
                 runContext.storage().putFile(tempFile),
@@ -250,25 +376,132 @@ public class Query extends AbstractFirestore implements RunnableTask<FetchOutput
         }
     }
 
-    private Pair<List<Object>, Long> fetch(List<QueryDocumentSnapshot> documents) {
+    private Pair<URI, Long> storePartitioned(RunContext runContext, Firestore firestore, CollectionReference collectionRef, int partitionCount, int pageSize) throws Exception {
+        if ((this.filters != null && !this.filters.isEmpty()) || this.orderBy != null || this.offset != null || this.limit != null) {
+            throw new IllegalArgumentException("'partitions' cannot be combined with 'filters', 'orderBy', 'offset' or 'limit'");
+        }
+
+        var rSelect = runContext.render(this.select).asList(String.class);
+        List<QueryPartition> queryPartitions = firestore.collectionGroup(collectionRef.getId()).getPartitions(partitionCount).get();
+
+        // the collection group also holds the same-named collections under other documents: the documents are bounded
+        // to the names of the collection path, and their parent is checked as nested same-named collections of its own
+        // documents still fall within those bounds
+        String collectionPath = collectionRef.getPath();
+        Predicate<QueryDocumentSnapshot> inCollection = document -> document.getReference().getParent().getPath().equals(collectionPath);
+
+        runContext.logger().debug("Collection group '{}' split into {} partitions", collectionRef.getId(), queryPartitions.size());
+        runContext.metric(Counter.of("partitions", queryPartitions.size(), "collection", collectionRef.getId()));
+
+        List<Pair<File, Long>> parts = Flux.fromIterable(queryPartitions)
+            .index()
+            .parallel(partitionCount)
+            .runOn(Schedulers.boundedElastic())
+            .map(throwFunction(indexed -> {
+                var partitionQuery = indexed.getT2().createQuery()
+                    .whereGreaterThan(FieldPath.documentId(), collectionRef.document(LOWEST_DOCUMENT_ID))
+                    .whereLessThan(FieldPath.documentId(), collectionRef.document(HIGHEST_DOCUMENT_ID));
+                if (!rSelect.isEmpty()) {
+                    partitionQuery = partitionQuery.select(rSelect.toArray(new String[0]));
+                }
+
+                File partFile = runContext.workingDir().createTempFile(".ion").toFile();
+                try (var output = new BufferedOutputStream(new FileOutputStream(partFile), FileSerde.BUFFER_SIZE)) {
+                    long count = this.storePages(partitionQuery, null, null, pageSize, inCollection, List.of(), output);
+                    return Tuples.of(indexed.getT1(), Pair.of(partFile, count));
+                }
+            }))
+            .sequential()
+            .sort(Comparator.comparing(Tuple2::getT1))
+            .map(Tuple2::getT2)
+            .collectList()
+            .block();
+
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        long count = 0;
+
+        try (var output = new BufferedOutputStream(new FileOutputStream(tempFile), FileSerde.BUFFER_SIZE)) {
+            for (Pair<File, Long> part : parts) {
+                Files.copy(part.getLeft().toPath(), output);
+                Files.delete(part.getLeft().toPath());
+                count += part.getRight();
+            }
+        }
+
+        return Pair.of(
+            runContext.storage().putFile(tempFile),
+            count
+        );
+    }
+
+    /**
+     * Reads the query page by page, resuming after the last document of the previous page, and writes each page as it arrives.
+     * The offset only applies to the first page since the cursor already skips the documents read before.
+     * Only the documents matching the filter are written and counted.
+     */
+    private long storePages(
+        com.google.cloud.firestore.Query query,
+        Integer offset,
+        Integer limit,
+        int pageSize,
+        Predicate<QueryDocumentSnapshot> filter,
+        List<String> hiddenFields,
+        OutputStream output
+    ) throws Exception {
+        long count = 0;
+        long written = 0;
+        QueryDocumentSnapshot last = null;
+
+        while (true) {
+            int size = limit == null ? pageSize : (int) Math.min(pageSize, limit - count);
+            if (size <= 0) {
+                break;
+            }
+
+            com.google.cloud.firestore.Query page;
+            if (last == null) {
+                page = offset == null ? query : query.offset(offset);
+            } else {
+                page = query.startAfter(last);
+            }
+
+            List<QueryDocumentSnapshot> documents = page.limit(size).get().get().getDocuments();
+            for (QueryDocumentSnapshot document : documents) {
+                if (filter.test(document)) {
+                    FileSerde.write(output, data(document, hiddenFields));
+                    written++;
+                }
+            }
+            count += documents.size();
+
+            if (documents.size() < size) {
+                break;
+            }
+            last = documents.getLast();
+        }
+
+        return written;
+    }
+
+    private Pair<List<Object>, Long> fetch(List<QueryDocumentSnapshot> documents, List<String> hiddenFields) {
         List<Object> result = new ArrayList<>();
         AtomicLong count = new AtomicLong();
 
         documents.forEach(throwConsumer(snapshot ->
         {
             count.incrementAndGet();
-            result.add(snapshot.getData());
+            result.add(data(snapshot, hiddenFields));
         }));
 
         return Pair.of(result, count.get());
     }
 
-    private Map<String, Object> fetchOne(List<QueryDocumentSnapshot> documents) {
+    private Map<String, Object> fetchOne(List<QueryDocumentSnapshot> documents, List<String> hiddenFields) {
         if (documents.isEmpty()) {
             return null;
         }
 
-        return documents.get(0).getData();
+        return data(documents.get(0), hiddenFields);
     }
 
     @SuperBuilder
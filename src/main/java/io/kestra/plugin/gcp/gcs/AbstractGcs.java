@@ -3,15 +3,25 @@ package io.kestra.plugin.gcp.gcs;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.security.GeneralSecurityException;
 import java.util.Map;
 
+import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.http.HttpBackOffIOExceptionHandler;
+import com.google.api.client.http.HttpBackOffUnsuccessfulResponseHandler;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.util.ExponentialBackOff;
+import com.google.auth.http.HttpCredentialsAdapter;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.gcp.AbstractTask;
 
+import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -23,10 +33,21 @@ import lombok.experimental.SuperBuilder;
 @EqualsAndHashCode
 @Getter
 @NoArgsConstructor
-public abstract class AbstractGcs extends AbstractTask {
+public abstract class AbstractGcs extends AbstractTask implements TransportInterface {
+    @Builder.Default
+    protected Property<Transport> transport = Property.ofValue(Transport.HTTP);
+
+    @Builder.Default
+    protected Property<Boolean> directPath = Property.ofValue(true);
+
     Storage connection(RunContext runContext) throws IOException, IllegalVariableEvaluationException {
-        return StorageOptions
-            .newBuilder()
+        StorageOptions.Builder builder = switch (runContext.render(this.transport).as(Transport.class).orElse(Transport.HTTP)) {
+            case HTTP -> StorageOptions.http();
+            case GRPC -> StorageOptions.grpc()
+                .setAttemptDirectPath(runContext.render(this.directPath).as(Boolean.class).orElse(true));
+        };
+
+        return builder
             .setCredentials(this.credentials(runContext))
             .setProjectId(runContext.render(projectId).as(String.class).orElse(null))
             .setHeaderProvider(() -> Map.of("user-agent", "Kestra/" + runContext.version()))
@@ -34,6 +55,40 @@ public abstract class AbstractGcs extends AbstractTask {
             .getService();
     }
 
+    /**
+     * Low-level JSON API client, for the operations whose state isn't exposed by {@link Storage}, like rewrite tokens;
+     * always on the HTTP transport.
+     */
+    com.google.api.services.storage.Storage jsonConnection(RunContext runContext) throws IOException, GeneralSecurityException, IllegalVariableEvaluationException {
+        return new com.google.api.services.storage.Storage.Builder(
+            GoogleNetHttpTransport.newTrustedTransport(),
+            GsonFactory.getDefaultInstance(),
+            jsonRequestInitializer(new HttpCredentialsAdapter(this.credentials(runContext)), "Kestra/" + runContext.version())
+        )
+            .setApplicationName("Kestra")
+            .build();
+    }
+
+    /**
+     * Authenticates the JSON API requests and retries them with an exponential backoff on 408, 429 and 5xx responses
+     * and on I/O errors, as the {@link Storage} client does; a 401 first refreshes the credentials.
+     */
+    static HttpRequestInitializer jsonRequestInitializer(HttpCredentialsAdapter credentialsAdapter, String userAgent) {
+        return request -> {
+            credentialsAdapter.initialize(request);
+            request.getHeaders().setUserAgent(userAgent);
+
+            HttpBackOffUnsuccessfulResponseHandler backOffHandler = new HttpBackOffUnsuccessfulResponseHandler(new ExponentialBackOff())
+                .setBackOffRequired(response -> response.getStatusCode() == 408 || response.getStatusCode() == 429 || response.getStatusCode() >= 500);
+
+            request.setUnsuccessfulResponseHandler((unsuccessful, response, supportsRetry) ->
+                credentialsAdapter.handleResponse(unsuccessful, response, supportsRetry) ||
+                    backOffHandler.handleResponse(unsuccessful, response, supportsRetry)
+            );
+            request.setIOExceptionHandler(new HttpBackOffIOExceptionHandler(new ExponentialBackOff()));
+        };
+    }
+
     static URI encode(RunContext runContext, String blob) throws IllegalVariableEvaluationException, URISyntaxException {
         return new URI(encode(runContext.render(blob)));
     }
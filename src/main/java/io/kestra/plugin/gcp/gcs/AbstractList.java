@@ -2,7 +2,9 @@ package io.kestra.plugin.gcp.gcs;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Spliterator;
+import java.util.stream.Stream;
 
 import com.google.api.gax.paging.Page;
 import com.google.cloud.storage.Storage;
@@ -40,17 +42,40 @@ public abstract class AbstractList extends AbstractGcs implements ListInterface
 
     protected Property<String> regExp;
 
+    protected Property<String> matchGlob;
+
+    protected Property<String> startOffset;
+
+    protected Property<String> endOffset;
+
+    @Schema(
+        title = "Fields",
+        description = "Metadata fields to fetch for each blob, on top of the bucket and name that are always fetched; " +
+            "fetches all fields if not set"
+    )
+    @PluginProperty(group = "advanced")
+    protected Property<java.util.List<Storage.BlobField>> fields;
+
     public Spliterator<com.google.cloud.storage.Blob> iterator(Storage connection, URI from, RunContext runContext) throws IllegalVariableEvaluationException {
-        Page<com.google.cloud.storage.Blob> list = connection.list(from.getAuthority(), options(from, runContext));
+        return this.list(connection, from, runContext).iterateAll().spliterator();
+    }
 
-        return list.iterateAll().spliterator();
+    protected Page<com.google.cloud.storage.Blob> list(Storage connection, URI from, RunContext runContext) throws IllegalVariableEvaluationException {
+        return connection.list(from.getAuthority(), Iterables.toArray(this.options(from, runContext), Storage.BlobListOption.class));
     }
 
     protected boolean filter(com.google.cloud.storage.Blob blob, String regExp) {
         return regExp == null || Blob.uri(blob).toString().matches(regExp);
     }
 
-    private Storage.BlobListOption[] options(URI from, RunContext runContext) throws IllegalVariableEvaluationException {
+    /**
+     * Fields always fetched when a {@link #fields} mask is set, because the task reads them from the listed blobs.
+     */
+    protected Storage.BlobField[] requiredFields() {
+        return new Storage.BlobField[0];
+    }
+
+    protected java.util.List<Storage.BlobListOption> options(URI from, RunContext runContext) throws IllegalVariableEvaluationException {
         java.util.List<Storage.BlobListOption> options = new ArrayList<>();
 
         if (!from.getPath().equals("")) {
@@ -65,6 +90,22 @@ public abstract class AbstractList extends AbstractGcs implements ListInterface
             options.add(Storage.BlobListOption.currentDirectory());
         }
 
-        return Iterables.toArray(options, Storage.BlobListOption.class);
+        runContext.render(this.matchGlob).as(String.class)
+            .ifPresent(glob -> options.add(Storage.BlobListOption.matchGlob(glob)));
+        runContext.render(this.startOffset).as(String.class)
+            .ifPresent(offset -> options.add(Storage.BlobListOption.startOffset(offset)));
+        runContext.render(this.endOffset).as(String.class)
+            .ifPresent(offset -> options.add(Storage.BlobListOption.endOffset(offset)));
+
+        java.util.List<Storage.BlobField> rFields = runContext.render(this.fields).asList(Storage.BlobField.class);
+        if (!rFields.isEmpty()) {
+            options.add(Storage.BlobListOption.fields(
+                Stream.concat(rFields.stream(), Arrays.stream(this.requiredFields()))
+                    .distinct()
+                    .toArray(Storage.BlobField[]::new)
+            ));
+        }
+
+        return options;
     }
 }
@@ -2,12 +2,16 @@ package io.kestra.plugin.gcp.gcs;
 
 import java.io.FileNotFoundException;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.slf4j.Logger;
 
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.common.collect.Lists;
 
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Metric;
@@ -17,11 +21,15 @@ import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.utils.IdUtils;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @SuperBuilder
 @ToString
@@ -44,6 +52,22 @@ import lombok.experimental.SuperBuilder;
                       from: "gs://my_bucket/dir/"
                     to: "gs://my_bucket/destination/my-compose-file.txt"
                 """
+        ),
+        @Example(
+            title = "Merge the thousands of shards of an export into a single file",
+            full = true,
+            code = """
+                id: gcp_gcs_compose_shards
+                namespace: company.team
+
+                tasks:
+                  - id: compose
+                    type: io.kestra.plugin.gcp.gcs.Compose
+                    list:
+                      from: "gs://my_bucket/exports/orders/"
+                      regExp: ".*\\.csv$"
+                    to: "gs://my_bucket/exports/orders.csv"
+                """
         )
     },
     metrics = {
@@ -58,20 +82,25 @@ import lombok.experimental.SuperBuilder;
             type = Counter.TYPE,
             unit = "bytes",
             description = "Size of the composed file."
+        ),
+        @Metric(
+            name = "intermediates",
+            type = Counter.TYPE,
+            unit = "files",
+            description = "Number of temporary intermediate objects composed, when there are more than 32 source files."
         )
     }
 )
 @Schema(
     title = "Compose multiple GCS objects into one",
-    description = "Concatenates up to 32 source objects into a single destination object in GCS."
+    description = "Concatenates the listed source objects into a single destination object in GCS, in listing order. " +
+        "A compose request takes at most 32 sources: above that, the sources are composed by groups of 32 into temporary intermediates, " +
+        "in parallel, round after round until at most 32 objects remain, which are composed into the destination. " +
+        "The intermediates are created next to the destination and deleted once done."
 )
 public class Compose extends AbstractGcs implements RunnableTask<Compose.Output> {
     /**
-     * GCS Compose API limit.
-     *
-     * We do not use the List default (25) here because Compose only merges
-     * existing GCS objects and does not impact Kestra execution or storage.
-     * The only real limit is imposed by GCS itself: max 32 source objects.
+     * GCS Compose API limit of source objects per request.
      *
      * See: https://docs.cloud.google.com/storage/docs/json_api/v1/objects/compose
      */
@@ -100,6 +129,22 @@ public class Compose extends AbstractGcs implements RunnableTask<Compose.Output>
     @Builder.Default
     private Property<Boolean> allowEmpty = Property.ofValue(false);
 
+    @Schema(
+        title = "Max files",
+        description = "The maximum number of source files to compose, the following ones being skipped. No limit if not set: " +
+            "above 32 files, the limit of a single compose request, the files are composed through temporary intermediates."
+    )
+    @PluginProperty(group = "processing")
+    private Property<Integer> maxFiles;
+
+    @Schema(
+        title = "Number of compose requests running concurrently",
+        description = "Only used when there are more than 32 source files, to compose the intermediates of a round"
+    )
+    @PluginProperty(group = "execution")
+    @Builder.Default
+    private Property<Integer> parallelism = Property.ofValue(8);
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         Storage connection = this.connection(runContext);
@@ -112,21 +157,23 @@ public class Compose extends AbstractGcs implements RunnableTask<Compose.Output>
             .newBuilder(BlobId.of(to.getScheme().equals("gs") ? to.getAuthority() : to.getScheme(), blobPath(to.getPath().substring(1))))
             .build();
 
-        Storage.ComposeRequest.Builder builder = Storage.ComposeRequest.newBuilder()
-            .setTarget(destination);
-
         io.kestra.plugin.gcp.gcs.List listActions = io.kestra.plugin.gcp.gcs.List.builder()
             .id(this.id)
             .type(io.kestra.plugin.gcp.gcs.List.class.getName())
             .projectId(this.projectId)
             .serviceAccount(this.serviceAccount)
             .scopes(this.scopes)
+            .transport(this.transport)
+            .directPath(this.directPath)
             .from(this.list.getFrom())
             .filter(Property.ofValue(ListInterface.Filter.FILES))
             .listingType(this.list.getListingType() != null ? this.list.getListingType() : Property.ofValue(ListInterface.ListingType.DIRECTORY))
             .regExp(this.list.getRegExp())
-            // we force the GCS Compose API limit (32) instead of the List default (25)
-            .maxFiles(Property.ofValue(GCS_COMPOSE_MAX_SOURCE_OBJECTS))
+            .matchGlob(this.list.getMatchGlob())
+            .startOffset(this.list.getStartOffset())
+            .endOffset(this.list.getEndOffset())
+            // not the List default (25): every listed file is composed unless a limit is requested
+            .maxFiles(this.maxFiles != null ? this.maxFiles : Property.ofValue(Integer.MAX_VALUE))
             .build();
 
         io.kestra.plugin.gcp.gcs.List.Output run = listActions.run(runContext);
@@ -135,17 +182,34 @@ public class Compose extends AbstractGcs implements RunnableTask<Compose.Output>
             throw new FileNotFoundException("No files founds");
         }
 
-        run.getBlobs()
-            .forEach(blob -> builder.addSource(blob.getUri().getPath().substring(1)));
+        java.util.List<String> sources = run.getBlobs()
+            .stream()
+            .map(blob -> blob.getUri().getPath().substring(1))
+            .toList();
 
-        Storage.ComposeRequest composeRequest = builder.build();
+        Queue<BlobId> intermediates = new ConcurrentLinkedQueue<>();
+        com.google.cloud.storage.Blob compose;
+        try {
+            sources = this.composeIntermediates(runContext, connection, destination, sources, intermediates);
 
-        logger.debug("Compose from '{}' to '{}'", composeRequest.getSourceBlobs(), to);
+            Storage.ComposeRequest composeRequest = Storage.ComposeRequest.newBuilder()
+                .setTarget(destination)
+                .addSource(sources)
+                .build();
 
-        com.google.cloud.storage.Blob compose = connection.compose(composeRequest);
+            logger.debug("Compose from '{}' to '{}'", composeRequest.getSourceBlobs(), to);
+
+            compose = connection.compose(composeRequest);
+        } finally {
+            if (!intermediates.isEmpty()) {
+                logger.debug("Deleting {} intermediate objects", intermediates.size());
+                connection.delete(new ArrayList<>(intermediates));
+            }
+        }
 
         runContext.metric(Counter.of("count", run.getBlobs().size()));
         runContext.metric(Counter.of("size", compose.getSize()));
+        runContext.metric(Counter.of("intermediates", intermediates.size()));
 
         return Output
             .builder()
@@ -153,6 +217,54 @@ public class Compose extends AbstractGcs implements RunnableTask<Compose.Output>
             .build();
     }
 
+    /**
+     * Compose the sources by groups of 32, round after round, until they can be composed in a single request.
+     * Groups are made of consecutive sources and the intermediates keep the order of their group, so that the
+     * destination is the concatenation of the sources in their original order.
+     */
+    private java.util.List<String> composeIntermediates(
+        RunContext runContext,
+        Storage connection,
+        BlobInfo destination,
+        java.util.List<String> sources,
+        Queue<BlobId> intermediates
+    ) throws Exception {
+        int rParallelism = runContext.render(this.parallelism).as(Integer.class).orElse(8);
+        String prefix = destination.getName() + ".compose-" + IdUtils.create() + "/";
+
+        java.util.List<String> current = sources;
+        for (int round = 1; current.size() > GCS_COMPOSE_MAX_SOURCE_OBJECTS; round++) {
+            java.util.List<java.util.List<String>> groups = Lists.partition(current, GCS_COMPOSE_MAX_SOURCE_OBJECTS);
+            runContext.logger().debug("Composing {} objects into {} intermediates, round {}", current.size(), groups.size(), round);
+
+            int currentRound = round;
+            current = Flux.fromIterable(groups)
+                .index()
+                .flatMapSequential(
+                    group -> Mono
+                        .fromCallable(() -> {
+                            BlobInfo intermediate = BlobInfo
+                                .newBuilder(BlobId.of(destination.getBucket(), String.format("%s%03d-%06d", prefix, currentRound, group.getT1())))
+                                .setContentType(destination.getContentType())
+                                .build();
+                            intermediates.add(intermediate.getBlobId());
+
+                            return connection.compose(Storage.ComposeRequest.newBuilder()
+                                .setTarget(intermediate)
+                                .addSource(group.getT2())
+                                .build()
+                            ).getName();
+                        })
+                        .subscribeOn(Schedulers.boundedElastic()),
+                    rParallelism
+                )
+                .collectList()
+                .block();
+        }
+
+        return current;
+    }
+
     @Builder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
@@ -173,5 +285,11 @@ public class Compose extends AbstractGcs implements RunnableTask<Compose.Output>
         private final Property<io.kestra.plugin.gcp.gcs.List.ListingType> listingType = Property.ofValue(ListingType.DIRECTORY);
 
         private Property<String> regExp;
+
+        private Property<String> matchGlob;
+
+        private Property<String> startOffset;
+
+        private Property<String> endOffset;
     }
 }
@@ -1,10 +1,18 @@
 package io.kestra.plugin.gcp.gcs;
 
 import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 
-import com.google.cloud.storage.Blob;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.services.storage.model.RewriteResponse;
+import com.google.api.services.storage.model.StorageObject;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.Storage;
 
@@ -12,8 +20,10 @@ import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.triggers.StatefulTriggerService;
 import io.kestra.core.runners.RunContext;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -21,6 +31,8 @@ import lombok.*;
 import lombok.experimental.SuperBuilder;
 import io.kestra.core.models.annotations.PluginProperty;
 
+import static io.kestra.core.models.triggers.StatefulTriggerService.*;
+
 @SuperBuilder
 @ToString
 @EqualsAndHashCode
@@ -28,7 +40,10 @@ import io.kestra.core.models.annotations.PluginProperty;
 @NoArgsConstructor
 @Schema(
     title = "Copy an object between GCS buckets",
-    description = "Copies an object to a destination path; optionally deletes the source after a successful copy."
+    description = "Copies an object to a destination path with the rewrite API; optionally deletes the source after a successful copy. " +
+        "Copies across locations or storage classes may take several rewrite calls, each one copying up to `megabytesPerCall` " +
+        "and retried with a backoff on transient errors; " +
+        "with `resumable`, the rewrite token is checkpointed after each call so that a restarted task continues the copy where it stopped."
 )
 @Plugin(
     examples = {
@@ -46,6 +61,22 @@ import io.kestra.core.models.annotations.PluginProperty;
                     to: "gs://my_bucket/archive/file.csv"
                     delete: true
                 """
+        ),
+        @Example(
+            title = "Copy a large object to another region, resuming the copy if the task is restarted",
+            full = true,
+            code = """
+                id: gcp_gcs_copy_resumable
+                namespace: company.team
+
+                tasks:
+                  - id: copy
+                    type: io.kestra.plugin.gcp.gcs.Copy
+                    from: "gs://my_bucket_us/dumps/full.tar"
+                    to: "gs://my_bucket_eu/dumps/full.tar"
+                    megabytesPerCall: 1024
+                    resumable: true
+                """
         )
     },
     metrics = {
@@ -54,10 +85,29 @@ import io.kestra.core.models.annotations.PluginProperty;
             type = Counter.TYPE,
             unit = "bytes",
             description = "Size of the copied file."
+        ),
+        @Metric(
+            name = "bytes.rewritten",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Bytes copied by this task, excluding the ones copied before a resumed rewrite."
+        ),
+        @Metric(
+            name = "rewrite.calls",
+            type = Counter.TYPE,
+            description = "Number of rewrite calls."
+        ),
+        @Metric(
+            name = "duration",
+            type = Timer.TYPE,
+            description = "Duration of the copy."
         )
     }
 )
 public class Copy extends AbstractGcs implements RunnableTask<Copy.Output> {
+    private static final String REWRITE_TOKEN_KEY = "rewriteToken";
+    private static final String REWRITTEN_KEY = "bytesRewritten";
+
     @Schema(
         title = "Source object URI",
         description = "Fully qualified gs:// path to copy from"
@@ -80,6 +130,32 @@ public class Copy extends AbstractGcs implements RunnableTask<Copy.Output> {
     @PluginProperty(group = "advanced")
     private final Property<Boolean> delete = Property.ofValue(false);
 
+    @Schema(
+        title = "Maximum megabytes copied per rewrite call",
+        description = "Only matters for copies that can't be done as a metadata-only operation, across locations or storage classes. " +
+            "Smaller calls give more frequent progress and checkpoints; GCS picks the size if not set."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Long> megabytesPerCall;
+
+    @Schema(
+        title = "Resume the copy after a restart",
+        description = "If true, the rewrite token is stored in the Kestra state store after each call and reused by the next run of the task " +
+            "with the same source and destination in the same execution, e.g. a retry or a restart, and cleared once the copy is done. " +
+            "A token that is no longer valid, e.g. because the source was modified, restarts the copy from zero."
+    )
+    @Builder.Default
+    @PluginProperty(group = "reliability")
+    private final Property<Boolean> resumable = Property.ofValue(false);
+
+    @Schema(
+        title = "State key",
+        description = "Override the key used to store the rewrite token of a `resumable` copy; defaults to namespace/flow/id, the execution, " +
+            "and the source and destination, so that concurrent executions don't share a token. Set it to resume a copy from another execution."
+    )
+    @PluginProperty(group = "reliability")
+    private Property<String> stateKey;
+
     @Override
     public Copy.Output run(RunContext runContext) throws Exception {
         Storage connection = this.connection(runContext);
@@ -94,18 +170,100 @@ public class Copy extends AbstractGcs implements RunnableTask<Copy.Output> {
             throw new IllegalArgumentException("Invalid copy to same path '" + to.toString());
         }
 
+        BlobId target = BlobId.of(to.getAuthority(), blobPath(to.getPath().substring(1)));
+        Optional<Long> rMegabytesPerCall = runContext.render(this.megabytesPerCall).as(Long.class);
+        boolean rResumable = runContext.render(this.resumable).as(Boolean.class).orElse(false);
+
+        String rStateKey = null;
+        String rewriteToken = null;
+        long resumedBytes = 0;
+        if (rResumable) {
+            rStateKey = runContext.render(this.stateKey).as(String.class).orElse(defaultKey(
+                runContext.flowInfo().namespace(),
+                runContext.flowInfo().id(),
+                this.getId() + "_" + Integer.toHexString(Objects.hash(executionId(runContext), from.toString(), to.toString()))
+            ));
+
+            Map<String, StatefulTriggerService.Entry> state = readState(runContext, rStateKey, Optional.empty());
+            if (state.containsKey(REWRITE_TOKEN_KEY)) {
+                rewriteToken = state.get(REWRITE_TOKEN_KEY).version();
+                resumedBytes = state.containsKey(REWRITTEN_KEY) ? Long.parseLong(state.get(REWRITTEN_KEY).version()) : 0;
+                logger.info("Resuming the copy from '{}' to '{}' after {} bytes", from, to, resumedBytes);
+            }
+        }
+
         logger.debug("Moving from '{}' to '{}'", from, to);
 
-        Blob result = connection
-            .copy(
-                Storage.CopyRequest.newBuilder()
-                    .setSource(source)
-                    .setTarget(BlobId.of(to.getAuthority(), blobPath(to.getPath().substring(1))))
-                    .build()
-            )
-            .getResult();
+        com.google.api.services.storage.Storage jsonConnection = this.jsonConnection(runContext);
+        Instant start = Instant.now();
+        long calls = 0;
+        long rewritten = resumedBytes;
+        RewriteResponse response;
+
+        do {
+            var rewrite = jsonConnection.objects()
+                .rewrite(source.getBucket(), source.getName(), target.getBucket(), target.getName(), new StorageObject());
+
+            if (rMegabytesPerCall.isPresent()) {
+                rewrite.setMaxBytesRewrittenPerCall(rMegabytesPerCall.get() * 1024 * 1024);
+            }
+
+            if (rewriteToken != null) {
+                rewrite.setRewriteToken(rewriteToken);
+            }
+
+            try {
+                response = rewrite.execute();
+            } catch (GoogleJsonResponseException e) {
+                if (rewriteToken == null || e.getStatusCode() != 400) {
+                    throw e;
+                }
 
-        runContext.metric(Counter.of("file.size", result.getSize()));
+                logger.warn("Unable to resume the copy from '{}', restarting it: {}", from, e.getMessage());
+                rewriteToken = null;
+                rewritten = 0;
+                response = null;
+                continue;
+            }
+
+            calls++;
+            rewriteToken = response.getRewriteToken();
+
+            // emitted on each call, so that the progress of long copies shows up in the metrics
+            runContext.metric(Counter.of("bytes.rewritten", response.getTotalBytesRewritten().longValue() - rewritten));
+            rewritten = response.getTotalBytesRewritten().longValue();
+
+            logger.debug(
+                "Copied {} of {} bytes from '{}' to '{}'",
+                response.getTotalBytesRewritten(),
+                response.getObjectSize(),
+                from,
+                to
+            );
+
+            if (rResumable && !Boolean.TRUE.equals(response.getDone())) {
+                Instant now = Instant.now();
+                writeState(
+                    runContext,
+                    rStateKey,
+                    new HashMap<>(Map.of(
+                        REWRITE_TOKEN_KEY, StatefulTriggerService.Entry.candidate(REWRITE_TOKEN_KEY, rewriteToken, now),
+                        REWRITTEN_KEY, StatefulTriggerService.Entry.candidate(REWRITTEN_KEY, response.getTotalBytesRewritten().toString(), now)
+                    )),
+                    Optional.empty()
+                );
+            }
+        } while (response == null || !Boolean.TRUE.equals(response.getDone()));
+
+        if (rResumable) {
+            writeState(runContext, rStateKey, new HashMap<>(), Optional.empty());
+        }
+
+        StorageObject result = response.getResource();
+
+        runContext.metric(Counter.of("file.size", result.getSize().longValue()));
+        runContext.metric(Counter.of("rewrite.calls", calls));
+        runContext.metric(Timer.of("duration", Duration.between(start, Instant.now())));
 
         if (runContext.render(this.delete).as(Boolean.class).orElse(false)) {
             connection.delete(source);
@@ -117,6 +275,13 @@ public class Copy extends AbstractGcs implements RunnableTask<Copy.Output> {
             .build();
     }
 
+    @SuppressWarnings("unchecked")
+    private static String executionId(RunContext runContext) {
+        var execution = (Map<String, Object>) runContext.getVariables().get("execution");
+
+        return execution != null ? (String) execution.get("id") : null;
+    }
+
     @Builder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
@@ -0,0 +1,270 @@
+package io.kestra.plugin.gcp.gcs;
+
+import java.net.URI;
+import java.util.Objects;
+
+import org.apache.commons.lang3.tuple.Triple;
+import org.slf4j.Logger;
+
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.Storage;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Schedulers;
+
+import static io.kestra.core.utils.Rethrow.throwConsumer;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Plugin(
+    examples = {
+        @Example(
+            title = "Archive the CSV files of a directory, renaming them with their date",
+            full = true,
+            code = """
+                id: gcp_gcs_copy_list
+                namespace: company.team
+
+                tasks:
+                  - id: archive
+                    type: io.kestra.plugin.gcp.gcs.CopyList
+                    from: "gs://my_bucket/landing/"
+                    to: "gs://my_archive_bucket/landing/{{ now() | date('yyyy-MM-dd') }}/"
+                    regExp: ".*\\\\.csv$"
+                    renameRegExp: "^export_(.*)\\\\.csv$"
+                    renameReplacement: "$1.csv"
+                    delete: true
+                """
+        )
+    },
+    metrics = {
+        @Metric(
+            name = "count",
+            type = Counter.TYPE,
+            unit = "files",
+            description = "Number of blobs copied."
+        ),
+        @Metric(
+            name = "skipped",
+            type = Counter.TYPE,
+            unit = "files",
+            description = "Number of blobs skipped because an identical destination already exists."
+        ),
+        @Metric(
+            name = "size",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Total size of blobs copied."
+        )
+    }
+)
+@Schema(
+    title = "Copy or move multiple GCS objects",
+    description = "Lists objects under a prefix (optional regex) and copies them server-side, in parallel, under a destination prefix, " +
+        "keeping their path relative to the source prefix, optionally renamed with a regex. " +
+        "Objects whose destination already exists with the same size and CRC32C are skipped, so that a failed run can be run again. " +
+        "With `delete`, the source objects are deleted once copied, moving them."
+)
+public class CopyList extends AbstractList implements RunnableTask<CopyList.Output>, ListInterface {
+    @Schema(
+        title = "Destination prefix",
+        description = "gs:// prefix under which the objects are copied, e.g. `gs://bucket/archive/`; " +
+            "it can't be under the source prefix with a `RECURSIVE` listing"
+    )
+    @NotNull
+    @PluginProperty(group = "destination")
+    private Property<String> to;
+
+    @Schema(
+        title = "Rename regex",
+        description = "Regex applied to the object path relative to the source prefix; matches are replaced by `renameReplacement`"
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> renameRegExp;
+
+    @Schema(
+        title = "Rename replacement",
+        description = "Replacement of the `renameRegExp` matches, that can reference groups with `$1`"
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> renameReplacement;
+
+    @Schema(
+        title = "Delete sources on success",
+        description = "If true, removes each source object once copied, unless it was modified in the meantime; default false"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private final Property<Boolean> delete = Property.ofValue(false);
+
+    @Schema(
+        title = "Skip identical destinations",
+        description = "If true (default), objects whose destination already exists with the same size and CRC32C are not copied again"
+    )
+    @Builder.Default
+    @PluginProperty(group = "reliability")
+    private final Property<Boolean> skipIdentical = Property.ofValue(true);
+
+    @Schema(
+        title = "Concurrent copies",
+        description = "Number of objects copied in parallel"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private final Property<Integer> concurrent = Property.ofValue(8);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Storage connection = this.connection(runContext);
+        Logger logger = runContext.logger();
+
+        URI from = encode(runContext, runContext.render(this.from).as(String.class).orElseThrow());
+        URI to = encode(runContext, runContext.render(this.to).as(String.class).orElseThrow());
+        String regExp = runContext.render(this.regExp).as(String.class).orElse(null);
+        String rRenameRegExp = runContext.render(this.renameRegExp).as(String.class).orElse(null);
+        String rRenameReplacement = runContext.render(this.renameReplacement).as(String.class).orElse("");
+        boolean rDelete = runContext.render(this.delete).as(Boolean.class).orElse(false);
+        boolean rSkipIdentical = runContext.render(this.skipIdentical).as(Boolean.class).orElse(true);
+
+        String sourcePrefix = from.getPath().isEmpty() ? "" : from.getPath().substring(1);
+        String targetPrefix = to.getPath().isEmpty() ? "" : to.getPath().substring(1);
+
+        if (from.getAuthority().equals(to.getAuthority()) && sourcePrefix.equals(targetPrefix) && rRenameRegExp == null) {
+            throw new IllegalArgumentException("Unable to copy '" + from + "' on itself, set a different destination or a rename");
+        }
+
+        // the listing is paged while the copies run, so the copied objects would be listed and copied again
+        boolean recursive = runContext.render(this.getListingType()).as(ListingType.class).orElse(ListingType.DIRECTORY) == ListingType.RECURSIVE;
+        if (recursive && from.getAuthority().equals(to.getAuthority()) && targetPrefix.startsWith(sourcePrefix)) {
+            throw new IllegalArgumentException("Unable to copy '" + from + "' recursively to '" + to + "' under it, set a destination outside of the source");
+        }
+
+        Flux<Blob> flowable = Flux
+            .create(throwConsumer(emitter ->
+            {
+                this.iterator(connection, from, runContext)
+                    .forEachRemaining(emitter::next);
+                emitter.complete();
+            }), FluxSink.OverflowStrategy.BUFFER);
+
+        Triple<Long, Long, Long> finalResult = flowable
+            .parallel(runContext.render(this.concurrent).as(Integer.class).orElse(8))
+            .runOn(Schedulers.boundedElastic())
+            .filter(blob -> this.filter(blob, regExp))
+            .map(blob ->
+            {
+                String relative = blob.getName().startsWith(sourcePrefix) ? blob.getName().substring(sourcePrefix.length()) : blob.getName();
+                if (rRenameRegExp != null) {
+                    relative = relative.replaceAll(rRenameRegExp, rRenameReplacement);
+                }
+
+                return copy(logger, connection, blob, BlobId.of(to.getAuthority(), targetPrefix + relative), rSkipIdentical, rDelete);
+            })
+            .sequential()
+            .reduce(
+                Triple.of(0L, 0L, 0L),
+                (triple, size) -> size < 0 ?
+                    Triple.of(triple.getLeft(), triple.getMiddle() + 1, triple.getRight()) :
+                    Triple.of(triple.getLeft() + 1, triple.getMiddle(), triple.getRight() + size)
+            )
+            .block();
+
+        runContext.metric(Counter.of("count", finalResult.getLeft()));
+        runContext.metric(Counter.of("skipped", finalResult.getMiddle()));
+        runContext.metric(Counter.of("size", finalResult.getRight()));
+
+        logger.info("Copied {} files for {} bytes, skipped {} identical files", finalResult.getLeft(), finalResult.getRight(), finalResult.getMiddle());
+
+        return Output
+            .builder()
+            .count(finalResult.getLeft())
+            .skipped(finalResult.getMiddle())
+            .size(finalResult.getRight())
+            .build();
+    }
+
+    protected boolean filter(com.google.cloud.storage.Blob blob, String regExp) {
+        return !blob.isDirectory() && super.filter(blob, regExp);
+    }
+
+    @Override
+    protected Storage.BlobField[] requiredFields() {
+        return new Storage.BlobField[]{Storage.BlobField.SIZE, Storage.BlobField.CRC32C, Storage.BlobField.GENERATION};
+    }
+
+    /**
+     * Copies one blob server-side, returning the bytes copied or -1 when an identical destination already exists.
+     * The destination is only written if it is still in the state we read, and the source only deleted if it wasn't
+     * replaced in the meantime, so that concurrent or repeated runs never lose an object.
+     */
+    private static long copy(Logger logger, Storage connection, Blob source, BlobId target, boolean skipIdentical, boolean delete) {
+        Blob existing = connection.get(target);
+        boolean identical = skipIdentical && existing != null &&
+            Objects.equals(existing.getSize(), source.getSize()) &&
+            Objects.equals(existing.getCrc32c(), source.getCrc32c());
+
+        if (identical) {
+            logger.debug("Skipping '{}', identical to '{}'", io.kestra.plugin.gcp.gcs.models.Blob.uri(existing), io.kestra.plugin.gcp.gcs.models.Blob.uri(source));
+        } else {
+            logger.debug("Copying '{}' to 'gs://{}/{}'", io.kestra.plugin.gcp.gcs.models.Blob.uri(source), target.getBucket(), target.getName());
+
+            connection.copy(Storage.CopyRequest.newBuilder()
+                .setSource(source.getBlobId())
+                .setSourceOptions(Storage.BlobSourceOption.generationMatch(source.getGeneration()))
+                // a BlobId target keeps the content type, cache control, encoding and custom metadata of the source
+                .setTarget(
+                    target,
+                    java.util.List.of(existing == null ? Storage.BlobTargetOption.doesNotExist() : Storage.BlobTargetOption.generationMatch(existing.getGeneration()))
+                )
+                .build()
+            ).getResult();
+        }
+
+        if (delete) {
+            connection.delete(source.getBlobId(), Storage.BlobSourceOption.generationMatch(source.getGeneration()));
+        }
+
+        return identical ? -1L : source.getSize();
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Builder.Default
+        @Schema(
+            title = "Copied count"
+        )
+        private final long count = 0;
+
+        @Builder.Default
+        @Schema(
+            title = "Skipped count",
+            description = "Number of objects not copied because an identical destination already exists"
+        )
+        private final long skipped = 0;
+
+        @Builder.Default
+        @Schema(
+            title = "Copied size bytes"
+        )
+        private final long size = 0;
+    }
+}
@@ -79,6 +79,8 @@ public class DeleteBucket extends AbstractGcs implements RunnableTask<DeleteBuck
                 .projectId(this.projectId)
                 .serviceAccount(this.serviceAccount)
                 .scopes(this.scopes)
+                .transport(this.transport)
+                .directPath(this.directPath)
                 .from(Property.ofValue("gs://" + name))
                 .concurrent(CONCURRENT_DELETIONS)
                 .build();
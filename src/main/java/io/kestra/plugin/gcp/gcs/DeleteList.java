@@ -141,6 +141,11 @@ public class DeleteList extends AbstractList implements RunnableTask<DeleteList.
         return !blob.isDirectory() && super.filter(blob, regExp);
     }
 
+    @Override
+    protected Storage.BlobField[] requiredFields() {
+        return new Storage.BlobField[]{Storage.BlobField.SIZE};
+    }
+
     private static Function<Blob, Long> delete(Logger logger, Storage connection) {
         return o ->
         {
@@ -0,0 +1,52 @@
+package io.kestra.plugin.gcp.gcs;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pool of direct buffers, by capacity, shared by the transfers of a worker.
+ * <p>
+ * Direct buffers are costly to allocate and only freed by the garbage collector, so the chunk sized buffers of uploads
+ * and downloads are reused instead of being allocated for each file. As the capacities come from the tasks, the idle
+ * buffers kept are bounded by their total size, {@link #MAX_IDLE_BYTES}; extra buffers are left to the garbage collector.
+ */
+final class DirectBufferPool {
+    static final long MAX_IDLE_BYTES = 64L * 1024 * 1024;
+
+    private static final Map<Integer, Queue<ByteBuffer>> POOL = new ConcurrentHashMap<>();
+    private static final AtomicLong IDLE_BYTES = new AtomicLong();
+
+    private DirectBufferPool() {
+    }
+
+    static ByteBuffer acquire(int capacity) {
+        Queue<ByteBuffer> idle = POOL.get(capacity);
+        ByteBuffer buffer = idle == null ? null : idle.poll();
+
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(capacity);
+        }
+
+        IDLE_BYTES.addAndGet(-capacity);
+        return buffer.clear();
+    }
+
+    static void release(ByteBuffer buffer) {
+        int capacity = buffer.capacity();
+
+        if (IDLE_BYTES.addAndGet(capacity) > MAX_IDLE_BYTES) {
+            IDLE_BYTES.addAndGet(-capacity);
+            return;
+        }
+
+        POOL.computeIfAbsent(capacity, key -> new ConcurrentLinkedQueue<>()).offer(buffer);
+    }
+
+    static long idleBytes() {
+        return IDLE_BYTES.get();
+    }
+}
@@ -3,16 +3,12 @@ package io.kestra.plugin.gcp.gcs;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.net.URI;
 import java.nio.ByteBuffer;
-import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Base64;
-import java.util.zip.CRC32C;
 
 import org.slf4j.Logger;
 
@@ -21,6 +17,7 @@ import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.Storage;
 
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
@@ -67,6 +64,36 @@ import lombok.experimental.SuperBuilder;
                     from: "gs://my_bucket/dir/file.csv"
                     validateChecksum: true
                 """
+        ),
+        @Example(
+            full = true,
+            title = "Serve a reference file downloaded by every execution from a worker-local cache, only fetching it again when a new generation is uploaded",
+            code = """
+                id: gcp_gcs_download_cached
+                namespace: company.team
+
+                tasks:
+                  - id: download
+                    type: io.kestra.plugin.gcp.gcs.Download
+                    from: "gs://my_bucket/models/model.bin"
+                    cache: true
+                    cacheMaxMegabytes: 20480
+                """
+        ),
+        @Example(
+            full = true,
+            title = "Download a large object over gRPC, with a direct connection when running on Compute Engine or GKE",
+            code = """
+                id: gcp_gcs_download_grpc
+                namespace: company.team
+
+                tasks:
+                  - id: download
+                    type: io.kestra.plugin.gcp.gcs.Download
+                    from: "gs://my_bucket/dir/large.parquet"
+                    transport: GRPC
+                    directPath: true
+                """
         )
     },
     metrics = {
@@ -74,6 +101,16 @@ import lombok.experimental.SuperBuilder;
             name = "checksum.validated",
             type = Counter.TYPE,
             description = "Number of files whose checksum was successfully validated after download."
+        ),
+        @Metric(
+            name = "cache.hit",
+            type = Counter.TYPE,
+            description = "Number of files served from the local cache."
+        ),
+        @Metric(
+            name = "cache.miss",
+            type = Counter.TYPE,
+            description = "Number of files downloaded from GCS as they were not in the local cache."
         )
     }
 )
@@ -82,7 +119,8 @@ import lombok.experimental.SuperBuilder;
     description = "Reads a gs:// object to a temp file and stores it in Kestra internal storage. Optionally validates the file integrity by recomputing its checksum locally and comparing it to the value stored in GCS."
 )
 public class Download extends AbstractGcs implements RunnableTask<Download.Output> {
-    private static final int COPY_BUFFER_SIZE = 16 * 1024;
+    // large enough to amortize the per-read overhead, and direct so that it is hashed and written without heap copies
+    private static final int TRANSFER_BUFFER_SIZE = 1024 * 1024;
 
     @Schema(
         title = "Source object URI",
@@ -99,7 +137,44 @@ public class Download extends AbstractGcs implements RunnableTask<Download.Outpu
     @Builder.Default
     private Property<Boolean> validateChecksum = Property.ofValue(false);
 
+    @Schema(
+        title = "Cache the downloaded file on the worker",
+        description = "When `true`, the file is kept in a cache local to the worker, keyed by bucket, object name and generation. " +
+            "Later downloads of the same object only fetch its metadata: an unchanged generation is served from the cache, and only a new generation is downloaded again. " +
+            "Files are always validated against the GCS checksum before being cached. The cache is shared by all the tasks of the worker, and its least recently used files are evicted once it exceeds `cacheMaxMegabytes`."
+    )
+    @PluginProperty(group = "advanced")
+    @Builder.Default
+    private Property<Boolean> cache = Property.ofValue(false);
+
+    @Schema(
+        title = "The maximum size of the worker-local cache, in megabytes",
+        description = "Files larger than the whole cache are never cached."
+    )
+    @PluginProperty(group = "advanced")
+    @Builder.Default
+    private Property<Long> cacheMaxMegabytes = Property.ofValue(10240L);
+
+    @Schema(
+        title = "The directory of the worker-local cache",
+        description = "Defaults to a `kestra-gcs-cache` directory in the temporary directory of the worker."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<String> cacheDirectory;
+
+    @Schema(
+        title = "Chunk size",
+        description = "Size in bytes of the ranged reads of the object. Larger chunks use fewer requests on large files, mostly with the `HTTP` transport; defaults to the client library default of 2 MiB"
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Integer> chunkSize;
+
     static File download(RunContext runContext, Storage connection, BlobId source, boolean validateChecksum) throws IOException {
+        return download(runContext, connection, source, validateChecksum, null, null);
+    }
+
+    static File download(RunContext runContext, Storage connection, BlobId source, boolean validateChecksum, DownloadCache cache, Integer chunkSize) throws IOException {
+        // also validates the cached generation, as a metadata get is far cheaper than the download itself
         Blob blob = connection.get(source);
         if (blob == null) {
             throw new IllegalArgumentException("Unable to find blob on bucket '" + source.getBucket() + "' with path '" + source.getName() + "'");
@@ -109,11 +184,21 @@ public class Download extends AbstractGcs implements RunnableTask<Download.Outpu
 
         boolean success = false;
         try {
-            if (validateChecksum) {
-                downloadAndValidate(runContext, blob, tempFile);
+            // only validated files are cached, as they are served without being validated again
+            boolean cacheable = cache != null && (blob.getCrc32c() != null || blob.getMd5() != null);
+
+            if (cacheable && cache.get(blob, tempFile.toPath())) {
+                runContext.metric(Counter.of("cache.hit", 1));
+            } else if (cacheable) {
+                runContext.metric(Counter.of("cache.miss", 1));
+
+                downloadAndValidate(runContext, blob, tempFile, chunkSize);
+                cache.put(blob, tempFile.toPath());
+            } else if (validateChecksum) {
+                downloadAndValidate(runContext, blob, tempFile, chunkSize);
             } else {
                 try (
-                    ReadChannel readChannel = blob.reader();
+                    ReadChannel readChannel = reader(blob, chunkSize);
                     FileOutputStream fileOutputStream = new FileOutputStream(tempFile);
                     FileChannel channel = fileOutputStream.getChannel()
                 ) {
@@ -129,7 +214,16 @@ public class Download extends AbstractGcs implements RunnableTask<Download.Outpu
         }
     }
 
-    private static void downloadAndValidate(RunContext runContext, Blob blob, File tempFile) throws IOException {
+    private static ReadChannel reader(Blob blob, Integer chunkSize) {
+        ReadChannel readChannel = blob.reader();
+        if (chunkSize != null) {
+            readChannel.setChunkSize(chunkSize);
+        }
+
+        return readChannel;
+    }
+
+    private static void downloadAndValidate(RunContext runContext, Blob blob, File tempFile, Integer chunkSize) throws IOException {
         String expectedCrc32c = blob.getCrc32c();
         String expectedMd5 = blob.getMd5();
         boolean useCrc32c = expectedCrc32c != null;
@@ -141,34 +235,29 @@ public class Download extends AbstractGcs implements RunnableTask<Download.Outpu
             );
         }
 
-        CRC32C crc = useCrc32c ? new CRC32C() : null;
-        MessageDigest md5 = useCrc32c ? null : md5Digest();
+        String expected = useCrc32c ? expectedCrc32c : expectedMd5;
+        String actual;
+        String algorithm;
+        long size;
 
-        // Equality on a server-provided integrity checksum is not a secret comparison,
-        // so a plain String.equals is appropriate (no timing-attack concern).
+        ByteBuffer buffer = DirectBufferPool.acquire(TRANSFER_BUFFER_SIZE);
         try (
-            ReadChannel readChannel = blob.reader();
-            InputStream inputStream = Channels.newInputStream(readChannel);
-            OutputStream out = new FileOutputStream(tempFile)
+            ReadChannel readChannel = reader(blob, chunkSize);
+            HashingWritableByteChannel channel = useCrc32c ?
+                HashingWritableByteChannel.crc32c(FileChannel.open(tempFile.toPath(), StandardOpenOption.WRITE)) :
+                HashingWritableByteChannel.md5(FileChannel.open(tempFile.toPath(), StandardOpenOption.WRITE))
         ) {
-            byte[] buffer = new byte[COPY_BUFFER_SIZE];
-            int n;
-            while ((n = inputStream.read(buffer)) != -1) {
-                if (useCrc32c) {
-                    crc.update(buffer, 0, n);
-                } else {
-                    md5.update(buffer, 0, n);
-                }
-                out.write(buffer, 0, n);
-            }
-        }
+            channel.transferFrom(readChannel, buffer);
 
-        String expected = useCrc32c ? expectedCrc32c : expectedMd5;
-        String actual = useCrc32c
-            ? encodeCrc32c((int) crc.getValue())
-            : Base64.getEncoder().encodeToString(md5.digest());
-        String algorithm = useCrc32c ? "CRC32C" : "MD5";
+            actual = channel.checksum();
+            algorithm = channel.algorithm();
+            size = channel.size();
+        } finally {
+            DirectBufferPool.release(buffer);
+        }
 
+        // Equality on a server-provided integrity checksum is not a secret comparison,
+        // so a plain String.equals is appropriate (no timing-attack concern).
         if (!expected.equals(actual)) {
             throw new IOException(String.format(
                 "Checksum mismatch for gs://%s/%s (%s): expected=%s actual=%s",
@@ -177,16 +266,25 @@ public class Download extends AbstractGcs implements RunnableTask<Download.Outpu
         }
 
         Long expectedSize = blob.getSize();
-        if (expectedSize != null && tempFile.length() != expectedSize) {
+        if (expectedSize != null && size != expectedSize) {
             throw new IOException(String.format(
                 "Downloaded size mismatch for gs://%s/%s: expected=%d actual=%d",
-                blob.getBucket(), blob.getName(), expectedSize, tempFile.length()
+                blob.getBucket(), blob.getName(), expectedSize, size
             ));
         }
 
         runContext.metric(Counter.of("checksum.validated", 1, "algorithm", algorithm));
     }
 
+    static Integer chunkSize(RunContext runContext, Property<Integer> chunkSize) throws IllegalVariableEvaluationException {
+        Integer rChunkSize = runContext.render(chunkSize).as(Integer.class).orElse(null);
+        if (rChunkSize != null && rChunkSize <= 0) {
+            throw new IllegalArgumentException("Invalid chunk size " + rChunkSize + ", must be positive");
+        }
+
+        return rChunkSize;
+    }
+
     static String encodeCrc32c(int crc32c) {
         // GCS stores CRC32C as base64 of a 4-byte big-endian integer.
         return Base64.getEncoder().encodeToString(
@@ -194,15 +292,6 @@ public class Download extends AbstractGcs implements RunnableTask<Download.Outpu
         );
     }
 
-    private static MessageDigest md5Digest() {
-        try {
-            return MessageDigest.getInstance("MD5");
-        } catch (NoSuchAlgorithmException e) {
-            // MD5 is a required algorithm in every JRE per the JCA spec.
-            throw new IllegalStateException("MD5 algorithm unavailable", e);
-        }
-    }
-
     private static void deleteQuietly(RunContext runContext, File file) {
         if (file == null || !file.exists()) {
             return;
@@ -226,7 +315,23 @@ public class Download extends AbstractGcs implements RunnableTask<Download.Outpu
 
         boolean rValidateChecksum = runContext.render(this.validateChecksum).as(Boolean.class).orElse(false);
 
-        File tempFile = download(runContext, connection, source, rValidateChecksum);
+        DownloadCache downloadCache = null;
+        if (runContext.render(this.cache).as(Boolean.class).orElse(false)) {
+            long rCacheMaxMegabytes = runContext.render(this.cacheMaxMegabytes).as(Long.class).orElse(10240L);
+            if (rCacheMaxMegabytes <= 0) {
+                throw new IllegalArgumentException("'cacheMaxMegabytes' must be positive, got " + rCacheMaxMegabytes);
+            }
+
+            Path directory = runContext.render(this.cacheDirectory).as(String.class)
+                .map(Path::of)
+                .orElse(Path.of(System.getProperty("java.io.tmpdir"), "kestra-gcs-cache"));
+
+            downloadCache = new DownloadCache(directory, rCacheMaxMegabytes * 1024 * 1024);
+        }
+
+        Integer rChunkSize = chunkSize(runContext, this.chunkSize);
+
+        File tempFile = download(runContext, connection, source, rValidateChecksum, downloadCache, rChunkSize);
         logger.debug("Download from '{}'", from);
 
         return Output
@@ -0,0 +1,129 @@
+package io.kestra.plugin.gcp.gcs;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.google.cloud.storage.Blob;
+import com.google.common.hash.Hashing;
+
+import io.kestra.core.utils.IdUtils;
+
+/**
+ * A worker-local, size-bounded cache of downloaded objects, keyed by bucket, name and generation.
+ * <p>
+ * As a generation of an object is immutable, a cached file can be served as long as the generation returned by the
+ * metadata `get` of the object is unchanged; a new generation is simply another entry. Entries are evicted by least
+ * recent use, tracked by their modification time, once the cache exceeds its maximum size. Files are hard linked
+ * in and out of the cache when possible, so that serving or storing an entry doesn't copy it.
+ */
+final class DownloadCache {
+    private static final String TEMP_PREFIX = ".tmp-";
+
+    // the cache directory is shared by every task of the worker
+    private static final Object EVICTION_LOCK = new Object();
+
+    private final Path directory;
+    private final long maxSize;
+
+    DownloadCache(Path directory, long maxSize) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Links or copies the cached file of the blob generation to the target, replacing it, or returns false if the
+     * generation isn't cached.
+     */
+    boolean get(Blob blob, Path target) throws IOException {
+        Path entry = this.entry(blob);
+
+        try {
+            Files.setLastModifiedTime(entry, FileTime.from(Instant.now()));
+            link(entry, target);
+
+            return true;
+        } catch (NoSuchFileException e) {
+            // not cached, or evicted concurrently
+            return false;
+        }
+    }
+
+    /**
+     * Stores the downloaded file of the blob generation, unless it is larger than the whole cache.
+     */
+    void put(Blob blob, Path source) throws IOException {
+        if (Files.size(source) > this.maxSize) {
+            return;
+        }
+
+        Path entry = this.entry(blob);
+        Path temp = this.directory.resolve(TEMP_PREFIX + IdUtils.create());
+
+        // stored under a temporary name first so that concurrent readers never see a partial entry
+        link(source, temp);
+        Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        this.evict(entry);
+    }
+
+    private Path entry(Blob blob) {
+        String key = Hashing.sha256()
+            .hashString(blob.getBucket() + "/" + blob.getName(), StandardCharsets.UTF_8)
+            .toString();
+
+        return this.directory.resolve(key + "-" + blob.getGeneration());
+    }
+
+    private void evict(Path keep) throws IOException {
+        synchronized (EVICTION_LOCK) {
+            List<Entry> entries = new ArrayList<>();
+            try (Stream<Path> files = Files.list(this.directory)) {
+                for (Path path : files.filter(path -> !path.getFileName().toString().startsWith(TEMP_PREFIX)).toList()) {
+                    try {
+                        entries.add(new Entry(path, Files.readAttributes(path, BasicFileAttributes.class)));
+                    } catch (NoSuchFileException e) {
+                        // deleted concurrently
+                    }
+                }
+            }
+
+            // most recently used first, older entries are deleted once the size is exceeded
+            entries.sort(Comparator.comparing((Entry entry) -> entry.attributes().lastModifiedTime()).reversed());
+
+            long size = 0;
+            for (Entry entry : entries) {
+                size += entry.attributes().size();
+
+                if (size > this.maxSize && !entry.path().equals(keep)) {
+                    Files.deleteIfExists(entry.path());
+                    size -= entry.attributes().size();
+                }
+            }
+        }
+    }
+
+    private record Entry(Path path, BasicFileAttributes attributes) {
+    }
+
+    private static void link(Path source, Path target) throws IOException {
+        Files.deleteIfExists(target);
+
+        try {
+            Files.createLink(target, source);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            // not on the same file store, or hard links unsupported
+            if (e instanceof NoSuchFileException noSuchFile) {
+                throw noSuchFile;
+            }
+            Files.copy(source, target);
+        }
+    }
+}
@@ -64,6 +64,22 @@ import io.kestra.core.models.annotations.PluginProperty;
                     action: DELETE
                     validateChecksum: true
                 """
+        ),
+        @Example(
+            title = "Download the CSV files of a single day from a date-sharded prefix, filtered server-side",
+            full = true,
+            code = """
+                id: gcp_gcs_downloads_one_day
+                namespace: company.team
+
+                tasks:
+                  - id: downloads
+                    type: io.kestra.plugin.gcp.gcs.Downloads
+                    from: gs://my-bucket/exports/
+                    startOffset: "exports/{{ now() | dateAdd(-1, 'DAYS') | date('yyyy-MM-dd') }}"
+                    endOffset: "exports/{{ now() | date('yyyy-MM-dd') }}"
+                    matchGlob: "exports/*.csv"
+                """
         )
     },
     metrics = {
@@ -102,6 +118,12 @@ public class Downloads extends AbstractGcs implements RunnableTask<Downloads.Out
     @PluginProperty(group = "processing")
     private Property<String> regExp;
 
+    private Property<String> matchGlob;
+
+    private Property<String> startOffset;
+
+    private Property<String> endOffset;
+
     @Schema(
         title = "Post-download action",
         description = "NONE (default), DELETE, or MOVE (copy to moveDirectory then delete source)"
@@ -132,6 +154,13 @@ public class Downloads extends AbstractGcs implements RunnableTask<Downloads.Out
     @Builder.Default
     private Property<Boolean> validateChecksum = Property.ofValue(false);
 
+    @Schema(
+        title = "Chunk size",
+        description = "Size in bytes of the ranged reads of each object. Larger chunks use fewer requests on large files, mostly with the `HTTP` transport; defaults to the client library default of 2 MiB"
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Integer> chunkSize;
+
     static void performAction(
         java.util.List<io.kestra.plugin.gcp.gcs.models.Blob> blobList,
         ActionInterface.Action action,
@@ -139,7 +168,8 @@ public class Downloads extends AbstractGcs implements RunnableTask<Downloads.Out
         RunContext runContext,
         Property<String> projectId,
         Property<String> serviceAccount,
-        Property<java.util.List<String>> scopes) throws Exception {
+        Property<java.util.List<String>> scopes,
+        TransportInterface transport) throws Exception {
         if (action == ActionInterface.Action.DELETE) {
             for (Blob blob : blobList) {
                 Delete delete = Delete.builder()
@@ -149,6 +179,8 @@ public class Downloads extends AbstractGcs implements RunnableTask<Downloads.Out
                     .serviceAccount(serviceAccount)
                     .projectId(projectId)
                     .scopes(scopes)
+                    .transport(transport.getTransport())
+                    .directPath(transport.getDirectPath())
                     .build();
                 delete.run(runContext);
             }
@@ -168,6 +200,8 @@ public class Downloads extends AbstractGcs implements RunnableTask<Downloads.Out
                     .serviceAccount(serviceAccount)
                     .projectId(projectId)
                     .scopes(scopes)
+                    .transport(transport.getTransport())
+                    .directPath(transport.getDirectPath())
                     .build();
                 copy.run(runContext);
             }
@@ -182,10 +216,15 @@ public class Downloads extends AbstractGcs implements RunnableTask<Downloads.Out
             .projectId(this.projectId)
             .serviceAccount(this.serviceAccount)
             .scopes(this.scopes)
+            .transport(this.transport)
+            .directPath(this.directPath)
             .from(this.from)
             .filter(Property.ofValue(Filter.FILES))
             .listingType(this.listingType)
             .regExp(this.regExp)
+            .matchGlob(this.matchGlob)
+            .startOffset(this.startOffset)
+            .endOffset(this.endOffset)
             .allVersions(this.allVersions)
             .maxFiles(this.maxFiles)
             .build();
@@ -194,6 +233,7 @@ public class Downloads extends AbstractGcs implements RunnableTask<Downloads.Out
         Storage connection = this.connection(runContext);
 
         boolean rValidateChecksum = runContext.render(this.validateChecksum).as(Boolean.class).orElse(false);
+        Integer rChunkSize = Download.chunkSize(runContext, this.chunkSize);
 
         java.util.List<Blob> list = run
             .getBlobs()
@@ -204,7 +244,7 @@ public class Downloads extends AbstractGcs implements RunnableTask<Downloads.Out
                     blob.getBucket(),
                     blob.getName()
                 );
-                File tempFile = Download.download(runContext, connection, source, rValidateChecksum);
+                File tempFile = Download.download(runContext, connection, source, rValidateChecksum, null, rChunkSize);
 
                 return blob.withUri(runContext.storage().putFile(tempFile));
             }))
@@ -222,7 +262,8 @@ public class Downloads extends AbstractGcs implements RunnableTask<Downloads.Out
             runContext,
             this.projectId,
             this.serviceAccount,
-            this.scopes
+            this.scopes,
+            this
         );
 
         return Output
@@ -0,0 +1,113 @@
+package io.kestra.plugin.gcp.gcs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+
+/**
+ * A {@link WritableByteChannel} that computes the GCS checksum of every byte written to the channel it wraps.
+ * <p>
+ * Bytes are hashed straight from the buffers they are written from, so that data copied between channels through a
+ * direct buffer is checksummed without any copy to the heap; {@link CRC32C} and {@link MessageDigest} both have
+ * intrinsics for direct buffers.
+ */
+final class HashingWritableByteChannel implements WritableByteChannel {
+    private final WritableByteChannel delegate;
+    private final String algorithm;
+    private final Consumer<ByteBuffer> hasher;
+    private final Supplier<String> checksum;
+
+    private long size = 0;
+
+    private HashingWritableByteChannel(WritableByteChannel delegate, String algorithm, Consumer<ByteBuffer> hasher, Supplier<String> checksum) {
+        this.delegate = delegate;
+        this.algorithm = algorithm;
+        this.hasher = hasher;
+        this.checksum = checksum;
+    }
+
+    static HashingWritableByteChannel crc32c(WritableByteChannel delegate) {
+        CRC32C crc32c = new CRC32C();
+
+        return new HashingWritableByteChannel(delegate, "CRC32C", crc32c::update, () -> Download.encodeCrc32c((int) crc32c.getValue()));
+    }
+
+    static HashingWritableByteChannel md5(WritableByteChannel delegate) {
+        MessageDigest md5;
+        try {
+            md5 = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            // MD5 is a required algorithm in every JRE per the JCA spec.
+            throw new IllegalStateException("MD5 algorithm unavailable", e);
+        }
+
+        return new HashingWritableByteChannel(delegate, "MD5", md5::update, () -> Base64.getEncoder().encodeToString(md5.digest()));
+    }
+
+    /**
+     * Copies the whole source to this channel through the given buffer, returning the number of bytes copied.
+     */
+    long transferFrom(ReadableByteChannel source, ByteBuffer buffer) throws IOException {
+        return transfer(source, this, buffer);
+    }
+
+    /**
+     * Copies the whole source to the target through the given buffer, returning the number of bytes copied.
+     */
+    static long transfer(ReadableByteChannel source, WritableByteChannel target, ByteBuffer buffer) throws IOException {
+        long transferred = 0;
+
+        buffer.clear();
+        while (source.read(buffer) >= 0 || buffer.position() > 0) {
+            buffer.flip();
+            transferred += target.write(buffer);
+            buffer.compact();
+        }
+
+        return transferred;
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        int position = src.position();
+        int written = this.delegate.write(src);
+
+        // only hash what the delegate accepted, the remaining bytes will be written again
+        this.hasher.accept(src.duplicate().position(position).limit(position + written));
+        this.size += written;
+
+        return written;
+    }
+
+    String algorithm() {
+        return this.algorithm;
+    }
+
+    /**
+     * The base64 encoded checksum, as reported by GCS; can only be called once all the bytes were written.
+     */
+    String checksum() {
+        return this.checksum.get();
+    }
+
+    long size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return this.delegate.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.delegate.close();
+    }
+}
@@ -0,0 +1,64 @@
+package io.kestra.plugin.gcp.gcs;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * A {@link ReadableByteChannel} filling the whole buffer on each read, from large blocks of an input stream.
+ * <p>
+ * {@link java.nio.channels.Channels#newChannel(InputStream)} only reads through a {@link java.nio.channels.FileChannel}
+ * for an exact {@link FileInputStream}, and copies at most 8 KiB per read for any other stream, such as the wrapped
+ * streams of the internal storage. Here, every read fills the buffer up to its end or the end of the stream, so that
+ * the chunks uploaded from a direct buffer are written and hashed in a few large calls.
+ */
+final class InputStreamChannel implements ReadableByteChannel {
+    private static final int BLOCK_SIZE = 1024 * 1024;
+
+    private final InputStream inputStream;
+    private final byte[] block;
+    private boolean open = true;
+
+    private InputStreamChannel(InputStream inputStream) {
+        this.inputStream = inputStream;
+        this.block = new byte[BLOCK_SIZE];
+    }
+
+    static ReadableByteChannel of(InputStream inputStream) {
+        if (inputStream.getClass() == FileInputStream.class) {
+            return ((FileInputStream) inputStream).getChannel();
+        }
+
+        return new InputStreamChannel(inputStream);
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        int read = 0;
+
+        while (dst.hasRemaining()) {
+            int length = this.inputStream.read(this.block, 0, Math.min(this.block.length, dst.remaining()));
+            if (length < 0) {
+                return read == 0 ? -1 : read;
+            }
+
+            dst.put(this.block, 0, length);
+            read += length;
+        }
+
+        return read;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return this.open;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.open = false;
+        this.inputStream.close();
+    }
+}
@@ -1,11 +1,16 @@
 package io.kestra.plugin.gcp.gcs;
 
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import org.slf4j.Logger;
 
+import com.google.api.gax.paging.Page;
 import com.google.cloud.storage.Storage;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
@@ -15,7 +20,9 @@ import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
 import io.kestra.plugin.gcp.gcs.models.Blob;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -42,6 +49,26 @@ import io.kestra.core.models.annotations.PluginProperty;
                     type: io.kestra.plugin.gcp.gcs.List
                     from: "gs://my_bucket/dir/"
                 """
+        ),
+        @Example(
+            title = "Inventory a whole bucket into an Ion file, fetching only the name, size and update time of each object",
+            full = true,
+            code = """
+                id: gcp_gcs_list_store
+                namespace: company.team
+
+                tasks:
+                  - id: list
+                    type: io.kestra.plugin.gcp.gcs.List
+                    from: "gs://my_bucket/"
+                    listingType: RECURSIVE
+                    fetchType: STORE
+                    matchGlob: "**/*.parquet"
+                    pageSize: 5000
+                    fields:
+                      - SIZE
+                      - UPDATED
+                """
         )
     },
     metrics = {
@@ -50,12 +77,19 @@ import io.kestra.core.models.annotations.PluginProperty;
             type = Counter.TYPE,
             unit = "files",
             description = "Number of blobs listed."
+        ),
+        @Metric(
+            name = "pages",
+            type = Counter.TYPE,
+            unit = "pages",
+            description = "Number of listing pages fetched, only with `STORE` or `NONE` fetch types."
         )
     }
 )
 @Schema(
     title = "List GCS objects",
-    description = "Lists blobs under a gs:// prefix with optional regex filtering and directory/file selection."
+    description = "Lists blobs under a gs:// prefix with optional regex filtering and directory/file selection. " +
+        "With the `STORE` fetch type, listing pages are streamed to an Ion file in internal storage, without any limit on the number of blobs."
 )
 public class List extends AbstractList implements RunnableTask<List.Output>, ListInterface {
     @Schema(
@@ -76,6 +110,22 @@ public class List extends AbstractList implements RunnableTask<List.Output>, Lis
     @PluginProperty(group = "processing")
     private Property<Integer> maxFiles = Property.ofValue(25);
 
+    @Schema(
+        title = "Fetch type",
+        description = "FETCH (default) returns at most `maxFiles` blobs in the output, FETCH_ONE only the first one; " +
+            "STORE writes every blob to an Ion file in internal storage, page by page, and ignores `maxFiles`; NONE only counts them"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<FetchType> fetchType = Property.ofValue(FetchType.FETCH);
+
+    @Schema(
+        title = "Page size",
+        description = "Maximum number of blobs returned by each listing request; uses the GCS default (1000) if not set"
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Integer> pageSize;
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         Storage connection = this.connection(runContext);
@@ -83,30 +133,28 @@ public class List extends AbstractList implements RunnableTask<List.Output>, Lis
 
         URI from = encode(runContext, runContext.render(this.from).as(String.class).orElse(null));
         String regExp = runContext.render(this.regExp).as(String.class).orElse(null);
-        int rMaxFiles = runContext.render(this.maxFiles).as(Integer.class).orElse(25);
+        Filter rFilter = runContext.render(this.filter).as(Filter.class).orElseThrow();
+        FetchType rFetchType = runContext.render(this.fetchType).as(FetchType.class).orElse(FetchType.FETCH);
+
+        if (rFetchType == FetchType.STORE || rFetchType == FetchType.NONE) {
+            return this.store(runContext, connection, from, regExp, rFilter, rFetchType);
+        }
+
+        int rMaxFiles = rFetchType == FetchType.FETCH_ONE ? 1 : runContext.render(this.maxFiles).as(Integer.class).orElse(25);
 
         java.util.List<Blob> blobs = StreamSupport
             .stream(this.iterator(connection, from, runContext), false)
-            .filter(blob ->
-            {
-                try {
-                    return this.filter(
-                        blob,
-                        regExp,
-                        runContext.render(this.filter).as(Filter.class).orElseThrow()
-                    );
-                } catch (IllegalVariableEvaluationException e) {
-                    throw new RuntimeException(e);
-                }
-            })
+            .filter(blob -> this.filter(blob, regExp, rFilter))
             .limit(rMaxFiles + 1L)
             .map(Blob::of)
             .collect(Collectors.toList());
 
         if (blobs.size() > rMaxFiles) {
-            logger.warn(
-                "Results for '{}' exceeded the maxFiles limit ({}); remaining items were skipped.", from, rMaxFiles
-            );
+            if (rFetchType == FetchType.FETCH) {
+                logger.warn(
+                    "Results for '{}' exceeded the maxFiles limit ({}); remaining items were skipped.", from, rMaxFiles
+                );
+            }
 
             blobs = blobs.subList(0, rMaxFiles);
         }
@@ -118,9 +166,60 @@ public class List extends AbstractList implements RunnableTask<List.Output>, Lis
         return Output
             .builder()
             .blobs(blobs)
+            .count((long) blobs.size())
             .build();
     }
 
+    private Output store(RunContext runContext, Storage connection, URI from, String regExp, Filter filter, FetchType fetchType) throws Exception {
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        long count = 0;
+        long pages = 0;
+
+        // only the current page is held in memory, the next one is requested once it has been written
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(tempFile), FileSerde.BUFFER_SIZE)) {
+            Page<com.google.cloud.storage.Blob> page = this.list(connection, from, runContext);
+
+            while (page != null) {
+                pages++;
+
+                for (com.google.cloud.storage.Blob blob : page.getValues()) {
+                    if (this.filter(blob, regExp, filter)) {
+                        if (fetchType == FetchType.STORE) {
+                            FileSerde.write(output, Blob.of(blob));
+                        }
+                        count++;
+                    }
+                }
+
+                page = page.hasNextPage() ? page.getNextPage() : null;
+            }
+        }
+
+        runContext.metric(Counter.of("size", count));
+        runContext.metric(Counter.of("pages", pages));
+
+        runContext.logger().debug("Found '{}' blobs from '{}' in {} pages", count, from, pages);
+
+        Output.OutputBuilder output = Output.builder()
+            .count(count);
+
+        if (fetchType == FetchType.STORE) {
+            output.uri(runContext.storage().putFile(tempFile));
+        }
+
+        return output.build();
+    }
+
+    @Override
+    protected java.util.List<Storage.BlobListOption> options(URI from, RunContext runContext) throws IllegalVariableEvaluationException {
+        java.util.List<Storage.BlobListOption> options = super.options(from, runContext);
+
+        runContext.render(this.pageSize).as(Integer.class)
+            .ifPresent(pageSize -> options.add(Storage.BlobListOption.pageSize(pageSize)));
+
+        return options;
+    }
+
     protected boolean filter(com.google.cloud.storage.Blob blob, String regExp, Filter filter) {
         var isDir = blob.isDirectory() || blob.getName().endsWith("/");
 
@@ -141,8 +240,20 @@ public class List extends AbstractList implements RunnableTask<List.Output>, Lis
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
         @Schema(
-            title = "Blobs"
+            title = "Blobs",
+            description = "Only set with the `FETCH` and `FETCH_ONE` fetch types"
         )
         private final java.util.List<Blob> blobs;
+
+        @Schema(
+            title = "Number of blobs listed"
+        )
+        private final Long count;
+
+        @Schema(
+            title = "URI of the Ion file storing the blobs",
+            description = "Only set with the `STORE` fetch type"
+        )
+        private final URI uri;
     }
 }
@@ -28,6 +28,27 @@ public interface ListInterface {
     @PluginProperty(group = "advanced")
     Property<String> getRegExp();
 
+    @Schema(
+        title = "Glob filter",
+        description = "Glob applied server-side to the object names (e.g., `**/2020-01-0?.csv`); unlike `regExp`, non-matching objects are never listed"
+    )
+    @PluginProperty(group = "processing")
+    Property<String> getMatchGlob();
+
+    @Schema(
+        title = "Start offset",
+        description = "Only lists objects whose name is lexicographically greater than or equal to this value (e.g., `dir/2020-01-01`)"
+    )
+    @PluginProperty(group = "processing")
+    Property<String> getStartOffset();
+
+    @Schema(
+        title = "End offset",
+        description = "Only lists objects whose name is lexicographically strictly lower than this value (e.g., `dir/2020-01-02`)"
+    )
+    @PluginProperty(group = "processing")
+    Property<String> getEndOffset();
+
     enum Filter {
         FILES,
         DIRECTORY,
@@ -0,0 +1,333 @@
+package io.kestra.plugin.gcp.gcs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.*;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.gcp.GcpInterface;
+import io.kestra.plugin.gcp.gcs.models.Blob;
+import io.kestra.plugin.gcp.pubsub.model.Message;
+import io.kestra.plugin.gcp.pubsub.model.SerdeType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Trigger in real-time on GCS object changes",
+    description = "Consumes the Pub/Sub notifications of a bucket and creates one execution per created, updated or deleted object under `from`, " +
+        "with the same `blobs` output as the polling Trigger. Objects are not downloaded: `uri` is the gs:// URI of the object. " +
+        "The bucket must publish its notifications to `topic`, e.g. with `gcloud storage buckets notifications create gs://my-bucket --topic=my-topic`; " +
+        "unlike the polling Trigger, no GCS operation is made while the bucket is idle."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Process each new file of a bucket directory as soon as it is uploaded",
+            code = """
+                id: gcs_realtime
+                namespace: company.team
+
+                tasks:
+                  - id: download
+                    type: io.kestra.plugin.gcp.gcs.Download
+                    from: "{{ trigger.blobs[0].uri }}"
+
+                triggers:
+                  - id: watch
+                    type: io.kestra.plugin.gcp.gcs.RealtimeTrigger
+                    projectId: my-project
+                    topic: my-bucket-notifications
+                    subscription: kestra-my-bucket
+                    from: gs://my-bucket/kestra/listen/
+                    changeTypes:
+                      - CREATE
+                """
+        )
+    }
+)
+public class RealtimeTrigger extends AbstractTrigger implements RealtimeTriggerInterface, TriggerOutput<Trigger.Output>, GcpInterface {
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson(false);
+
+    private static final String EVENT_TYPE = "eventType";
+    private static final String OVERWROTE_GENERATION = "overwroteGeneration";
+    private static final String OVERWRITTEN_BY_GENERATION = "overwrittenByGeneration";
+
+    protected Property<String> projectId;
+    protected Property<String> serviceAccount;
+    protected Property<String> impersonatedServiceAccount;
+
+    @Builder.Default
+    protected Property<List<String>> scopes = Property.ofValue(Collections.singletonList("https://www.googleapis.com/auth/cloud-platform"));
+
+    @Schema(
+        title = "Notification topic",
+        description = "Pub/Sub topic ID the bucket notifications are published to"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> topic;
+
+    @Schema(
+        title = "Subscription",
+        description = "Subscription name; auto-created when `autoCreateSubscription` is true"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> subscription;
+
+    @Schema(
+        title = "Auto-create subscription",
+        description = "Create the subscription if missing; default true"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> autoCreateSubscription = Property.ofValue(true);
+
+    @Schema(
+        title = "Source prefix",
+        description = "gs:// path whose objects trigger executions; notifications for other buckets or prefixes are ignored"
+    )
+    @NotNull
+    @PluginProperty(group = "source")
+    private Property<String> from;
+
+    @Schema(
+        title = "Regex filter",
+        description = "Optional regex applied to full object path (e.g., `.*2020-01-0.\\\\.csv`)"
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> regExp;
+
+    @Schema(
+        title = "Change types",
+        description = "Object changes that trigger an execution; CREATE and UPDATE come from `OBJECT_FINALIZE` notifications, " +
+            "DELETE from `OBJECT_DELETE` ones that are not due to an overwrite. Defaults to CREATE and UPDATE"
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<List<Trigger.ChangeType>> changeTypes = Property.ofValue(List.of(Trigger.ChangeType.CREATE, Trigger.ChangeType.UPDATE));
+
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<io.kestra.plugin.gcp.pubsub.RealtimeTrigger> subscriberReference = new AtomicReference<>();
+
+    @Override
+    public Publisher<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        RunContext runContext = conditionContext.getRunContext();
+        Logger logger = runContext.logger();
+
+        URI from = URI.create(runContext.render(this.from).as(String.class).orElseThrow());
+        String prefix = from.getPath().isEmpty() ? "" : from.getPath().substring(1);
+        String regExp = runContext.render(this.regExp).as(String.class).orElse(null);
+        List<Trigger.ChangeType> rChangeTypes = runContext.render(this.changeTypes).asList(Trigger.ChangeType.class);
+
+        // the Pub/Sub trigger only subscribes, the executions are generated here from the notifications
+        io.kestra.plugin.gcp.pubsub.RealtimeTrigger subscriber = io.kestra.plugin.gcp.pubsub.RealtimeTrigger.builder()
+            .id(this.id)
+            .type(io.kestra.plugin.gcp.pubsub.RealtimeTrigger.class.getName())
+            .projectId(this.projectId)
+            .serviceAccount(this.serviceAccount)
+            .impersonatedServiceAccount(this.impersonatedServiceAccount)
+            .scopes(this.scopes)
+            .topic(this.topic)
+            .subscription(this.subscription)
+            .autoCreateSubscription(this.autoCreateSubscription)
+            .serdeType(Property.ofValue(SerdeType.STRING))
+            .build();
+        this.subscriberReference.set(subscriber);
+
+        return Flux.from(subscriber.messages(runContext))
+            .flatMapIterable(message -> {
+                Trigger.TriggeredBlob blob;
+                try {
+                    blob = triggeredBlob(message);
+                } catch (IllegalArgumentException e) {
+                    // a single malformed notification must not stop the trigger
+                    logger.warn("Ignoring notification '{}': {}", message.getMessageId(), e.getMessage());
+                    return List.of();
+                }
+
+                if (blob == null) {
+                    logger.debug("Ignoring notification '{}' with event type '{}'", message.getMessageId(), message.getAttributes().get(EVENT_TYPE));
+                    return List.of();
+                }
+
+                Blob object = blob.getBlob();
+                if (!object.getBucket().equals(from.getAuthority()) ||
+                    !object.getName().startsWith(prefix) ||
+                    !rChangeTypes.contains(blob.getChangeType()) ||
+                    (regExp != null && !object.getUri().toString().matches(regExp))
+                ) {
+                    return List.of();
+                }
+
+                return List.of(blob);
+            })
+            .map(blob -> TriggerService.generateRealtimeExecution(
+                this,
+                conditionContext,
+                context,
+                Trigger.Output.builder().blobs(List.of(blob)).build()
+            ));
+    }
+
+    /**
+     * Maps a bucket notification to the blob it is about, or null for the events that don't trigger executions
+     * (metadata updates, archives, and deletions caused by an overwrite, that are reported as an UPDATE by the finalize).
+     */
+    static Trigger.TriggeredBlob triggeredBlob(Message message) {
+        Map<String, String> attributes = message.getAttributes();
+
+        Trigger.ChangeType changeType = switch (attributes.getOrDefault(EVENT_TYPE, "")) {
+            case "OBJECT_FINALIZE" -> attributes.containsKey(OVERWROTE_GENERATION) ? Trigger.ChangeType.UPDATE : Trigger.ChangeType.CREATE;
+            case "OBJECT_DELETE" -> attributes.containsKey(OVERWRITTEN_BY_GENERATION) ? null : Trigger.ChangeType.DELETE;
+            default -> null;
+        };
+
+        if (changeType == null) {
+            return null;
+        }
+
+        return Trigger.TriggeredBlob.builder()
+            .blob(blob(message.getData() instanceof byte[] data ? data : new byte[0], attributes))
+            .changeType(changeType)
+            .build();
+    }
+
+    /**
+     * Reads the object resource of a `JSON_API_V1` payload, or only the bucket and name attributes for a `NONE` payload.
+     * A notification missing the bucket or the object name, or with a malformed field, is rejected with an
+     * {@link IllegalArgumentException}.
+     */
+    private static Blob blob(byte[] payload, Map<String, String> attributes) {
+        if (payload.length == 0) {
+            String bucket = required(attributes.get("bucketId"), "bucketId attribute");
+            String name = required(attributes.get("objectId"), "objectId attribute");
+
+            return Blob.builder()
+                .uri(Blob.uri(bucket, name))
+                .bucket(bucket)
+                .name(name)
+                .build();
+        }
+
+        Map<String, Object> resource;
+        try {
+            resource = MAPPER.readValue(payload, new TypeReference<>() {});
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid notification payload: " + e.getMessage(), e);
+        }
+
+        try {
+            return blob(resource);
+        } catch (ClassCastException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid notification payload: " + e.getMessage(), e);
+        }
+    }
+
+    private static Blob blob(Map<String, Object> resource) {
+        String bucket = required((String) resource.get("bucket"), "bucket");
+        String name = required((String) resource.get("name"), "name");
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> metadata = (Map<String, String>) resource.get("metadata");
+
+        return Blob.builder()
+            .uri(Blob.uri(bucket, name))
+            .bucket(bucket)
+            .name(name)
+            .generatedId((String) resource.get("id"))
+            .selfLink((String) resource.get("selfLink"))
+            .cacheControl((String) resource.get("cacheControl"))
+            .size(asLong(resource.get("size")))
+            .etag((String) resource.get("etag"))
+            .md5((String) resource.get("md5Hash"))
+            .crc32c((String) resource.get("crc32c"))
+            .customTime(asInstant(resource.get("customTime")))
+            .mediaLink((String) resource.get("mediaLink"))
+            .metadata(metadata)
+            .metaGeneration(asLong(resource.get("metageneration")))
+            .deleteTime(asInstant(resource.get("timeDeleted")))
+            .updateTime(asInstant(resource.get("updated")))
+            .createTime(asInstant(resource.get("timeCreated")))
+            .contentType((String) resource.get("contentType"))
+            .contentEncoding((String) resource.get("contentEncoding"))
+            .contentDisposition((String) resource.get("contentDisposition"))
+            .contentLanguage((String) resource.get("contentLanguage"))
+            .timeStorageClassUpdated(asInstant(resource.get("timeStorageClassUpdated")))
+            .componentCount(Optional.ofNullable(asLong(resource.get("componentCount"))).map(Long::intValue).orElse(null))
+            .isDirectory(name.endsWith("/"))
+            .kmsKeyName((String) resource.get("kmsKeyName"))
+            .eventBasedHold((Boolean) resource.get("eventBasedHold"))
+            .temporaryHold((Boolean) resource.get("temporaryHold"))
+            .retentionExpirationTime(Optional.ofNullable(asInstant(resource.get("retentionExpirationTime"))).map(Instant::toEpochMilli).orElse(null))
+            .build();
+    }
+
+    private static String required(String value, String field) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Invalid notification, missing " + field);
+        }
+
+        return value;
+    }
+
+    // the JSON API serializes 64-bit integers as strings
+    private static Long asLong(Object value) {
+        return switch (value) {
+            case null -> null;
+            case Number number -> number.longValue();
+            default -> Long.parseLong(value.toString());
+        };
+    }
+
+    private static Instant asInstant(Object value) {
+        return value == null ? null : Instant.parse(value.toString());
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void kill() {
+        Optional.ofNullable(this.subscriberReference.get()).ifPresent(io.kestra.plugin.gcp.pubsub.RealtimeTrigger::kill);
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void stop() {
+        Optional.ofNullable(this.subscriberReference.get()).ifPresent(io.kestra.plugin.gcp.pubsub.RealtimeTrigger::stop);
+    }
+}
@@ -0,0 +1,27 @@
+package io.kestra.plugin.gcp.gcs;
+
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public interface TransportInterface {
+    @Schema(
+        title = "Transport used to reach Cloud Storage",
+        description = "`HTTP` (default) uses the JSON API. `GRPC` uses the gRPC API, which has a lower per-request overhead and a higher single-stream throughput, notably from Compute Engine and GKE with `directPath`."
+    )
+    @PluginProperty(group = "connection")
+    Property<Transport> getTransport();
+
+    @Schema(
+        title = "Attempt a direct connection with the gRPC transport",
+        description = "Only used with the `GRPC` transport. When running on Compute Engine or GKE with direct connectivity, the traffic goes straight to Cloud Storage instead of through the Google Front Ends; the standard gRPC connection is used otherwise."
+    )
+    @PluginProperty(group = "connection")
+    Property<Boolean> getDirectPath();
+
+    enum Transport {
+        HTTP,
+        GRPC
+    }
+}
@@ -96,7 +96,7 @@ import io.kestra.core.models.annotations.PluginProperty;
         )
     }
 )
-public class Trigger extends AbstractTrigger implements PollingTriggerInterface, TriggerOutput<Trigger.Output>, GcpInterface, ListInterface, ActionInterface, StatefulTriggerInterface {
+public class Trigger extends AbstractTrigger implements PollingTriggerInterface, TriggerOutput<Trigger.Output>, GcpInterface, ListInterface, ActionInterface, StatefulTriggerInterface, TransportInterface {
     private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
 
     @Builder.Default
@@ -109,6 +109,12 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
     @Builder.Default
     protected Property<java.util.List<String>> scopes = Property.ofValue(Collections.singletonList("https://www.googleapis.com/auth/cloud-platform"));
 
+    @Builder.Default
+    private Property<Transport> transport = Property.ofValue(Transport.HTTP);
+
+    @Builder.Default
+    private Property<Boolean> directPath = Property.ofValue(true);
+
     @Schema(
         title = "Source prefix",
         description = "gs:// path to poll for new or updated objects"
@@ -135,6 +141,12 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
 
     private Property<String> regExp;
 
+    private Property<String> matchGlob;
+
+    private Property<String> startOffset;
+
+    private Property<String> endOffset;
+
     @Builder.Default
     private final Property<On> on = Property.ofValue(On.CREATE_OR_UPDATE);
 
@@ -172,10 +184,15 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
             .projectId(projectId)
             .serviceAccount(serviceAccount)
             .scopes(scopes)
+            .transport(transport)
+            .directPath(directPath)
             .from(from)
             .filter(Property.ofValue(Filter.FILES))
             .listingType(listingType)
             .regExp(regExp)
+            .matchGlob(matchGlob)
+            .startOffset(startOffset)
+            .endOffset(endOffset)
             .maxFiles(maxFiles)
             .build();
 
@@ -232,7 +249,7 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
                 return Optional.empty();
             }
 
-            Downloads.performAction(actionBlobs, runContext.render(action).as(Action.class).orElseThrow(), moveDirectory, runContext, projectId, serviceAccount, scopes);
+            Downloads.performAction(actionBlobs, runContext.render(action).as(Action.class).orElseThrow(), moveDirectory, runContext, projectId, serviceAccount, scopes, this);
 
             var output = Output.builder().blobs(toFire).build();
             return Optional.of(TriggerService.generateExecution(this, conditionContext, context, output));
@@ -241,7 +258,9 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
 
     public enum ChangeType {
         CREATE,
-        UPDATE
+        UPDATE,
+        // only emitted by the RealtimeTrigger
+        DELETE
     }
 
     @Getter
@@ -1,13 +1,8 @@
 package io.kestra.plugin.gcp.gcs;
 
-import java.io.InputStream;
 import java.net.URI;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-import java.security.DigestInputStream;
-import java.security.MessageDigest;
-import java.util.Base64;
-import java.util.zip.CRC32C;
+import java.nio.channels.ReadableByteChannel;
 
 import org.slf4j.Logger;
 
@@ -88,6 +83,10 @@ import lombok.experimental.SuperBuilder;
     description = "Reads a file from Kestra internal storage and writes it to a gs:// destination. Supports content metadata settings."
 )
 public class Upload extends AbstractGcs implements RunnableTask<Upload.Output> {
+    private static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+    // resumable upload chunks must be a multiple of 256 KiB
+    private static final int CHUNK_SIZE_MULTIPLE = 256 * 1024;
+
     @Schema(
         title = "Source file URI",
         description = "Kestra internal storage URI to upload"
@@ -134,6 +133,15 @@ public class Upload extends AbstractGcs implements RunnableTask<Upload.Output> {
     @Builder.Default
     private Property<Boolean> validateChecksum = Property.ofValue(true);
 
+    @Schema(
+        title = "Chunk size",
+        description = "Size in bytes of the chunks sent by the resumable upload, and of the buffer the source is read into; " +
+            "must be a multiple of 256 KiB. Larger chunks use fewer requests on large files; defaults to 16 MiB"
+    )
+    @PluginProperty(group = "advanced")
+    @Builder.Default
+    private Property<Integer> chunkSize = Property.ofValue(DEFAULT_CHUNK_SIZE);
+
     @Schema(
         title = "Expected MD5 of the source",
         description = "Optional base64-encoded MD5 digest. When set, the task fails if the source data read from Kestra internal storage does not match this digest. Use this to assert end-to-end integrity against a checksum produced upstream."
@@ -189,33 +197,36 @@ public class Upload extends AbstractGcs implements RunnableTask<Upload.Output> {
 
         logger.debug("Upload from '{}' to '{}'", from, to);
 
-        MessageDigest md5Digest = computeLocally ? MessageDigest.getInstance("MD5") : null;
-        CRC32C crc32c = computeLocally ? new CRC32C() : null;
+        int rChunkSize = runContext.render(this.chunkSize).as(Integer.class).orElse(DEFAULT_CHUNK_SIZE);
+        if (rChunkSize <= 0 || rChunkSize % CHUNK_SIZE_MULTIPLE != 0) {
+            throw new IllegalArgumentException("Invalid chunk size " + rChunkSize + ", must be a positive multiple of " + CHUNK_SIZE_MULTIPLE);
+        }
+
+        // the internal storage stream is read in large blocks, filling the whole chunk before it is sent
+        ByteBuffer buffer = DirectBufferPool.acquire(rChunkSize);
+        try (ReadableByteChannel data = InputStreamChannel.of(runContext.storage().getFile(from))) {
+            long size;
+            String computedMd5 = null;
+            String computedCrc32c = null;
 
-        try (InputStream rawData = runContext.storage().getFile(from);
-             InputStream data = computeLocally ? new DigestInputStream(rawData, md5Digest) : rawData) {
-            long size = 0;
             try (WriteChannel writer = connection.writer(destination)) {
-                byte[] buffer = new byte[10_240];
-
-                int limit;
-                while ((limit = data.read(buffer)) >= 0) {
-                    if (computeLocally) {
-                        crc32c.update(buffer, 0, limit);
-                    }
-                    writer.write(ByteBuffer.wrap(buffer, 0, limit));
-                    size += limit;
+                writer.setChunkSize(rChunkSize);
+
+                if (computeLocally) {
+                    // both checksums are computed in the same pass, from the direct buffer the chunk is sent from
+                    HashingWritableByteChannel crc32c = HashingWritableByteChannel.crc32c(writer);
+                    HashingWritableByteChannel md5 = HashingWritableByteChannel.md5(crc32c);
+
+                    size = md5.transferFrom(data, buffer);
+
+                    computedMd5 = md5.checksum();
+                    computedCrc32c = crc32c.checksum();
+                } else {
+                    size = HashingWritableByteChannel.transfer(data, writer, buffer);
                 }
             }
 
-            String computedMd5 = null;
-            String computedCrc32c = null;
             if (computeLocally) {
-                computedMd5 = Base64.getEncoder().encodeToString(md5Digest.digest());
-                computedCrc32c = Base64.getEncoder().encodeToString(
-                    ByteBuffer.allocate(4).order(ByteOrder.BIG_ENDIAN).putInt((int) crc32c.getValue()).array()
-                );
-
                 verifyChecksums(
                     computedMd5,
                     computedCrc32c,
@@ -236,6 +247,8 @@ public class Upload extends AbstractGcs implements RunnableTask<Upload.Output> {
                 .md5(computedMd5)
                 .crc32c(computedCrc32c)
                 .build();
+        } finally {
+            DirectBufferPool.release(buffer);
         }
     }
 
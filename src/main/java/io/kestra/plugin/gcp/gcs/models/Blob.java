@@ -46,7 +46,11 @@ public class Blob {
     private final Long retentionExpirationTime;
 
     public static URI uri(com.google.cloud.storage.Blob blob) {
-        return URI.create("gs://" + blob.getBucket() + "/" + blob.getName().replace(" ", "+"));
+        return uri(blob.getBucket(), blob.getName());
+    }
+
+    public static URI uri(String bucket, String name) {
+        return URI.create("gs://" + bucket + "/" + name.replace(" ", "+"));
     }
 
     public static Blob of(com.google.cloud.storage.Blob blob) {
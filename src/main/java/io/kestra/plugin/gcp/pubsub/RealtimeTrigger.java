@@ -168,6 +168,14 @@ public class RealtimeTrigger extends AbstractTrigger implements RealtimeTriggerI
 
     @Override
     public Publisher<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        return Flux.from(this.messages(conditionContext.getRunContext()))
+            .map(message -> TriggerService.generateRealtimeExecution(this, conditionContext, context, message));
+    }
+
+    /**
+     * Subscribes and streams the received messages, acked once emitted, until the trigger is stopped or killed.
+     */
+    public Publisher<Message> messages(RunContext runContext) throws Exception {
         Consume task = Consume.builder()
             .topic(this.topic)
             .subscription(this.subscription)
@@ -180,8 +188,7 @@ public class RealtimeTrigger extends AbstractTrigger implements RealtimeTriggerI
             .serdeType(this.serdeType)
             .build();
 
-        return Flux.from(publisher(task, conditionContext.getRunContext()))
-            .map(message -> TriggerService.generateRealtimeExecution(this, conditionContext, context, message));
+        return publisher(task, runContext);
     }
 
     private Publisher<Message> publisher(final Consume task, final RunContext runContext) throws Exception {
@@ -5,17 +5,22 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URI;
+import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
 
+import com.google.cloud.Timestamp;
 import com.google.cloud.spanner.*;
 
 import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.common.FetchType;
@@ -60,7 +65,32 @@ import lombok.experimental.SuperBuilder;
                       department: "{{ inputs.department }}"
                     fetchType: STORE
                 """
+        ),
+        @Example(
+            title = "Export a table with Data Boost on a 15 seconds stale snapshot, off the OLTP leaders",
+            full = true,
+            code = """
+                id: spanner_query_data_boost
+                namespace: company.team
+
+                tasks:
+                  - id: export
+                    type: io.kestra.plugin.gcp.spanner.Query
+                    projectId: "{{ secret('GCP_PROJECT_ID') }}"
+                    instanceId: my-instance
+                    databaseId: my-database
+                    sql: "SELECT * FROM orders"
+                    exactStaleness: PT15S
+                    dataBoostEnabled: true
+                    priority: LOW
+                    requestTag: reporting-export
+                    fetchType: STORE
+                """
         )
+    },
+    metrics = {
+        @Metric(name = "rows", type = Counter.TYPE, unit = "records", description = "The number of rows read by the query, tagged with the request tag when set."),
+        @Metric(name = "partitions", type = Counter.TYPE, description = "The number of partitions read when Data Boost is enabled.")
     }
 )
 public class Query extends AbstractSpanner implements RunnableTask<Query.Output> {
@@ -79,6 +109,53 @@ public class Query extends AbstractSpanner implements RunnableTask<Query.Output>
     @PluginProperty(group = "processing")
     private Property<FetchType> fetchType = Property.ofValue(FetchType.NONE);
 
+    @Schema(
+        title = "Read at an exact timestamp",
+        description = "RFC 3339 timestamp (e.g. `2024-01-01T00:00:00Z`) to read the database as of. " +
+            "Mutually exclusive with `exactStaleness` and `maxStaleness`; a strong read is used when none of them is set."
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> readTimestamp;
+
+    @Schema(
+        title = "Read at a timestamp exactly this old",
+        description = "Stale reads can be served by any replica without waiting on the leader, " +
+            "which moves reporting load away from the read-write traffic."
+    )
+    @PluginProperty(group = "processing")
+    private Property<Duration> exactStaleness;
+
+    @Schema(
+        title = "Read at a timestamp at most this old",
+        description = "Lets Spanner pick the freshest timestamp available on the nearest replica without blocking. " +
+            "Not supported when `dataBoostEnabled` is true."
+    )
+    @PluginProperty(group = "processing")
+    private Property<Duration> maxStaleness;
+
+    @Schema(
+        title = "Request priority",
+        description = "Priority of the query compared to the other requests on the instance; use `LOW` for analytics extracts."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Options.RpcPriority> priority;
+
+    @Schema(
+        title = "Request tag",
+        description = "Tag attached to the query, visible in Spanner query statistics and added to the task metrics."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<String> requestTag;
+
+    @Builder.Default
+    @Schema(
+        title = "Run the query as a partitioned query on Data Boost",
+        description = "The query is split with the batch client and every partition is executed on Spanner Data Boost independent compute resources, " +
+            "so the read has no impact on the provisioned instance. The query must be root-partitionable."
+    )
+    @PluginProperty(group = "processing")
+    private Property<Boolean> dataBoostEnabled = Property.ofValue(false);
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         var rSql = runContext.render(this.sql).as(String.class).orElseThrow();
@@ -93,26 +170,28 @@ public class Query extends AbstractSpanner implements RunnableTask<Query.Output>
         }
 
         var statement = stmtBuilder.build();
+        var rDataBoostEnabled = runContext.render(this.dataBoostEnabled).as(Boolean.class).orElse(false);
+        var timestampBound = this.timestampBound(runContext, rDataBoostEnabled);
+        var queryOptions = this.queryOptions(runContext, rDataBoostEnabled);
+        var rRequestTag = runContext.render(this.requestTag).as(String.class);
+        var tags = rRequestTag.map(tag -> new String[]{"requestTag", tag}).orElse(new String[0]);
+
         var outputBuilder = Output.builder();
 
         try (var spanner = this.spannerClient(runContext)) {
-            var dbClient = spanner.getDatabaseClient(this.databaseId(runContext));
-            try (var resultSet = dbClient.singleUse().executeQuery(statement)) {
-                if (FetchType.STORE.equals(rFetchType)) {
-                    var stored = this.storeResult(resultSet, runContext);
-                    outputBuilder.uri(stored.getKey()).size(stored.getValue());
-                } else {
-                    var fetch = new ArrayList<Map<String, Object>>();
-                    while (resultSet.next()) {
-                        fetch.add(rowToMap(resultSet.getCurrentRowAsStruct()));
-                    }
-                    outputBuilder.size((long) fetch.size());
+            var dbId = this.databaseId(runContext);
+            if (FetchType.STORE.equals(rFetchType)) {
+                var stored = this.storeResult(runContext, spanner, dbId, statement, timestampBound, queryOptions, rDataBoostEnabled, tags);
+                outputBuilder.uri(stored.getKey()).size(stored.getValue());
+            } else {
+                var fetch = new ArrayList<Map<String, Object>>();
+                this.read(runContext, spanner, dbId, statement, timestampBound, queryOptions, rDataBoostEnabled, tags, fetch::add);
+                outputBuilder.size((long) fetch.size());
 
-                    if (FetchType.FETCH.equals(rFetchType)) {
-                        outputBuilder.rows(fetch);
-                    } else if (FetchType.FETCH_ONE.equals(rFetchType)) {
-                        outputBuilder.row(fetch.isEmpty() ? new LinkedHashMap<>() : fetch.get(0));
-                    }
+                if (FetchType.FETCH.equals(rFetchType)) {
+                    outputBuilder.rows(fetch);
+                } else if (FetchType.FETCH_ONE.equals(rFetchType)) {
+                    outputBuilder.row(fetch.isEmpty() ? new LinkedHashMap<>() : fetch.get(0));
                 }
             }
         }
@@ -120,16 +199,117 @@ public class Query extends AbstractSpanner implements RunnableTask<Query.Output>
         return outputBuilder.build();
     }
 
-    private Map.Entry<URI, Long> storeResult(ResultSet resultSet, RunContext runContext) throws IOException {
+    private TimestampBound timestampBound(RunContext runContext, boolean dataBoost) throws Exception {
+        var rReadTimestamp = runContext.render(this.readTimestamp).as(String.class);
+        var rExactStaleness = runContext.render(this.exactStaleness).as(Duration.class);
+        var rMaxStaleness = runContext.render(this.maxStaleness).as(Duration.class);
+
+        var defined = (rReadTimestamp.isPresent() ? 1 : 0) + (rExactStaleness.isPresent() ? 1 : 0) + (rMaxStaleness.isPresent() ? 1 : 0);
+        if (defined > 1) {
+            throw new IllegalArgumentException("Only one of 'readTimestamp', 'exactStaleness' or 'maxStaleness' can be set");
+        }
+
+        if (rReadTimestamp.isPresent()) {
+            return TimestampBound.ofReadTimestamp(Timestamp.parseTimestamp(rReadTimestamp.get()));
+        }
+
+        if (rExactStaleness.isPresent()) {
+            return TimestampBound.ofExactStaleness(rExactStaleness.get().toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        if (rMaxStaleness.isPresent()) {
+            if (dataBoost) {
+                throw new IllegalArgumentException("'maxStaleness' is not supported with 'dataBoostEnabled', use 'exactStaleness' or 'readTimestamp' instead");
+            }
+            return TimestampBound.ofMaxStaleness(rMaxStaleness.get().toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        return TimestampBound.strong();
+    }
+
+    private Options.QueryOption[] queryOptions(RunContext runContext, boolean dataBoost) throws Exception {
+        var options = new ArrayList<Options.QueryOption>();
+
+        var rPriority = runContext.render(this.priority).as(Options.RpcPriority.class);
+        rPriority.ifPresent(p -> options.add(Options.priority(p)));
+
+        var rRequestTag = runContext.render(this.requestTag).as(String.class);
+        rRequestTag.ifPresent(tag -> options.add(Options.tag(tag)));
+
+        if (dataBoost) {
+            options.add(Options.dataBoostEnabled(true));
+        }
+
+        return options.toArray(new Options.QueryOption[0]);
+    }
+
+    private long read(
+        RunContext runContext,
+        Spanner spanner,
+        DatabaseId dbId,
+        Statement statement,
+        TimestampBound timestampBound,
+        Options.QueryOption[] queryOptions,
+        boolean dataBoost,
+        String[] tags,
+        RowConsumer consumer
+    ) throws IOException {
+        var rowCount = 0L;
+
+        if (dataBoost) {
+            var batchClient = spanner.getBatchClient(dbId);
+            try (var transaction = batchClient.batchReadOnlyTransaction(timestampBound)) {
+                var partitions = transaction.partitionQuery(PartitionOptions.getDefaultInstance(), statement, queryOptions);
+                runContext.logger().debug("Query split into {} partitions", partitions.size());
+                runContext.metric(Counter.of("partitions", partitions.size(), tags));
+
+                for (var partition : partitions) {
+                    try (var resultSet = transaction.execute(partition)) {
+                        rowCount += this.consume(resultSet, consumer);
+                    }
+                }
+            }
+        } else {
+            var dbClient = spanner.getDatabaseClient(dbId);
+            try (var resultSet = dbClient.singleUse(timestampBound).executeQuery(statement, queryOptions)) {
+                rowCount = this.consume(resultSet, consumer);
+            }
+        }
+
+        runContext.metric(Counter.of("rows", rowCount, tags));
+
+        return rowCount;
+    }
+
+    private long consume(ResultSet resultSet, RowConsumer consumer) throws IOException {
+        SpannerRowDecoder decoder = null;
+        var count = 0L;
+        while (resultSet.next()) {
+            if (decoder == null) {
+                decoder = SpannerRowDecoder.of(resultSet.getType());
+            }
+            consumer.accept(decoder.decode(resultSet));
+            count++;
+        }
+        return count;
+    }
+
+    private Map.Entry<URI, Long> storeResult(
+        RunContext runContext,
+        Spanner spanner,
+        DatabaseId dbId,
+        Statement statement,
+        TimestampBound timestampBound,
+        Options.QueryOption[] queryOptions,
+        boolean dataBoost,
+        String[] tags
+    ) throws IOException {
         var tempFile = runContext.workingDir().createTempFile(".ion").toFile();
-        var lineCount = 0L;
+        long lineCount;
         try (
             var output = new BufferedOutputStream(new FileOutputStream(tempFile), FileSerde.BUFFER_SIZE)
         ) {
-            while (resultSet.next()) {
-                FileSerde.write(output, rowToMap(resultSet.getCurrentRowAsStruct()));
-                lineCount++;
-            }
+            lineCount = this.read(runContext, spanner, dbId, statement, timestampBound, queryOptions, dataBoost, tags, row -> FileSerde.write(output, row));
         }
         return new AbstractMap.SimpleEntry<>(
             runContext.storage().putFile(tempFile),
@@ -137,6 +317,11 @@ public class Query extends AbstractSpanner implements RunnableTask<Query.Output>
         );
     }
 
+    @FunctionalInterface
+    private interface RowConsumer {
+        void accept(Map<String, Object> row) throws IOException;
+    }
+
     @Builder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
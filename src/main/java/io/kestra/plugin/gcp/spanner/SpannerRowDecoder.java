@@ -0,0 +1,109 @@
+package io.kestra.plugin.gcp.spanner;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.cloud.spanner.StructReader;
+import com.google.cloud.spanner.Type;
+
+import io.kestra.core.serializers.JacksonMapper;
+
+/**
+ * Decodes Spanner rows into maps with positional column readers compiled once from the row type.
+ * <p>
+ * Resolving the struct fields and switching on their type codes is done when the decoder is built,
+ * so decoding a row is only a loop over the column readers. The decoder can be applied directly on a
+ * {@link com.google.cloud.spanner.ResultSet} to avoid copying the current row into a {@link com.google.cloud.spanner.Struct}.
+ */
+public final class SpannerRowDecoder {
+    private final String[] names;
+    private final ColumnReader[] readers;
+
+    private SpannerRowDecoder(String[] names, ColumnReader[] readers) {
+        this.names = names;
+        this.readers = readers;
+    }
+
+    public static SpannerRowDecoder of(Type type) {
+        List<Type.StructField> fields = type.getStructFields();
+        var names = new String[fields.size()];
+        var readers = new ColumnReader[fields.size()];
+
+        for (var i = 0; i < fields.size(); i++) {
+            names[i] = fields.get(i).getName();
+            readers[i] = reader(fields.get(i).getType());
+        }
+
+        return new SpannerRowDecoder(names, readers);
+    }
+
+    public Map<String, Object> decode(StructReader row) {
+        Map<String, Object> map = LinkedHashMap.newLinkedHashMap(readers.length);
+        for (var i = 0; i < readers.length; i++) {
+            map.put(names[i], row.isNull(i) ? null : readers[i].read(row, i));
+        }
+        return map;
+    }
+
+    private static ColumnReader reader(Type type) {
+        return switch (type.getCode()) {
+            case BOOL -> StructReader::getBoolean;
+            case INT64 -> StructReader::getLong;
+            case FLOAT64 -> StructReader::getDouble;
+            case NUMERIC -> StructReader::getBigDecimal;
+            case STRING -> StructReader::getString;
+            case JSON -> (row, index) -> {
+                String json = row.getJson(index);
+                try {
+                    return JacksonMapper.toMap(json);
+                } catch (Exception e) {
+                    return json;
+                }
+            };
+            case BYTES -> (row, index) -> row.getBytes(index).toByteArray();
+            case TIMESTAMP -> (row, index) -> row.getTimestamp(index).toSqlTimestamp().toInstant();
+            case DATE -> (row, index) -> toLocalDate(row.getDate(index));
+            case ARRAY -> arrayReader(type.getArrayElementType());
+            case STRUCT -> {
+                var decoder = SpannerRowDecoder.of(type);
+                yield (row, index) -> decoder.decode(row.getStruct(index));
+            }
+            default -> (row, index) -> row.getValue(index).toString();
+        };
+    }
+
+    private static ColumnReader arrayReader(Type elementType) {
+        return switch (elementType.getCode()) {
+            case BOOL -> StructReader::getBooleanList;
+            case INT64 -> StructReader::getLongList;
+            case FLOAT64 -> StructReader::getDoubleList;
+            case NUMERIC -> StructReader::getBigDecimalList;
+            case STRING -> StructReader::getStringList;
+            case JSON -> StructReader::getJsonList;
+            case TIMESTAMP -> (row, index) -> row.getTimestampList(index).stream()
+                .map(t -> t.toSqlTimestamp().toInstant())
+                .toList();
+            case DATE -> (row, index) -> row.getDateList(index).stream()
+                .map(SpannerRowDecoder::toLocalDate)
+                .toList();
+            case STRUCT -> {
+                var decoder = SpannerRowDecoder.of(elementType);
+                yield (row, index) -> row.getStructList(index).stream()
+                    .map(decoder::decode)
+                    .toList();
+            }
+            default -> (row, index) -> row.getValue(index).toString();
+        };
+    }
+
+    private static LocalDate toLocalDate(com.google.cloud.Date date) {
+        return LocalDate.of(date.getYear(), date.getMonth(), date.getDayOfMonth());
+    }
+
+    @FunctionalInterface
+    private interface ColumnReader {
+        Object read(StructReader row, int index);
+    }
+}
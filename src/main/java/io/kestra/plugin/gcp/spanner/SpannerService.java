@@ -12,7 +12,6 @@ import com.google.cloud.Timestamp;
 import com.google.cloud.Date;
 import com.google.cloud.ByteArray;
 import com.google.cloud.spanner.*;
-import com.google.cloud.spanner.Type;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.runners.RunContext;
@@ -144,83 +143,6 @@ public class SpannerService {
     }
 
     public static Map<String, Object> rowToMap(Struct row) {
-        Map<String, Object> map = new LinkedHashMap<>();
-        for (Type.StructField field : row.getType().getStructFields()) {
-            String name = field.getName();
-            map.put(name, getValue(row, name, field.getType()));
-        }
-        return map;
-    }
-
-    private static Object getValue(Struct row, String columnName, Type type) {
-        if (row.isNull(columnName)) {
-            return null;
-        }
-
-        Type.Code code = type.getCode();
-        switch (code) {
-            case BOOL:
-                return row.getBoolean(columnName);
-            case INT64:
-                return row.getLong(columnName);
-            case FLOAT64:
-                return row.getDouble(columnName);
-            case NUMERIC:
-                return row.getBigDecimal(columnName);
-            case STRING:
-                return row.getString(columnName);
-            case JSON:
-                String jsonVal = row.getJson(columnName);
-                try {
-                    return JacksonMapper.toMap(jsonVal);
-                } catch (Exception e) {
-                    return jsonVal;
-                }
-            case BYTES:
-                return row.getBytes(columnName).toByteArray();
-            case TIMESTAMP:
-                return row.getTimestamp(columnName).toSqlTimestamp().toInstant();
-            case DATE:
-                com.google.cloud.Date date = row.getDate(columnName);
-                return java.time.LocalDate.of(date.getYear(), date.getMonth(), date.getDayOfMonth());
-            case ARRAY:
-                return getArrayValue(row, columnName, type.getArrayElementType());
-            case STRUCT:
-                return rowToMap(row.getStruct(columnName));
-            default:
-                return row.getValue(columnName).toString();
-        }
-    }
-
-    private static Object getArrayValue(Struct row, String columnName, Type elementType) {
-        Type.Code elementCode = elementType.getCode();
-        switch (elementCode) {
-            case BOOL:
-                return row.getBooleanList(columnName);
-            case INT64:
-                return row.getLongList(columnName);
-            case FLOAT64:
-                return row.getDoubleList(columnName);
-            case NUMERIC:
-                return row.getBigDecimalList(columnName);
-            case STRING:
-                return row.getStringList(columnName);
-            case JSON:
-                return row.getJsonList(columnName);
-            case TIMESTAMP:
-                return row.getTimestampList(columnName).stream()
-                    .map(t -> t.toSqlTimestamp().toInstant())
-                    .toList();
-            case DATE:
-                return row.getDateList(columnName).stream()
-                    .map(date -> java.time.LocalDate.of(date.getYear(), date.getMonth(), date.getDayOfMonth()))
-                    .toList();
-            case STRUCT:
-                return row.getStructList(columnName).stream()
-                    .map(SpannerService::rowToMap)
-                    .toList();
-            default:
-                return row.getValue(columnName).toString();
-        }
+        return SpannerRowDecoder.of(row.getType()).decode(row);
     }
 }
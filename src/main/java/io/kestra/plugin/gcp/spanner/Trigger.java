@@ -269,8 +269,12 @@ public class Trigger extends AbstractTrigger
         var localRowCount = 0L;
         var localChangeCount = 0L;
         try (var resultSet = dbClient.singleUse().executeQuery(statement)) {
+            SpannerRowDecoder decoder = null;
             while (resultSet.next()) {
-                var rowMap = SpannerService.rowToMap(resultSet.getCurrentRowAsStruct());
+                if (decoder == null) {
+                    decoder = SpannerRowDecoder.of(resultSet.getType());
+                }
+                var rowMap = decoder.decode(resultSet);
                 FileSerde.write(outputStream, rowMap);
                 localRowCount++;
 
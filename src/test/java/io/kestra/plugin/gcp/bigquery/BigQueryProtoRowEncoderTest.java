@@ -0,0 +1,105 @@
+package io.kestra.plugin.gcp.bigquery;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.cloud.bigquery.storage.v1.BQTableSchemaToProtoDescriptor;
+import com.google.cloud.bigquery.storage.v1.BigDecimalByteStringEncoder;
+import com.google.cloud.bigquery.storage.v1.TableFieldSchema;
+import com.google.cloud.bigquery.storage.v1.TableSchema;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.DynamicMessage;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BigQueryProtoRowEncoderTest {
+    private static final TableSchema SCHEMA = TableSchema.newBuilder()
+        .addFields(field("string", TableFieldSchema.Type.STRING))
+        .addFields(field("int", TableFieldSchema.Type.INT64))
+        .addFields(field("float", TableFieldSchema.Type.DOUBLE))
+        .addFields(field("bool", TableFieldSchema.Type.BOOL))
+        .addFields(field("numeric", TableFieldSchema.Type.NUMERIC))
+        .addFields(field("date", TableFieldSchema.Type.DATE))
+        .addFields(field("datetime", TableFieldSchema.Type.DATETIME))
+        .addFields(field("time", TableFieldSchema.Type.TIME))
+        .addFields(field("timestamp", TableFieldSchema.Type.TIMESTAMP))
+        .addFields(field("array", TableFieldSchema.Type.INT64).toBuilder().setMode(TableFieldSchema.Mode.REPEATED))
+        .addFields(
+            field("struct", TableFieldSchema.Type.STRUCT).toBuilder()
+                .addFields(field("x", TableFieldSchema.Type.INT64))
+                .addFields(field("z", TableFieldSchema.Type.INT64).toBuilder().setMode(TableFieldSchema.Mode.REPEATED))
+        )
+        .build();
+
+    private static TableFieldSchema field(String name, TableFieldSchema.Type type) {
+        return TableFieldSchema.newBuilder()
+            .setName(name)
+            .setType(type)
+            .setMode(TableFieldSchema.Mode.NULLABLE)
+            .build();
+    }
+
+    @Test
+    void encode() throws Exception {
+        Map<String, Object> record = new HashMap<>();
+        record.put("String", "hello");
+        record.put("int", 1L);
+        record.put("float", 1.25D);
+        record.put("bool", true);
+        record.put("numeric", new BigDecimal("12.34"));
+        record.put("date", LocalDate.parse("2008-12-25"));
+        record.put("datetime", LocalDateTime.parse("2008-12-25T15:30:00.123456"));
+        record.put("time", LocalTime.parse("15:30:00.123456"));
+        record.put("timestamp", Instant.parse("2008-12-25T15:30:00.123456Z"));
+        record.put("array", List.of(1, 2, 3));
+        record.put("struct", Map.of("x", 4L, "z", List.of(1L, 2L)));
+        record.put("nullable", null);
+
+        ByteString encoded = new BigQueryProtoRowEncoder(SCHEMA).encode(record);
+
+        var descriptor = BQTableSchemaToProtoDescriptor.convertBQTableSchemaToProtoDescriptor(SCHEMA);
+        DynamicMessage message = DynamicMessage.parseFrom(descriptor, encoded);
+
+        assertThat(message.getField(descriptor.findFieldByNumber(1)), is("hello"));
+        assertThat(message.getField(descriptor.findFieldByNumber(2)), is(1L));
+        assertThat(message.getField(descriptor.findFieldByNumber(3)), is(1.25D));
+        assertThat(message.getField(descriptor.findFieldByNumber(4)), is(true));
+        assertThat(
+            BigDecimalByteStringEncoder.decodeNumericByteString((ByteString) message.getField(descriptor.findFieldByNumber(5))),
+            comparesEqualTo(new BigDecimal("12.34"))
+        );
+        assertThat(message.getField(descriptor.findFieldByNumber(6)), is((int) LocalDate.parse("2008-12-25").toEpochDay()));
+        assertThat(message.getField(descriptor.findFieldByNumber(9)), is(1230219000123456L));
+        assertThat(message.getField(descriptor.findFieldByNumber(10)), is(List.of(1L, 2L, 3L)));
+
+        DynamicMessage struct = (DynamicMessage) message.getField(descriptor.findFieldByNumber(11));
+        assertThat(struct.getField(struct.getDescriptorForType().findFieldByNumber(1)), is(4L));
+        assertThat(struct.getField(struct.getDescriptorForType().findFieldByNumber(2)), is(List.of(1L, 2L)));
+    }
+
+    @Test
+    void unknownField() throws Exception {
+        var encoder = new BigQueryProtoRowEncoder(SCHEMA);
+
+        var exception = assertThrows(IllegalArgumentException.class, () -> encoder.encode(Map.of("unknown", 1)));
+        assertThat(exception.getMessage(), containsString("unknown"));
+    }
+
+    @Test
+    void invalidValue() throws Exception {
+        var encoder = new BigQueryProtoRowEncoder(SCHEMA);
+
+        var exception = assertThrows(IllegalArgumentException.class, () -> encoder.encode(Map.of("int", "not a number")));
+        assertThat(exception.getMessage(), containsString("'int'"));
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
 
 import com.devskiller.friendly_id.FriendlyId;
+import com.google.cloud.bigquery.JobInfo;
 import com.google.common.collect.ImmutableMap;
 
 import io.kestra.core.junit.annotations.KestraTest;
@@ -16,7 +17,9 @@ import io.micronaut.context.annotation.Value;
 import jakarta.inject.Inject;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @KestraTest
 @EnabledIfEnvironmentVariable(named = "GOOGLE_APPLICATION_CREDENTIALS", matches = ".+")
@@ -89,6 +92,93 @@ class CopyPartitionsTest {
         assertThat(queryRun.getRow().get("cnt"), is(3L));
     }
 
+    @Test
+    void runPerPartition() throws Exception {
+        String table = "tbl_copy_" + FriendlyId.createFriendlyId();
+        String destinationTable = "tbl_copydest_" + FriendlyId.createFriendlyId();
+
+        Query create = Query.builder()
+            .id(QueryTest.class.getSimpleName())
+            .type(Query.class.getName())
+            .projectId(Property.ofValue(project))
+            .sql(
+                Property.ofValue(
+                    "CREATE TABLE `" + project + "." + dataset + "." + table + "` (transaction_id INT64, transaction_date DATETIME)\n" +
+                        "PARTITION BY DATE(transaction_date)\n" +
+                        "AS (SELECT 1, DATETIME '2020-04-01 12:30:00.45')\n" +
+                        "UNION ALL\n" +
+                        "(SELECT 2, DATETIME '2020-04-02 12:30:00.45')\n" +
+                        "UNION ALL\n" +
+                        "(SELECT 3, DATETIME '2020-04-03 12:30:00.45')\n" +
+                        "UNION ALL\n" +
+                        "(SELECT 4, DATETIME '2020-04-04 12:30:00.45');\n" +
+                        "CREATE TABLE `" + project + "." + dataset + "." + destinationTable + "` (transaction_id INT64, transaction_date DATETIME)\n" +
+                        "PARTITION BY DATE(transaction_date);"
+                )
+            )
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, create, ImmutableMap.of());
+        create.run(runContext);
+
+        CopyPartitions task = CopyPartitions.builder()
+            .id(QueryTest.class.getSimpleName())
+            .type(CopyPartitions.class.getName())
+            .projectId(Property.ofValue(this.project))
+            .dataset(Property.ofValue(this.dataset))
+            .partitionType(Property.ofValue(AbstractPartition.PartitionType.DAY))
+            .table(Property.ofValue(table))
+            .from(Property.ofExpression("{{ '2020-04-02' | date() }}"))
+            .to(Property.ofExpression("{{ '2020-04-04' | date() }}"))
+            .destinationTable(Property.ofValue(this.project + "." + this.dataset + "." + destinationTable))
+            .copyMode(Property.ofValue(CopyPartitions.CopyMode.PER_PARTITION))
+            .parallelism(Property.ofValue(2))
+            .build();
+        runContext = TestsUtils.mockRunContext(runContextFactory, task, ImmutableMap.of());
+        CopyPartitions.Output run = task.run(runContext);
+
+        assertThat(run.getPartitions().size(), is(3));
+        assertThat(run.getPartitionCopies().size(), is(3));
+        assertThat(
+            run.getPartitionCopies().stream().allMatch(copy -> copy.getStatus() == CopyPartitions.PartitionCopy.Status.SUCCEEDED),
+            is(true)
+        );
+
+        Query query = Query.builder()
+            .id(QueryTest.class.getSimpleName())
+            .type(Query.class.getName())
+            .projectId(Property.ofValue(project))
+            .fetchOne(true)
+            .sql(Property.ofValue("SELECT COUNT(*) as cnt FROM `" + project + "." + dataset + "." + destinationTable + "`;"))
+            .build();
+        runContext = TestsUtils.mockRunContext(runContextFactory, query, ImmutableMap.of());
+        Query.Output queryRun = query.run(runContext);
+
+        assertThat(queryRun.getRow().get("cnt"), is(3L));
+
+        CopyPartitions again = CopyPartitions.builder()
+            .id(QueryTest.class.getSimpleName())
+            .type(CopyPartitions.class.getName())
+            .projectId(Property.ofValue(this.project))
+            .dataset(Property.ofValue(this.dataset))
+            .partitionType(Property.ofValue(AbstractPartition.PartitionType.DAY))
+            .table(Property.ofValue(table))
+            .from(Property.ofExpression("{{ '2020-04-02' | date() }}"))
+            .to(Property.ofExpression("{{ '2020-04-04' | date() }}"))
+            .destinationTable(Property.ofValue(this.project + "." + this.dataset + "." + destinationTable))
+            .copyMode(Property.ofValue(CopyPartitions.CopyMode.PER_PARTITION))
+            .skipUnchanged(Property.ofValue(true))
+            .build();
+        runContext = TestsUtils.mockRunContext(runContextFactory, again, ImmutableMap.of());
+        run = again.run(runContext);
+
+        assertThat(run.getPartitions().size(), is(3));
+        assertThat(
+            run.getPartitionCopies().stream().allMatch(copy -> copy.getStatus() == CopyPartitions.PartitionCopy.Status.SKIPPED),
+            is(true)
+        );
+    }
+
     @Test
     void runSkipEmpty() throws Exception {
         var table = "tbl_copy_skip_" + FriendlyId.createFriendlyId();
@@ -131,4 +221,26 @@ class CopyPartitionsTest {
         assertThat(run.getTable(), is(table));
         assertThat(run.getPartitions().size(), is(0));
     }
+
+    @Test
+    void perPartitionRejectsWriteAppend() throws Exception {
+        var task = CopyPartitions.builder()
+            .id(QueryTest.class.getSimpleName())
+            .type(CopyPartitions.class.getName())
+            .projectId(Property.ofValue(this.project))
+            .dataset(Property.ofValue(this.dataset))
+            .partitionType(Property.ofValue(AbstractPartition.PartitionType.DAY))
+            .table(Property.ofValue("tbl_copy_" + FriendlyId.createFriendlyId()))
+            .from(Property.ofExpression("{{ '2020-04-02' | date() }}"))
+            .to(Property.ofExpression("{{ '2020-04-04' | date() }}"))
+            .destinationTable(Property.ofValue(this.project + "." + this.dataset + ".tbl_copydest_" + FriendlyId.createFriendlyId()))
+            .copyMode(Property.ofValue(CopyPartitions.CopyMode.PER_PARTITION))
+            .writeDisposition(Property.ofValue(JobInfo.WriteDisposition.WRITE_APPEND))
+            .build();
+
+        var runContext = TestsUtils.mockRunContext(runContextFactory, task, ImmutableMap.of());
+        var exception = assertThrows(IllegalArgumentException.class, () -> task.run(runContext));
+
+        assertThat(exception.getMessage(), containsString("WRITE_TRUNCATE"));
+    }
 }
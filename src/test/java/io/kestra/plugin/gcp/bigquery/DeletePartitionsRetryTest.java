@@ -0,0 +1,67 @@
+package io.kestra.plugin.gcp.bigquery;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.TableId;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.retrys.Constant;
+import io.kestra.core.runners.RunContextFactory;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@KestraTest
+class DeletePartitionsRetryTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    private static DeletePartitions task() {
+        return DeletePartitions.builder()
+            .id(DeletePartitionsRetryTest.class.getSimpleName())
+            .type(DeletePartitions.class.getName())
+            .projectId(Property.ofValue("my-project"))
+            .dataset(Property.ofValue("my_dataset"))
+            .table(Property.ofValue("my_table"))
+            .retryAuto(Constant.builder()
+                .type("constant")
+                .interval(Duration.ofMillis(10))
+                .maxAttempts(3)
+                .build()
+            )
+            .build();
+    }
+
+    @Test
+    void missingAfterRateLimitIsNotFound() throws Exception {
+        BigQuery connection = mock(BigQuery.class);
+        when(connection.delete(any(TableId.class)))
+            .thenThrow(new com.google.cloud.bigquery.BigQueryException(429, "Exceeded rate limits"))
+            .thenReturn(false);
+
+        var delete = task().delete(runContextFactory.of(), connection, "20240101");
+
+        assertThat(delete.getStatus(), is(DeletePartitions.PartitionDelete.Status.NOT_FOUND));
+    }
+
+    @Test
+    void missingAfterServerErrorIsDeleted() throws Exception {
+        BigQuery connection = mock(BigQuery.class);
+        when(connection.delete(any(TableId.class)))
+            .thenThrow(new com.google.cloud.bigquery.BigQueryException(503, "Backend error"))
+            .thenReturn(false);
+
+        var delete = task().delete(runContextFactory.of(), connection, "20240101");
+
+        assertThat(delete.getStatus(), is(DeletePartitions.PartitionDelete.Status.DELETED));
+    }
+}
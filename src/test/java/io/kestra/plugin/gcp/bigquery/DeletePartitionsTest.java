@@ -154,6 +154,10 @@ class DeletePartitionsTest {
         DeletePartitions.Output run = task.run(runContext);
 
         assertThat(run.getPartitions().size(), is(3));
+        assertThat(
+            run.getPartitionDeletes().stream().allMatch(delete -> delete.getStatus() == DeletePartitions.PartitionDelete.Status.DELETED),
+            is(true)
+        );
 
         Query query = Query.builder()
             .id(QueryTest.class.getSimpleName())
@@ -4,6 +4,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import org.apache.commons.io.IOUtils;
@@ -84,6 +86,53 @@ class LoadTest {
         assertThat(run.getRows(), is(5L));
     }
 
+    @Test
+    void fromFilesGzip() throws Exception {
+        List<String> sources = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            URI source = storageInterface.put(
+                TenantService.MAIN_TENANT,
+                null,
+                new URI("/" + FriendlyId.createFriendlyId()),
+                new FileInputStream(
+                    new File(
+                        Objects.requireNonNull(
+                            LoadTest.class.getClassLoader()
+                                .getResource("bigquery/insurance_sample.csv")
+                        )
+                            .toURI()
+                    )
+                )
+            );
+            sources.add(source.toString());
+        }
+
+        Load task = Load.builder()
+            .id(LoadTest.class.getSimpleName())
+            .type(Load.class.getName())
+            .projectId(Property.ofValue(project))
+            .fromFiles(Property.ofValue(sources))
+            .gzip(Property.ofValue(true))
+            .concurrency(Property.ofValue(2))
+            .destinationTable(Property.ofValue(project + "." + dataset + "." + FriendlyId.createFriendlyId()))
+            .format(AbstractLoad.Format.CSV)
+            .autodetect(Property.ofValue(true))
+            .csvOptions(
+                AbstractLoad.CsvOptions.builder()
+                    .fieldDelimiter(Property.ofValue("|"))
+                    .allowJaggedRows(Property.ofValue(true))
+                    .skipLeadingRows(Property.ofValue(1L))
+                    .build()
+            )
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, ImmutableMap.of());
+
+        AbstractLoad.Output run = task.run(runContext);
+
+        assertThat(run.getRows(), is(15L));
+    }
+
     @Test
     void fromAvro() throws Exception {
         URI source = storageInterface.put(
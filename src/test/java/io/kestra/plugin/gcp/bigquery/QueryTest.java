@@ -1,7 +1,10 @@
 package io.kestra.plugin.gcp.bigquery;
 
+import java.io.File;
 import java.io.InputStreamReader;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -11,6 +14,8 @@ import java.util.concurrent.*;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
@@ -20,6 +25,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import com.devskiller.friendly_id.FriendlyId;
 import com.google.cloud.bigquery.JobInfo;
+import com.google.cloud.bigquery.QueryJobConfiguration;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.CharStreams;
 
@@ -162,6 +168,95 @@ class QueryTest {
         assertThat(ionResult, containsString("interval:\"1-0 0 0:0:0\""));
     }
 
+    @Test
+    void storeArrow() throws Exception {
+        Query task = Query.builder()
+            .id(QueryTest.class.getSimpleName())
+            .type(Query.class.getName())
+            .projectId(Property.ofValue(project))
+            .sql(Property.ofValue(sql() + "\n UNION ALL \n " + sql()))
+            .fetchType(Property.ofValue(FetchType.STORE))
+            .storeFormat(Property.ofValue(Query.StoreFormat.ARROW))
+            .storeBatchSize(Property.ofValue(1))
+            .build();
+
+        Query.Output run = task.run(TestsUtils.mockRunContext(runContextFactory, task, ImmutableMap.of()));
+        assertThat(run.getSize(), is(2L));
+
+        File file = File.createTempFile("query", ".arrow");
+        try (var inputStream = storageInterface.get(TenantService.MAIN_TENANT, null, run.getUri())) {
+            Files.copy(inputStream, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        try (
+            var allocator = new RootAllocator();
+            var channel = Files.newByteChannel(file.toPath());
+            var reader = new ArrowFileReader(channel, allocator)
+        ) {
+            assertThat(reader.getRecordBlocks().size(), is(2));
+
+            assertThat(reader.loadNextBatch(), is(true));
+            var root = reader.getVectorSchemaRoot();
+            assertThat(root.getRowCount(), is(1));
+            assertThat(root.getVector("string").getObject(0).toString(), is("hello"));
+            assertThat(root.getVector("nullable").isNull(0), is(true));
+            assertThat(root.getVector("int").getObject(0), is(1L));
+            assertThat(root.getVector("float").getObject(0), is(1.25D));
+            assertThat(root.getVector("date").getObject(0), is((int) LocalDate.parse("2008-12-25").toEpochDay()));
+            assertThat(root.getVector("array").getObject(0).toString(), is("[1,2,3]"));
+        }
+    }
+
+    @Test
+    void fetchWithOptionalJobCreation() throws Exception {
+        Query task = Query.builder()
+            .id(QueryTest.class.getSimpleName())
+            .type(Query.class.getName())
+            .projectId(Property.ofValue(project))
+            .sql(Property.ofValue("SELECT 1 as id, \"John\" as name UNION ALL SELECT 2 as id, \"Doe\" as name"))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .jobCreationMode(Property.ofValue(QueryJobConfiguration.JobCreationMode.JOB_CREATION_OPTIONAL))
+            .build();
+
+        Query.Output run = task.run(TestsUtils.mockRunContext(runContextFactory, task, ImmutableMap.of()));
+
+        assertThat(run.getSize(), is(2L));
+        assertThat(run.getRows().size(), is(2));
+        assertThat(run.getRows().getFirst().get("name"), is("John"));
+        assertThat(run.getJobId() != null || run.getQueryId() != null, is(true));
+    }
+
+    @Test
+    void scriptWithOptionalJobCreationCreatesJob() throws Exception {
+        Query task = Query.builder()
+            .id(QueryTest.class.getSimpleName())
+            .type(Query.class.getName())
+            .projectId(Property.ofValue(project))
+            .sql(Property.ofValue("DECLARE x INT64 DEFAULT 1; SELECT x AS id"))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .jobCreationMode(Property.ofValue(QueryJobConfiguration.JobCreationMode.JOB_CREATION_OPTIONAL))
+            .build();
+
+        Query.Output run = task.run(TestsUtils.mockRunContext(runContextFactory, task, ImmutableMap.of()));
+
+        // not a single SELECT, so it goes through a job that a retry can't run twice
+        assertThat(run.getJobId(), is(notNullValue()));
+        assertThat(run.getQueryId(), is(nullValue()));
+    }
+
+    @Test
+    void singleSelect() {
+        assertThat(Query.isSingleSelect("SELECT 1"), is(true));
+        assertThat(Query.isSingleSelect("-- comment\nWITH x AS (SELECT 1) SELECT * FROM x;"), is(true));
+        assertThat(Query.isSingleSelect("/* comment */ (SELECT 1)"), is(true));
+        assertThat(Query.isSingleSelect("SELECT 'a;b', \"c;d\", '''e;f'''"), is(true));
+
+        assertThat(Query.isSingleSelect("INSERT INTO t SELECT 1"), is(false));
+        assertThat(Query.isSingleSelect("CREATE TABLE t AS SELECT 1"), is(false));
+        assertThat(Query.isSingleSelect("SELECT 1; DELETE FROM t WHERE true"), is(false));
+        assertThat(Query.isSingleSelect("SELECT '--'; DELETE FROM t WHERE true"), is(false));
+    }
+
     @ParameterizedTest
     @MethodSource("provideFetchOrFetchType")
     void fetchLongPage(boolean fetch, Property<FetchType> fetchType) throws Exception {
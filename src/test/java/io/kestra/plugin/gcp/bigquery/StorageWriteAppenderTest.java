@@ -0,0 +1,127 @@
+package io.kestra.plugin.gcp.bigquery;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.bigquery.storage.v1.AppendRowsResponse;
+import com.google.cloud.bigquery.storage.v1.Exceptions;
+import com.google.cloud.bigquery.storage.v1.ProtoRows;
+import com.google.cloud.bigquery.storage.v1.StreamWriter;
+import com.google.protobuf.ByteString;
+import io.grpc.Status;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StorageWriteAppenderTest {
+    private static final Logger logger = LoggerFactory.getLogger(StorageWriteAppenderTest.class);
+
+    private static StreamWriter writer(ApiFuture<AppendRowsResponse> response) {
+        StreamWriter writer = mock(StreamWriter.class);
+        when(writer.getStreamName()).thenReturn("projects/p/datasets/d/tables/t/streams/s");
+        when(writer.append(any(ProtoRows.class), anyLong())).thenReturn(response);
+
+        return writer;
+    }
+
+    private static List<ByteString> rows(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> ByteString.copyFromUtf8("row-" + i))
+            .toList();
+    }
+
+    @Test
+    void retriesFailedAppendOnNewWriter() throws Exception {
+        StreamWriter failing = writer(ApiFutures.immediateFailedFuture(Status.UNAVAILABLE.asRuntimeException()));
+        StreamWriter succeeding = writer(ApiFutures.immediateFuture(AppendRowsResponse.getDefaultInstance()));
+        Iterator<StreamWriter> writers = List.of(failing, succeeding).iterator();
+        AtomicReference<Throwable> appendError = new AtomicReference<>();
+
+        try (StorageWrite.StreamAppender appender = new StorageWrite.StreamAppender(writers::next, appendError, true, 0, 3, logger)) {
+            appender.append(rows(2));
+            appender.awaitInFlight();
+
+            assertThat(appender.acknowledged(), is(2L));
+        }
+
+        verify(failing).close();
+        verify(succeeding).append(any(ProtoRows.class), eq(0L));
+        assertThat(appendError.get(), nullValue());
+    }
+
+    @Test
+    void retriesAppendsOutOfRangeAfterFailedOne() throws Exception {
+        StreamWriter failing = mock(StreamWriter.class);
+        when(failing.getStreamName()).thenReturn("projects/p/datasets/d/tables/t/streams/s");
+        SettableApiFuture<AppendRowsResponse> unavailable = SettableApiFuture.create();
+        when(failing.append(any(ProtoRows.class), eq(0L))).thenReturn(unavailable);
+        when(failing.append(any(ProtoRows.class), eq(2L))).thenReturn(ApiFutures.immediateFailedFuture(mock(Exceptions.OffsetOutOfRange.class)));
+        StreamWriter succeeding = writer(ApiFutures.immediateFuture(AppendRowsResponse.getDefaultInstance()));
+        Iterator<StreamWriter> writers = List.of(failing, succeeding).iterator();
+        AtomicReference<Throwable> appendError = new AtomicReference<>();
+
+        try (StorageWrite.StreamAppender appender = new StorageWrite.StreamAppender(writers::next, appendError, true, 0, 3, logger)) {
+            appender.append(rows(2));
+            // the next append is sent before the failure of the first one is known
+            appender.append(rows(2));
+            unavailable.setException(Status.UNAVAILABLE.asRuntimeException());
+            appender.awaitInFlight();
+
+            assertThat(appender.acknowledged(), is(4L));
+        }
+
+        verify(succeeding).append(any(ProtoRows.class), eq(0L));
+        verify(succeeding).append(any(ProtoRows.class), eq(2L));
+        assertThat(appendError.get(), nullValue());
+    }
+
+    @Test
+    void offsetAlreadyExistsIsAcknowledged() throws Exception {
+        StreamWriter writer = writer(ApiFutures.immediateFailedFuture(mock(Exceptions.OffsetAlreadyExists.class)));
+        AtomicReference<Throwable> appendError = new AtomicReference<>();
+
+        // resumed on an existing stream, whose first 10 rows were acknowledged by the previous run
+        try (StorageWrite.StreamAppender appender = new StorageWrite.StreamAppender(() -> writer, appendError, true, 10, 3, logger)) {
+            appender.append(rows(3));
+            appender.awaitInFlight();
+
+            assertThat(appender.acknowledged(), is(13L));
+        }
+
+        verify(writer).append(any(ProtoRows.class), eq(10L));
+        assertThat(appendError.get(), nullValue());
+    }
+
+    @Test
+    void failsOnNonRetryableError() throws Exception {
+        StreamWriter writer = writer(ApiFutures.immediateFailedFuture(Status.INVALID_ARGUMENT.asRuntimeException()));
+        AtomicReference<Throwable> appendError = new AtomicReference<>();
+
+        try (StorageWrite.StreamAppender appender = new StorageWrite.StreamAppender(() -> writer, appendError, true, 0, 3, logger)) {
+            appender.append(rows(1));
+
+            assertThrows(Exception.class, appender::awaitInFlight);
+            assertThat(appender.acknowledged(), is(0L));
+        }
+
+        assertThat(appendError.get(), notNullValue());
+    }
+}
@@ -6,11 +6,13 @@ import java.io.FileOutputStream;
 import java.net.URI;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Instant;
 import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
@@ -20,6 +22,7 @@ import com.google.common.collect.ImmutableMap;
 
 import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.StatefulTriggerService;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.serializers.FileSerde;
@@ -32,7 +35,9 @@ import io.micronaut.context.annotation.Value;
 import jakarta.inject.Inject;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
 
 @KestraTest
 @EnabledIfEnvironmentVariable(named = "GOOGLE_APPLICATION_CREDENTIALS", matches = ".+")
@@ -116,4 +121,98 @@ class StorageWriteTest {
 
         assertThat(run.getRows(), is(1));
     }
+
+    @Test
+    void pendingParallel() throws Exception {
+        StorageWrite.Output run = this.writeIds(StorageWrite.WriteStreamType.PENDING, false);
+
+        assertThat(run.getRows(), is(100));
+        assertThat(run.getRowsCount(), is(100L));
+        assertThat(run.getCommitTime(), notNullValue());
+    }
+
+    @Test
+    void committedWithOffsets() throws Exception {
+        StorageWrite.Output run = this.writeIds(StorageWrite.WriteStreamType.COMMITTED, true);
+
+        assertThat(run.getRows(), is(100));
+    }
+
+    @Test
+    void committedResumedFromCheckpoint() throws Exception {
+        String stateKey = "storage-write-" + IdUtils.create();
+
+        // a previous run wrote the first 5 rows of every partition before its streams were lost
+        Map<String, StatefulTriggerService.Entry> checkpoint = new HashMap<>();
+        for (int i = 0; i < 4; i++) {
+            checkpoint.put("partition-" + i, StatefulTriggerService.Entry.candidate("partition-" + i, "5:5", Instant.now()));
+        }
+
+        StorageWrite.Output run = this.writeIds(StorageWrite.WriteStreamType.COMMITTED, true, stateKey, checkpoint);
+
+        assertThat(run.getRows(), is(80));
+    }
+
+    private StorageWrite.Output writeIds(StorageWrite.WriteStreamType writeStreamType, boolean resumable) throws Exception {
+        return this.writeIds(writeStreamType, resumable, null, Map.of());
+    }
+
+    private StorageWrite.Output writeIds(
+        StorageWrite.WriteStreamType writeStreamType,
+        boolean resumable,
+        String stateKey,
+        Map<String, StatefulTriggerService.Entry> checkpoint
+    ) throws Exception {
+        String table = this.project + "." + this.dataset + "." + FriendlyId.createFriendlyId();
+
+        Query create = Query.builder()
+            .id(QueryTest.class.getSimpleName())
+            .type(Query.class.getName())
+            .projectId(Property.ofValue(project))
+            .sql(Property.ofValue("CREATE TABLE " + table + " (id INT64, name STRING)"))
+            .build();
+        create.run(TestsUtils.mockRunContext(runContextFactory, create, ImmutableMap.of()));
+
+        File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".ion");
+        try (FileOutputStream outputStream = new FileOutputStream(tempFile)) {
+            for (long i = 0; i < 100; i++) {
+                FileSerde.write(outputStream, Map.of("id", i, "name", "name-" + i));
+            }
+        }
+
+        URI put = storageInterface.put(
+            TenantService.MAIN_TENANT,
+            null,
+            new URI("/" + IdUtils.create() + ".ion"),
+            new FileInputStream(tempFile)
+        );
+
+        StorageWrite task = StorageWrite.builder()
+            .id("test-unit")
+            .type(StorageWrite.class.getName())
+            .projectId(Property.ofValue(project))
+            .destinationTable(Property.ofValue(table))
+            .location(Property.ofValue("EU"))
+            .from(Property.ofValue(put.toString()))
+            .writeStreamType(Property.ofValue(writeStreamType))
+            .parallelism(Property.ofValue(4))
+            .bufferSize(Property.ofValue(10))
+            .resumable(Property.ofValue(resumable))
+            .stateKey(stateKey == null ? null : Property.ofValue(stateKey))
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, ImmutableMap.of());
+        if (stateKey != null) {
+            StatefulTriggerService.writeState(runContext, stateKey, checkpoint, Optional.empty());
+        }
+
+        StorageWrite.Output output = task.run(runContext);
+
+        if (stateKey != null) {
+            // the checkpoint is removed once the write completes
+            assertThat(StatefulTriggerService.readState(runContext, stateKey, Optional.empty()), anEmptyMap());
+        }
+
+        return output;
+    }
 }
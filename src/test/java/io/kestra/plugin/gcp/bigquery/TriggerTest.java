@@ -85,4 +85,63 @@ class TriggerTest {
             .build();
         deleteTable.run(TestsUtils.mockRunContext(runContextFactory, createTable, ImmutableMap.of()));
     }
+
+    @Test
+    void incremental() throws Exception {
+        var tableName = String.format("%s.%s.%s", project, dataset, IdUtils.create());
+
+        Query createTable = Query.builder()
+            .id("create-" + IdUtils.create())
+            .type(Query.class.getName())
+            .projectId(Property.ofValue(project))
+            .sql(
+                Property.ofValue(
+                    "CREATE OR REPLACE TABLE `" + tableName + "` AS (SELECT 1 AS number UNION ALL SELECT 2 AS number)"
+                )
+            )
+            .build();
+        createTable.run(TestsUtils.mockRunContext(runContextFactory, createTable, Map.of()));
+
+        Trigger trigger = Trigger.builder()
+            .id("watch-" + IdUtils.create())
+            .type(io.kestra.plugin.gcp.bigquery.Trigger.class.getName())
+            .projectId(Property.ofValue(project))
+            .sql(Property.ofValue("SELECT * FROM `" + tableName + "` WHERE number > @watermark"))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .watermarkColumn(Property.ofValue("number"))
+            .initialWatermark(Property.ofValue("0"))
+            .interval(Duration.ofSeconds(10))
+            .build();
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+        Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+
+        assertThat(execution.isPresent(), is(true));
+        assertThat(((Number) execution.get().getTrigger().getVariables().get("size")).longValue(), is(2L));
+
+        // unchanged table, the query isn't run again
+        execution = trigger.evaluate(context.getKey(), context.getValue());
+        assertThat(execution.isPresent(), is(false));
+
+        Query insert = Query.builder()
+            .id("insert-" + IdUtils.create())
+            .type(Query.class.getName())
+            .projectId(Property.ofValue(project))
+            .sql(Property.ofValue("INSERT INTO `" + tableName + "` (number) VALUES (3)"))
+            .build();
+        insert.run(TestsUtils.mockRunContext(runContextFactory, insert, Map.of()));
+
+        execution = trigger.evaluate(context.getKey(), context.getValue());
+
+        assertThat(execution.isPresent(), is(true));
+        assertThat(((Number) execution.get().getTrigger().getVariables().get("size")).longValue(), is(1L));
+
+        Query deleteTable = Query.builder()
+            .id(QueryTest.class.getSimpleName())
+            .type(Query.class.getName())
+            .projectId(Property.ofValue(project))
+            .sql(Property.ofValue("DROP TABLE `" + tableName + "`"))
+            .build();
+        deleteTable.run(TestsUtils.mockRunContext(runContextFactory, deleteTable, ImmutableMap.of()));
+    }
 }
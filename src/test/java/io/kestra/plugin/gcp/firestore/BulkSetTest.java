@@ -0,0 +1,85 @@
+package io.kestra.plugin.gcp.firestore;
+
+import java.io.FileOutputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.utils.IdUtils;
+
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+@KestraTest
+@EnabledIfEnvironmentVariable(named = "GOOGLE_APPLICATION_CREDENTIALS", matches = ".+")
+class BulkSetTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Value("${kestra.tasks.firestore.project}")
+    private String project;
+
+    private static URI put(RunContext runContext, List<?> records) throws Exception {
+        var tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        try (var output = new FileOutputStream(tempFile)) {
+            for (Object record : records) {
+                FileSerde.write(output, record);
+            }
+        }
+        return runContext.storage().putFile(tempFile);
+    }
+
+    @Test
+    void run() throws Exception {
+        var runContext = runContextFactory.of();
+        String collectionName = "persons_" + IdUtils.create();
+
+        var bulkSet = BulkSet.builder()
+            .projectId(Property.ofValue(project))
+            .collection(Property.ofValue(collectionName))
+            .from(Property.ofValue(put(runContext, List.of(
+                Map.of("id", "1", "firstname", "John", "lastname", "Doe"),
+                Map.of("id", "2", "firstname", "Jane", "lastname", "Doe"),
+                Map.of("id", "3", "firstname", "Charles", "lastname", "Baudelaire")
+            )).toString()))
+            .idField(Property.ofValue("id"))
+            .build();
+
+        var setOutput = bulkSet.run(runContext);
+
+        assertThat(setOutput.getRecords(), is(3L));
+        assertThat(setOutput.getSucceeded(), is(3L));
+        assertThat(setOutput.getFailed(), is(0L));
+        assertThat(setOutput.getFailedUri(), is(nullValue()));
+
+        try (var firestore = bulkSet.connection(runContext)) {
+            assertThat(firestore.collection(collectionName).document("2").get().get().getString("firstname"), is("Jane"));
+        }
+
+        var bulkDelete = BulkDelete.builder()
+            .projectId(Property.ofValue(project))
+            .collection(Property.ofValue(collectionName))
+            .from(Property.ofValue(put(runContext, List.of("1", "2", "3")).toString()))
+            .build();
+
+        var deleteOutput = bulkDelete.run(runContext);
+
+        assertThat(deleteOutput.getSucceeded(), is(3L));
+
+        try (var firestore = bulkDelete.connection(runContext)) {
+            assertThat(firestore.collection(collectionName).get().get().size(), is(0));
+        }
+    }
+}
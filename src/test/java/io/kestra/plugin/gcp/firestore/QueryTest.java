@@ -11,6 +11,7 @@ import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
 import io.kestra.core.utils.Await;
 import io.kestra.core.utils.IdUtils;
 
@@ -217,4 +218,217 @@ class QueryTest {
             FirestoreTestUtil.clearCollection(firestore, "persons");
         }
     }
+
+    @Test
+    void runStoredPaged() throws Exception {
+        var runContext = runContextFactory.of();
+        String collectionName = "persons_" + IdUtils.create();
+
+        var query = Query.builder()
+            .projectId(Property.ofValue(project))
+            .collection(Property.ofValue(collectionName))
+            .select(Property.ofValue(List.of("firstname")))
+            .pageSize(Property.ofValue(1))
+            .limit(Property.ofValue(2))
+            .fetchType(Property.ofValue(FetchType.STORE))
+            .build();
+
+        // create something to list
+        try (var firestore = query.connection(runContext)) {
+            var collection = firestore.collection(collectionName);
+            collection.document("1").set(Map.of("firstname", "John", "lastname", "Doe")).get();
+            collection.document("2").set(Map.of("firstname", "Jane", "lastname", "Doe")).get();
+            collection.document("3").set(Map.of("firstname", "Charles", "lastname", "Baudelaire")).get();
+        }
+
+        var output = query.run(runContext);
+
+        assertThat(output.getSize(), is(2L));
+        assertThat(output.getUri(), is(notNullValue()));
+
+        var rows = FileSerde.readAll(runContext.storage().getFile(output.getUri()))
+            .collectList()
+            .block();
+        assertThat(rows, hasSize(2));
+        assertThat(((Map<?, ?>) rows.getFirst()).containsKey("lastname"), is(false));
+        assertThat(((Map<?, ?>) rows.getFirst()).get("firstname"), is("John"));
+
+        // clear the collection
+        try (var firestore = query.connection(runContext)) {
+            FirestoreTestUtil.clearCollection(firestore, collectionName);
+        }
+    }
+
+    @Test
+    void runStoredPartitioned() throws Exception {
+        var runContext = runContextFactory.of();
+        String collectionName = "persons_" + IdUtils.create();
+
+        var query = Query.builder()
+            .projectId(Property.ofValue(project))
+            .collection(Property.ofValue(collectionName))
+            .partitions(Property.ofValue(4))
+            .fetchType(Property.ofValue(FetchType.STORE))
+            .build();
+
+        // create something to list
+        try (var firestore = query.connection(runContext)) {
+            var collection = firestore.collection(collectionName);
+            collection.document("1").set(Map.of("firstname", "John", "lastname", "Doe")).get();
+            collection.document("2").set(Map.of("firstname", "Jane", "lastname", "Doe")).get();
+            collection.document("3").set(Map.of("firstname", "Charles", "lastname", "Baudelaire")).get();
+        }
+
+        var output = query.run(runContext);
+
+        assertThat(output.getSize(), is(3L));
+        assertThat(output.getUri(), is(notNullValue()));
+
+        // clear the collection
+        try (var firestore = query.connection(runContext)) {
+            FirestoreTestUtil.clearCollection(firestore, collectionName);
+        }
+    }
+
+    @Test
+    void runStoredPagedSelectOrderBy() throws Exception {
+        var runContext = runContextFactory.of();
+        String collectionName = "persons_" + IdUtils.create();
+
+        var query = Query.builder()
+            .projectId(Property.ofValue(project))
+            .collection(Property.ofValue(collectionName))
+            .select(Property.ofValue(List.of("firstname")))
+            .orderBy(Property.ofValue("lastname"))
+            .pageSize(Property.ofValue(1))
+            .fetchType(Property.ofValue(FetchType.STORE))
+            .build();
+
+        // create something to list
+        try (var firestore = query.connection(runContext)) {
+            var collection = firestore.collection(collectionName);
+            collection.document("1").set(Map.of("firstname", "John", "lastname", "Doe")).get();
+            collection.document("2").set(Map.of("firstname", "Jane", "lastname", "Doe")).get();
+            collection.document("3").set(Map.of("firstname", "Charles", "lastname", "Baudelaire")).get();
+        }
+
+        var output = query.run(runContext);
+
+        assertThat(output.getSize(), is(3L));
+
+        var rows = FileSerde.readAll(runContext.storage().getFile(output.getUri()))
+            .collectList()
+            .block();
+        assertThat(rows, hasSize(3));
+        assertThat(rows.stream().map(row -> ((Map<?, ?>) row).get("firstname")).toList(), contains("Charles", "John", "Jane"));
+        assertThat(rows.stream().noneMatch(row -> ((Map<?, ?>) row).containsKey("lastname")), is(true));
+
+        // clear the collection
+        try (var firestore = query.connection(runContext)) {
+            FirestoreTestUtil.clearCollection(firestore, collectionName);
+        }
+    }
+
+    @Test
+    void runStoredPagedSelectInequalityFilter() throws Exception {
+        var runContext = runContextFactory.of();
+        String collectionName = "persons_" + IdUtils.create();
+
+        var query = Query.builder()
+            .projectId(Property.ofValue(project))
+            .collection(Property.ofValue(collectionName))
+            .select(Property.ofValue(List.of("firstname")))
+            .filters(
+                List.of(
+                    Query.Filter.builder()
+                        .field(Property.ofValue("lastname"))
+                        .value(Property.ofValue("C"))
+                        .operator(Property.ofValue(Query.QueryOperator.GREATER_THAN))
+                        .build()
+                )
+            )
+            .pageSize(Property.ofValue(1))
+            .fetchType(Property.ofValue(FetchType.STORE))
+            .build();
+
+        // create something to list
+        try (var firestore = query.connection(runContext)) {
+            var collection = firestore.collection(collectionName);
+            collection.document("1").set(Map.of("firstname", "John", "lastname", "Doe")).get();
+            collection.document("2").set(Map.of("firstname", "Jane", "lastname", "Doe")).get();
+            collection.document("3").set(Map.of("firstname", "Charles", "lastname", "Baudelaire")).get();
+            collection.document("4").set(Map.of("firstname", "Victor", "lastname", "Hugo")).get();
+        }
+
+        var output = query.run(runContext);
+
+        assertThat(output.getSize(), is(3L));
+
+        var rows = FileSerde.readAll(runContext.storage().getFile(output.getUri()))
+            .collectList()
+            .block();
+        assertThat(rows, hasSize(3));
+        assertThat(rows.stream().map(row -> ((Map<?, ?>) row).get("firstname")).toList(), containsInAnyOrder("John", "Jane", "Victor"));
+        assertThat(rows.stream().noneMatch(row -> ((Map<?, ?>) row).containsKey("lastname")), is(true));
+
+        // clear the collection
+        try (var firestore = query.connection(runContext)) {
+            FirestoreTestUtil.clearCollection(firestore, collectionName);
+        }
+    }
+
+    @Test
+    void runStoredPartitionedIgnoresSameIdCollections() throws Exception {
+        var runContext = runContextFactory.of();
+        String collectionName = "persons_" + IdUtils.create();
+        String nestedPath = "orgs_" + IdUtils.create() + "/acme/" + collectionName;
+
+        var query = Query.builder()
+            .projectId(Property.ofValue(project))
+            .collection(Property.ofValue(collectionName))
+            .partitions(Property.ofValue(4))
+            .fetchType(Property.ofValue(FetchType.STORE))
+            .build();
+
+        var nestedQuery = Query.builder()
+            .projectId(Property.ofValue(project))
+            .collection(Property.ofValue(nestedPath))
+            .partitions(Property.ofValue(4))
+            .fetchType(Property.ofValue(FetchType.STORE))
+            .build();
+
+        // same collection ID at the root, under another document, and under a document of the root collection itself
+        try (var firestore = query.connection(runContext)) {
+            var collection = firestore.collection(collectionName);
+            collection.document("1").set(Map.of("firstname", "John", "lastname", "Doe")).get();
+            collection.document("2").set(Map.of("firstname", "Jane", "lastname", "Doe")).get();
+            collection.document("1").collection(collectionName).document("3").set(Map.of("firstname", "Self", "lastname", "Nested")).get();
+
+            var nested = firestore.collection(nestedPath);
+            nested.document("4").set(Map.of("firstname", "Charles", "lastname", "Baudelaire")).get();
+        }
+
+        var output = query.run(runContext);
+
+        assertThat(output.getSize(), is(2L));
+        var rows = FileSerde.readAll(runContext.storage().getFile(output.getUri()))
+            .collectList()
+            .block();
+        assertThat(rows.stream().map(row -> ((Map<?, ?>) row).get("firstname")).toList(), containsInAnyOrder("John", "Jane"));
+
+        var nestedOutput = nestedQuery.run(runContext);
+
+        assertThat(nestedOutput.getSize(), is(1L));
+        var nestedRows = FileSerde.readAll(runContext.storage().getFile(nestedOutput.getUri()))
+            .collectList()
+            .block();
+        assertThat(((Map<?, ?>) nestedRows.getFirst()).get("firstname"), is("Charles"));
+
+        // clear the collections
+        try (var firestore = query.connection(runContext)) {
+            FirestoreTestUtil.clearCollection(firestore, collectionName + "/1/" + collectionName);
+            FirestoreTestUtil.clearCollection(firestore, collectionName);
+            FirestoreTestUtil.clearCollection(firestore, nestedPath);
+        }
+    }
 }
@@ -114,4 +114,52 @@ class ComposeTest {
         List<String> lines = Arrays.asList(result.split("\\R"));
         assertThat(lines, containsInAnyOrder("1", "2", "3"));
     }
+
+    @Test
+    void runTree() throws Exception {
+        String dir = FriendlyId.createFriendlyId();
+        String basePath = "compose-" + dir + "/";
+
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 70; i++) {
+            testUtils.upload(basePath + String.format("%03d", i), "data/" + (i % 3 + 1) + ".txt");
+            expected.append(i % 3 + 1).append("\n");
+        }
+
+        // no maxFiles: all the 70 files are composed, through intermediates
+        Compose task = Compose.builder()
+            .id("compose-tree")
+            .type(Compose.class.getName())
+            .list(
+                Compose.List.builder()
+                    .from(Property.ofValue("gs://" + bucket + "/tasks/gcp/upload/" + basePath))
+                    .build()
+            )
+            .parallelism(Property.ofValue(2))
+            .to(Property.ofValue("gs://" + bucket + "/tasks/gcp/compose-result/" + dir + "/compose-tree.txt"))
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(this.runContextFactory, task, ImmutableMap.of());
+        Compose.Output run = task.run(runContext);
+
+        Download download = Download.builder()
+            .id(DownloadTest.class.getSimpleName())
+            .type(Download.class.getName())
+            .from(Property.ofValue(run.getUri().toString()))
+            .build();
+
+        InputStream get = storageInterface.get(TenantService.MAIN_TENANT, null, download.run(runContext).getUri());
+
+        assertThat(CharStreams.toString(new InputStreamReader(get)), is(expected.toString()));
+
+        io.kestra.plugin.gcp.gcs.List list = io.kestra.plugin.gcp.gcs.List.builder()
+            .id(ListTest.class.getSimpleName())
+            .type(io.kestra.plugin.gcp.gcs.List.class.getName())
+            .from(Property.ofValue("gs://" + bucket + "/tasks/gcp/compose-result/" + dir + "/"))
+            .listingType(Property.ofValue(ListInterface.ListingType.RECURSIVE))
+            .build();
+
+        // the intermediates are deleted
+        assertThat(list.run(runContext).getBlobs().size(), is(1));
+    }
 }
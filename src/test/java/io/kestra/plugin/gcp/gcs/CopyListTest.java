@@ -0,0 +1,143 @@
+package io.kestra.plugin.gcp.gcs;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import com.devskiller.friendly_id.FriendlyId;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.common.collect.ImmutableMap;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.utils.TestsUtils;
+
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+@EnabledIfEnvironmentVariable(named = "GOOGLE_APPLICATION_CREDENTIALS", matches = ".+")
+class CopyListTest {
+    @Inject
+    private StorageInterface storageInterface;
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Value("${kestra.tasks.gcs.bucket}")
+    private String bucket;
+
+    @Test
+    void run() throws Exception {
+        String dir = FriendlyId.createFriendlyId();
+        String out = FriendlyId.createFriendlyId();
+
+        for (int i = 0; i < 10; i++) {
+            ListTest.upload(storageInterface, bucket, runContextFactory, "/tasks/gcp/" + dir);
+        }
+
+        CopyList task = CopyList.builder()
+            .id(CopyList.class.getSimpleName())
+            .type(CopyList.class.getName())
+            .from(Property.ofValue("gs://" + this.bucket + "/tasks/gcp/" + dir + "/"))
+            .to(Property.ofValue("gs://" + this.bucket + "/tasks/gcp/" + out + "/"))
+            .renameRegExp(Property.ofValue("\\.yml$"))
+            .renameReplacement(Property.ofValue(".yaml"))
+            .build();
+        CopyList.Output run = task.run(TestsUtils.mockRunContext(this.runContextFactory, task, ImmutableMap.of()));
+
+        assertThat(run.getCount(), is(10L));
+        assertThat(run.getSkipped(), is(0L));
+        assertThat(run.getSize(), greaterThan(6000L));
+
+        // a second run with move semantics finds identical destinations and only deletes the sources
+        task = CopyList.builder()
+            .id(CopyList.class.getSimpleName())
+            .type(CopyList.class.getName())
+            .from(Property.ofValue("gs://" + this.bucket + "/tasks/gcp/" + dir + "/"))
+            .to(Property.ofValue("gs://" + this.bucket + "/tasks/gcp/" + out + "/"))
+            .renameRegExp(Property.ofValue("\\.yml$"))
+            .renameReplacement(Property.ofValue(".yaml"))
+            .delete(Property.ofValue(true))
+            .build();
+        run = task.run(TestsUtils.mockRunContext(this.runContextFactory, task, ImmutableMap.of()));
+
+        assertThat(run.getCount(), is(0L));
+        assertThat(run.getSkipped(), is(10L));
+
+        List list = List.builder()
+            .id(CopyListTest.class.getSimpleName())
+            .type(List.class.getName())
+            .from(Property.ofValue("gs://" + this.bucket + "/tasks/gcp/" + dir + "/"))
+            .build();
+        assertThat(list.run(TestsUtils.mockRunContext(this.runContextFactory, list, ImmutableMap.of())).getBlobs().size(), is(0));
+
+        list = List.builder()
+            .id(CopyListTest.class.getSimpleName())
+            .type(List.class.getName())
+            .from(Property.ofValue("gs://" + this.bucket + "/tasks/gcp/" + out + "/"))
+            .regExp(Property.ofValue(".*\\.yaml$"))
+            .build();
+        assertThat(list.run(TestsUtils.mockRunContext(this.runContextFactory, list, ImmutableMap.of())).getBlobs().size(), is(10));
+    }
+
+    @Test
+    void recursiveToUnderFrom() {
+        String dir = FriendlyId.createFriendlyId();
+
+        CopyList task = CopyList.builder()
+            .id(CopyList.class.getSimpleName())
+            .type(CopyList.class.getName())
+            .from(Property.ofValue("gs://" + this.bucket + "/tasks/gcp/" + dir + "/"))
+            .to(Property.ofValue("gs://" + this.bucket + "/tasks/gcp/" + dir + "/archive/"))
+            .listingType(Property.ofValue(ListInterface.ListingType.RECURSIVE))
+            .build();
+
+        assertThrows(IllegalArgumentException.class, () -> task.run(TestsUtils.mockRunContext(this.runContextFactory, task, ImmutableMap.of())));
+    }
+
+    @Test
+    void keepsMetadata() throws Exception {
+        String dir = FriendlyId.createFriendlyId();
+        String out = FriendlyId.createFriendlyId();
+
+        CopyList task = CopyList.builder()
+            .id(CopyList.class.getSimpleName())
+            .type(CopyList.class.getName())
+            .from(Property.ofValue("gs://" + this.bucket + "/tasks/gcp/" + dir + "/"))
+            .to(Property.ofValue("gs://" + this.bucket + "/tasks/gcp/" + out + "/"))
+            .build();
+        RunContext runContext = TestsUtils.mockRunContext(this.runContextFactory, task, ImmutableMap.of());
+
+        Storage connection = task.connection(runContext);
+        connection.create(
+            BlobInfo.newBuilder(BlobId.of(this.bucket, "tasks/gcp/" + dir + "/file.json"))
+                .setContentType("application/json")
+                .setCacheControl("no-cache")
+                .setMetadata(Map.of("origin", "kestra"))
+                .build(),
+            "{}".getBytes(StandardCharsets.UTF_8)
+        );
+
+        CopyList.Output run = task.run(runContext);
+        assertThat(run.getCount(), is(1L));
+
+        Blob copied = connection.get(BlobId.of(this.bucket, "tasks/gcp/" + out + "/file.json"));
+        assertThat(copied.getContentType(), is("application/json"));
+        assertThat(copied.getCacheControl(), is("no-cache"));
+        assertThat(copied.getMetadata(), is(Map.of("origin", "kestra")));
+    }
+}
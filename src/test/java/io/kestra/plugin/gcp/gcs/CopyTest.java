@@ -2,18 +2,30 @@ package io.kestra.plugin.gcp.gcs;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.math.BigInteger;
 import java.net.URI;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
 
 import com.devskiller.friendly_id.FriendlyId;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.services.storage.model.RewriteResponse;
+import com.google.api.services.storage.model.StorageObject;
+import com.google.cloud.storage.Storage;
 import com.google.common.collect.ImmutableMap;
 
 import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.Task;
+import io.kestra.core.models.triggers.StatefulTriggerService;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.storages.StorageInterface;
@@ -24,8 +36,12 @@ import io.micronaut.context.annotation.Value;
 import jakarta.inject.Inject;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 
 @KestraTest
 @EnabledIfEnvironmentVariable(named = "GOOGLE_APPLICATION_CREDENTIALS", matches = ".+")
@@ -80,6 +96,122 @@ class CopyTest {
         assertThat(run.getUri(), is(new URI("gs://" + bucket + "/tasks/gcp/copy/" + out + ".yml")));
     }
 
+    @Test
+    void resumable() throws Exception {
+        String in = FriendlyId.createFriendlyId();
+        String out = FriendlyId.createFriendlyId();
+
+        URI source = storageInterface.put(
+            TenantService.MAIN_TENANT,
+            null,
+            new URI("/" + FriendlyId.createFriendlyId()),
+            new FileInputStream(
+                new File(
+                    Objects.requireNonNull(
+                        UploadTest.class.getClassLoader()
+                            .getResource("application.yml")
+                    )
+                        .toURI()
+                )
+            )
+        );
+
+        Upload upload = Upload.builder()
+            .id(CopyTest.class.getSimpleName())
+            .type(Upload.class.getName())
+            .from(Property.ofValue(source.toString()))
+            .to(Property.ofValue("gs://{{inputs.bucket}}/tasks/gcp/copy/" + in + ".yml"))
+            .build();
+
+        upload.run(runContext(upload));
+
+        Copy task = Copy.builder()
+            .id(CopyTest.class.getSimpleName())
+            .type(Copy.class.getName())
+            .from(Property.ofValue("gs://{{inputs.bucket}}/tasks/gcp/copy/" + in + ".yml"))
+            .to(Property.ofValue("gs://{{inputs.bucket}}/tasks/gcp/copy/" + out + ".yml"))
+            .megabytesPerCall(Property.ofValue(1L))
+            .resumable(Property.ofValue(true))
+            .build();
+
+        RunContext runContext = runContext(task);
+        Copy.Output run = task.run(runContext);
+
+        assertThat(run.getUri(), is(new URI("gs://" + bucket + "/tasks/gcp/copy/" + out + ".yml")));
+    }
+
+    @Test
+    void resumedFromStoredToken() throws Exception {
+        com.google.api.services.storage.Storage.Objects.Rewrite rewrite = mock(com.google.api.services.storage.Storage.Objects.Rewrite.class);
+        when(rewrite.execute()).thenReturn(done());
+
+        String stateKey = FriendlyId.createFriendlyId();
+        RunContext runContext = this.resumableCopy(rewrite, stateKey);
+
+        verify(rewrite).setRewriteToken("stored-token");
+        verify(rewrite, times(1)).execute();
+        assertThat(StatefulTriggerService.readState(runContext, stateKey, Optional.empty()), anEmptyMap());
+    }
+
+    @Test
+    void restartedOnStaleToken() throws Exception {
+        com.google.api.services.storage.Storage.Objects.Rewrite rewrite = mock(com.google.api.services.storage.Storage.Objects.Rewrite.class);
+        when(rewrite.execute())
+            .thenThrow(new GoogleJsonResponseException(new HttpResponseException.Builder(400, "Invalid argument", new HttpHeaders()), null))
+            .thenReturn(done());
+
+        String stateKey = FriendlyId.createFriendlyId();
+        RunContext runContext = this.resumableCopy(rewrite, stateKey);
+
+        // the stale token is only sent once, the copy is then restarted without any
+        verify(rewrite, times(1)).setRewriteToken(anyString());
+        verify(rewrite, times(2)).execute();
+        assertThat(StatefulTriggerService.readState(runContext, stateKey, Optional.empty()), anEmptyMap());
+    }
+
+    private RunContext resumableCopy(com.google.api.services.storage.Storage.Objects.Rewrite rewrite, String stateKey) throws Exception {
+        com.google.api.services.storage.Storage jsonConnection = mock(com.google.api.services.storage.Storage.class, RETURNS_DEEP_STUBS);
+        when(jsonConnection.objects().rewrite(anyString(), anyString(), anyString(), anyString(), any(StorageObject.class))).thenReturn(rewrite);
+
+        Copy task = spy(Copy.builder()
+            .id(CopyTest.class.getSimpleName())
+            .type(Copy.class.getName())
+            .from(Property.ofValue("gs://{{inputs.bucket}}/tasks/gcp/copy/in.yml"))
+            .to(Property.ofValue("gs://{{inputs.bucket}}/tasks/gcp/copy/out.yml"))
+            .resumable(Property.ofValue(true))
+            .stateKey(Property.ofValue(stateKey))
+            .build());
+        doReturn(mock(Storage.class)).when(task).connection(any());
+        doReturn(jsonConnection).when(task).jsonConnection(any());
+
+        RunContext runContext = runContext(task);
+
+        // a previous run stored the token of an unfinished copy
+        Instant now = Instant.now();
+        StatefulTriggerService.writeState(runContext, stateKey, new HashMap<>(Map.of(
+            "rewriteToken", StatefulTriggerService.Entry.candidate("rewriteToken", "stored-token", now),
+            "bytesRewritten", StatefulTriggerService.Entry.candidate("bytesRewritten", "10", now)
+        )), Optional.empty());
+
+        Copy.Output run = task.run(runContext);
+
+        assertThat(run.getUri(), is(new URI("gs://" + bucket + "/tasks/gcp/copy/out.yml")));
+
+        return runContext;
+    }
+
+    private RewriteResponse done() {
+        return new RewriteResponse()
+            .setDone(true)
+            .setTotalBytesRewritten(BigInteger.valueOf(20))
+            .setObjectSize(BigInteger.valueOf(20))
+            .setResource(new StorageObject()
+                .setBucket(bucket)
+                .setName("tasks/gcp/copy/out.yml")
+                .setSize(BigInteger.valueOf(20))
+            );
+    }
+
     @Test
     void sameException() {
         String in = FriendlyId.createFriendlyId();
@@ -0,0 +1,30 @@
+package io.kestra.plugin.gcp.gcs;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+class DirectBufferPoolTest {
+    @Test
+    void boundsIdleBuffers() {
+        int capacity = 16 * 1024 * 1024;
+
+        java.util.List<ByteBuffer> buffers = new ArrayList<>();
+        for (long i = 0; i < 2 * DirectBufferPool.MAX_IDLE_BYTES / capacity; i++) {
+            buffers.add(DirectBufferPool.acquire(capacity));
+        }
+        buffers.forEach(DirectBufferPool::release);
+
+        assertThat(DirectBufferPool.idleBytes(), lessThanOrEqualTo(DirectBufferPool.MAX_IDLE_BYTES));
+
+        // a released buffer is reused
+        ByteBuffer reused = DirectBufferPool.acquire(capacity);
+        assertThat(buffers.stream().anyMatch(buffer -> buffer == reused), is(true));
+        DirectBufferPool.release(reused);
+    }
+}
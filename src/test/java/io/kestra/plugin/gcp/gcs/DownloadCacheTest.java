@@ -0,0 +1,94 @@
+package io.kestra.plugin.gcp.gcs;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.cloud.storage.Blob;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DownloadCacheTest {
+    @TempDir
+    Path directory;
+
+    @TempDir
+    Path workingDir;
+
+    private static Blob blob(String name, long generation) {
+        Blob blob = mock(Blob.class);
+        when(blob.getBucket()).thenReturn("bucket");
+        when(blob.getName()).thenReturn(name);
+        when(blob.getGeneration()).thenReturn(generation);
+
+        return blob;
+    }
+
+    private Path file(String name, int size) throws Exception {
+        return Files.write(workingDir.resolve(name), new byte[size]);
+    }
+
+    @Test
+    void servesCachedGeneration() throws Exception {
+        DownloadCache cache = new DownloadCache(directory.resolve("cache"), 1024);
+        Path target = workingDir.resolve("target");
+
+        assertThat(cache.get(blob("a", 1), target), is(false));
+
+        Path source = file("source", 10);
+        cache.put(blob("a", 1), source);
+        Files.delete(source);
+
+        assertThat(cache.get(blob("a", 1), target), is(true));
+        assertThat(Files.size(target), is(10L));
+
+        // the served file is independent of the cache entry
+        Files.delete(target);
+        assertThat(cache.get(blob("a", 1), target), is(true));
+
+        // a new generation is another entry
+        assertThat(cache.get(blob("a", 2), workingDir.resolve("other")), is(false));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() throws Exception {
+        DownloadCache cache = new DownloadCache(directory.resolve("cache"), 25);
+
+        cache.put(blob("a", 1), file("a", 10));
+        cache.put(blob("b", 1), file("b", 10));
+
+        // make "a" the least recently used one
+        try (var files = Files.list(directory.resolve("cache"))) {
+            files.forEach(path -> {
+                try {
+                    Files.setLastModifiedTime(path, FileTime.from(Instant.now().minusSeconds(60)));
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+        }
+        assertThat(cache.get(blob("b", 1), workingDir.resolve("read")), is(true));
+
+        cache.put(blob("c", 1), file("c", 10));
+
+        assertThat(cache.get(blob("a", 1), workingDir.resolve("a-read")), is(false));
+        assertThat(cache.get(blob("b", 1), workingDir.resolve("b-read")), is(true));
+        assertThat(cache.get(blob("c", 1), workingDir.resolve("c-read")), is(true));
+    }
+
+    @Test
+    void skipsFilesLargerThanTheCache() throws Exception {
+        DownloadCache cache = new DownloadCache(directory.resolve("cache"), 5);
+
+        cache.put(blob("a", 1), file("a", 10));
+
+        assertThat(cache.get(blob("a", 1), workingDir.resolve("read")), is(false));
+    }
+}
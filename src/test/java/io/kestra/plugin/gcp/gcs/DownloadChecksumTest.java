@@ -2,7 +2,15 @@ package io.kestra.plugin.gcp.gcs;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Random;
 import java.util.zip.CRC32C;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -28,4 +36,59 @@ class DownloadChecksumTest {
         // Deterministic for the same input.
         assertThat(Download.encodeCrc32c((int) crc.getValue()), equalTo(encoded));
     }
+
+    @Test
+    void hashingChannelChecksumsTransferredBytes() throws Exception {
+        byte[] data = new byte[100_000];
+        new Random(42).nextBytes(data);
+
+        CRC32C crc = new CRC32C();
+        crc.update(data);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (HashingWritableByteChannel channel = HashingWritableByteChannel.crc32c(partialWrites(Channels.newChannel(out)))) {
+            long transferred = channel.transferFrom(Channels.newChannel(new ByteArrayInputStream(data)), ByteBuffer.allocateDirect(4096));
+
+            assertThat(transferred, equalTo((long) data.length));
+            assertThat(channel.size(), equalTo((long) data.length));
+            assertThat(channel.checksum(), equalTo(Download.encodeCrc32c((int) crc.getValue())));
+        }
+
+        assertThat(out.toByteArray(), equalTo(data));
+    }
+
+    @Test
+    void hashingChannelComputesMd5() throws Exception {
+        byte[] data = "kestra".getBytes(StandardCharsets.UTF_8);
+
+        try (HashingWritableByteChannel channel = HashingWritableByteChannel.md5(Channels.newChannel(new ByteArrayOutputStream()))) {
+            channel.transferFrom(Channels.newChannel(new ByteArrayInputStream(data)), ByteBuffer.allocateDirect(4096));
+
+            assertThat(channel.algorithm(), equalTo("MD5"));
+            assertThat(channel.checksum(), equalTo(Base64.getEncoder().encodeToString(MessageDigest.getInstance("MD5").digest(data))));
+        }
+    }
+
+    // accepts at most 1000 bytes per write, like a non-blocking or throttled channel would
+    private static WritableByteChannel partialWrites(WritableByteChannel delegate) {
+        return new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer src) throws java.io.IOException {
+                ByteBuffer slice = src.slice().limit(Math.min(src.remaining(), 1000));
+                int written = delegate.write(slice);
+                src.position(src.position() + written);
+                return written;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return delegate.isOpen();
+            }
+
+            @Override
+            public void close() throws java.io.IOException {
+                delegate.close();
+            }
+        };
+    }
 }
@@ -5,6 +5,8 @@ import java.io.FileInputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Objects;
 
 import org.junit.jupiter.api.Test;
@@ -133,6 +135,107 @@ class DownloadTest {
         );
     }
 
+    @Test
+    void cache() throws Exception {
+        File file = new File(
+            Objects.requireNonNull(
+                DownloadTest.class.getClassLoader()
+                    .getResource("application.yml")
+            )
+                .toURI()
+        );
+
+        String out = FriendlyId.createFriendlyId();
+        Path cacheDirectory = Files.createTempDirectory("gcs-cache");
+
+        Upload.Output uploadOutput = upload(file, out);
+
+        Download task = Download.builder()
+            .id(DownloadTest.class.getSimpleName())
+            .type(Download.class.getName())
+            .from(Property.ofValue(uploadOutput.getUri().toString()))
+            .cache(Property.ofValue(true))
+            .cacheDirectory(Property.ofValue(cacheDirectory.toString()))
+            .build();
+
+        RunContext first = runContext(task);
+        task.run(first);
+        assertThat(counter(first, "cache.miss"), is(1L));
+
+        // same generation, served from the cache
+        RunContext second = runContext(task);
+        Download.Output run = task.run(second);
+        assertThat(counter(second, "cache.hit"), is(1L));
+        assertThat(counter(second, "cache.miss"), is(0L));
+
+        InputStream get = storageInterface.get(TenantService.MAIN_TENANT, null, run.getUri());
+        assertThat(
+            CharStreams.toString(new InputStreamReader(get)),
+            is(CharStreams.toString(new InputStreamReader(new FileInputStream(file))))
+        );
+
+        // a new generation is downloaded again
+        upload(file, out);
+
+        RunContext third = runContext(task);
+        task.run(third);
+        assertThat(counter(third, "cache.miss"), is(1L));
+    }
+
+    @Test
+    void grpc() throws Exception {
+        File file = new File(
+            Objects.requireNonNull(
+                DownloadTest.class.getClassLoader()
+                    .getResource("application.yml")
+            )
+                .toURI()
+        );
+
+        Upload.Output uploadOutput = upload(file, FriendlyId.createFriendlyId());
+
+        Download task = Download.builder()
+            .id(DownloadTest.class.getSimpleName())
+            .type(Download.class.getName())
+            .from(Property.ofValue(uploadOutput.getUri().toString()))
+            .transport(Property.ofValue(TransportInterface.Transport.GRPC))
+            .validateChecksum(Property.ofValue(true))
+            .chunkSize(Property.ofValue(256 * 1024))
+            .build();
+
+        Download.Output run = task.run(runContext(task));
+
+        InputStream get = storageInterface.get(TenantService.MAIN_TENANT, null, run.getUri());
+        assertThat(
+            CharStreams.toString(new InputStreamReader(get)),
+            is(CharStreams.toString(new InputStreamReader(new FileInputStream(file))))
+        );
+    }
+
+    private Upload.Output upload(File file, String out) throws Exception {
+        URI source = storageInterface.put(
+            TenantService.MAIN_TENANT,
+            null,
+            new URI("/" + FriendlyId.createFriendlyId()),
+            new FileInputStream(file)
+        );
+
+        Upload upload = Upload.builder()
+            .id(UploadTest.class.getSimpleName())
+            .type(Upload.class.getName())
+            .from(Property.ofValue(source.toString()))
+            .to(Property.ofValue("gs://{{inputs.bucket}}/tasks/gcp/upload/" + out + ".yml"))
+            .build();
+
+        return upload.run(runContext(upload));
+    }
+
+    private static long counter(RunContext runContext, String name) {
+        return runContext.metrics().stream()
+            .filter(metric -> metric.getName().equals(name))
+            .count();
+    }
+
     private RunContext runContext(Task task) {
         return TestsUtils.mockRunContext(
             this.runContextFactory,
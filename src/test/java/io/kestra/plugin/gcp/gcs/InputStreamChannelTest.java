@@ -0,0 +1,33 @@
+package io.kestra.plugin.gcp.gcs;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class InputStreamChannelTest {
+    @Test
+    void fillsTheWholeBuffer() throws Exception {
+        byte[] data = new byte[3 * 1024 * 1024 + 10];
+        new Random(42).nextBytes(data);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(2 * 1024 * 1024);
+        try (ReadableByteChannel channel = InputStreamChannel.of(new BufferedInputStream(new ByteArrayInputStream(data)))) {
+            assertThat(channel.read(buffer), is(2 * 1024 * 1024));
+            assertThat(buffer.get(buffer.position() - 1), is(data[2 * 1024 * 1024 - 1]));
+
+            buffer.clear();
+            assertThat(channel.read(buffer), is(1024 * 1024 + 10));
+            assertThat(buffer.get(buffer.position() - 1), is(data[data.length - 1]));
+
+            buffer.clear();
+            assertThat(channel.read(buffer), is(-1));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.kestra.plugin.gcp.gcs;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.auth.http.HttpCredentialsAdapter;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonRequestInitializerTest {
+    /**
+     * A transport failing the first requests with the given status, or with an I/O error for a status of 0.
+     */
+    private static MockHttpTransport transport(AtomicInteger calls, int failures, int status) {
+        return new MockHttpTransport() {
+            @Override
+            public LowLevelHttpRequest buildRequest(String method, String url) {
+                return new MockLowLevelHttpRequest() {
+                    @Override
+                    public LowLevelHttpResponse execute() throws IOException {
+                        if (calls.getAndIncrement() < failures) {
+                            if (status == 0) {
+                                throw new IOException("Connection reset");
+                            }
+
+                            return new MockLowLevelHttpResponse().setStatusCode(status);
+                        }
+
+                        return new MockLowLevelHttpResponse().setContentType("application/json").setContent("{}");
+                    }
+                };
+            }
+        };
+    }
+
+    private static HttpResponse execute(MockHttpTransport transport) throws IOException {
+        HttpCredentialsAdapter credentials = new HttpCredentialsAdapter(GoogleCredentials.create(new AccessToken("token", null)));
+
+        return transport.createRequestFactory(AbstractGcs.jsonRequestInitializer(credentials, "Kestra/test"))
+            .buildPostRequest(new GenericUrl("https://storage.googleapis.com/storage/v1/b/bucket/o/object/rewriteTo/b/bucket/o/target"), null)
+            .execute();
+    }
+
+    @Test
+    void retriesTransientResponses() throws Exception {
+        for (int status : new int[] {408, 429, 503}) {
+            AtomicInteger calls = new AtomicInteger();
+
+            assertThat(execute(transport(calls, 1, status)).getStatusCode(), is(200));
+            assertThat(calls.get(), is(2));
+        }
+    }
+
+    @Test
+    void retriesIoErrors() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(execute(transport(calls, 1, 0)).getStatusCode(), is(200));
+        assertThat(calls.get(), is(2));
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        AtomicInteger calls = new AtomicInteger();
+
+        HttpResponseException exception = assertThrows(HttpResponseException.class, () -> execute(transport(calls, 1, 400)));
+        assertThat(exception.getStatusCode(), is(400));
+        assertThat(calls.get(), is(1));
+    }
+}
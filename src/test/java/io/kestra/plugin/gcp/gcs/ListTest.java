@@ -4,17 +4,21 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.net.URI;
+import java.util.Map;
 import java.util.Objects;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
 
 import com.devskiller.friendly_id.FriendlyId;
+import com.google.cloud.storage.Storage;
 import com.google.common.collect.ImmutableMap;
 
 import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.tenant.TenantService;
 import io.kestra.core.utils.TestsUtils;
@@ -25,6 +29,8 @@ import jakarta.inject.Inject;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
 @KestraTest
 @EnabledIfEnvironmentVariable(named = "GOOGLE_APPLICATION_CREDENTIALS", matches = ".+")
@@ -161,6 +167,56 @@ class ListTest {
         assertThat(run.getBlobs().size(), is(5));
     }
 
+    @Test
+    void store() throws Exception {
+        String dir = FriendlyId.createFriendlyId();
+
+        for (int i = 0; i < 5; i++) {
+            upload(storageInterface, bucket, runContextFactory, "/tasks/gcp/" + dir);
+        }
+        upload(storageInterface, bucket, runContextFactory, "/tasks/gcp/" + dir + "/sub");
+
+        List task = task()
+            .from(Property.ofValue("gs://" + bucket + "/tasks/gcp/" + dir + "/"))
+            .listingType(Property.ofValue(ListInterface.ListingType.RECURSIVE))
+            .fetchType(Property.ofValue(FetchType.STORE))
+            .matchGlob(Property.ofValue("tasks/gcp/" + dir + "/*.yml"))
+            .pageSize(Property.ofValue(2))
+            .fields(Property.ofValue(java.util.List.of(Storage.BlobField.SIZE)))
+            .build();
+
+        List.Output run = task.run(TestsUtils.mockRunContext(runContextFactory, task, ImmutableMap.of()));
+
+        assertThat(run.getCount(), is(5L));
+        assertThat(run.getBlobs(), is(nullValue()));
+
+        java.util.List<Object> blobs = FileSerde.readAll(storageInterface.get(TenantService.MAIN_TENANT, null, run.getUri())).collectList().block();
+        assertThat(blobs.size(), is(5));
+        assertThat(((Map<?, ?>) blobs.getFirst()).get("size"), is(notNullValue()));
+        assertThat(((Map<?, ?>) blobs.getFirst()).get("contentType"), is(nullValue()));
+    }
+
+    @Test
+    void offsets() throws Exception {
+        String dir = FriendlyId.createFriendlyId();
+        java.util.List<String> names = new java.util.ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            names.add(upload(storageInterface, bucket, runContextFactory, "/tasks/gcp/" + dir));
+        }
+        names.sort(String::compareTo);
+
+        List task = task()
+            .from(Property.ofValue("gs://" + bucket + "/tasks/gcp/" + dir + "/"))
+            .startOffset(Property.ofValue("tasks/gcp/" + dir + "/" + names.get(1)))
+            .endOffset(Property.ofValue("tasks/gcp/" + dir + "/" + names.get(3)))
+            .build();
+
+        List.Output run = task.run(TestsUtils.mockRunContext(runContextFactory, task, ImmutableMap.of()));
+
+        assertThat(run.getBlobs().size(), is(2));
+    }
+
     private static List.ListBuilder<?, ?> task() {
         return List.builder()
             .id(ListTest.class.getSimpleName())
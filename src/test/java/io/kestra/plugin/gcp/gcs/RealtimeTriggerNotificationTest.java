@@ -0,0 +1,58 @@
+package io.kestra.plugin.gcp.gcs;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.plugin.gcp.pubsub.model.Message;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RealtimeTriggerNotificationTest {
+    private static Message message(String payload, Map<String, String> attributes) {
+        return Message.builder()
+            .messageId("1")
+            .data(payload == null ? null : payload.getBytes(StandardCharsets.UTF_8))
+            .attributes(attributes)
+            .build();
+    }
+
+    @Test
+    void jsonPayload() {
+        Trigger.TriggeredBlob blob = RealtimeTrigger.triggeredBlob(message(
+            "{\"bucket\": \"bucket\", \"name\": \"dir/file.csv\", \"size\": \"42\", \"updated\": \"2024-01-01T00:00:00.000Z\"}",
+            Map.of("eventType", "OBJECT_FINALIZE")
+        ));
+
+        assertThat(blob.getChangeType(), is(Trigger.ChangeType.CREATE));
+        assertThat(blob.getBlob().getUri().toString(), is("gs://bucket/dir/file.csv"));
+        assertThat(blob.getBlob().getSize(), is(42L));
+    }
+
+    @Test
+    void noneFormatWithoutObjectIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> RealtimeTrigger.triggeredBlob(message(
+            null,
+            Map.of("eventType", "OBJECT_FINALIZE", "bucketId", "bucket")
+        )));
+    }
+
+    @Test
+    void jsonWithoutNameIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> RealtimeTrigger.triggeredBlob(message(
+            "{\"bucket\": \"bucket\"}",
+            Map.of("eventType", "OBJECT_FINALIZE")
+        )));
+    }
+
+    @Test
+    void malformedTimestampIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> RealtimeTrigger.triggeredBlob(message(
+            "{\"bucket\": \"bucket\", \"name\": \"file.csv\", \"updated\": \"yesterday\"}",
+            Map.of("eventType", "OBJECT_FINALIZE")
+        )));
+    }
+}
@@ -0,0 +1,132 @@
+package io.kestra.plugin.gcp.gcs;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import com.google.cloud.pubsub.v1.SubscriptionAdminClient;
+import com.google.common.collect.ImmutableMap;
+import com.google.pubsub.v1.ProjectSubscriptionName;
+import com.google.pubsub.v1.ProjectTopicName;
+import com.google.pubsub.v1.PushConfig;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.gcp.pubsub.Publish;
+import io.kestra.plugin.gcp.pubsub.model.Message;
+
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
+import reactor.core.publisher.Mono;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+@KestraTest
+@EnabledIfEnvironmentVariable(named = "GOOGLE_APPLICATION_CREDENTIALS", matches = ".+")
+class RealtimeTriggerTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Value("${kestra.variables.globals.project}")
+    private String project;
+
+    @Value("${kestra.tasks.gcs.bucket}")
+    private String bucket;
+
+    @Test
+    void flow() throws Exception {
+        var subscription = createSubscription("test-topic");
+        var dir = "tasks/gcp/realtime/" + IdUtils.create() + "/";
+
+        // notifications are simulated, as the test bucket doesn't publish to the test topic
+        var task = Publish.builder()
+            .id(Publish.class.getSimpleName())
+            .type(Publish.class.getName())
+            .topic(Property.ofValue("test-topic"))
+            .projectId(Property.ofValue(this.project))
+            .from(
+                List.of(
+                    notification("OBJECT_FINALIZE", "other/" + dir + "ignored.csv", Map.of()),
+                    notification("OBJECT_METADATA_UPDATE", dir + "file.csv", Map.of()),
+                    notification("OBJECT_FINALIZE", dir + "file.csv", Map.of("overwroteGeneration", "1"))
+                )
+            )
+            .build();
+
+        task.run(TestsUtils.mockRunContext(runContextFactory, task, ImmutableMap.of()));
+
+        var trigger = RealtimeTrigger.builder()
+            .id("watch")
+            .type(RealtimeTrigger.class.getName())
+            .projectId(Property.ofValue(project))
+            .topic(Property.ofValue("test-topic"))
+            .subscription(Property.ofValue(subscription))
+            .from(Property.ofValue("gs://" + bucket + "/" + dir))
+            .build();
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+        try {
+            Execution execution = Mono.from(trigger.evaluate(context.getKey(), context.getValue()))
+                .timeout(Duration.ofSeconds(30))
+                .block();
+
+            assertThat(execution, notNullValue());
+
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> blobs = (List<Map<String, Object>>) execution.getTrigger().getVariables().get("blobs");
+            assertThat(blobs.size(), is(1));
+            assertThat(blobs.getFirst().get("uri"), is("gs://" + bucket + "/" + dir + "file.csv"));
+            assertThat(blobs.getFirst().get("changeType"), is("UPDATE"));
+            assertThat(((Number) blobs.getFirst().get("size")).longValue(), is(42L));
+        } finally {
+            trigger.kill();
+            deleteSubscription(subscription);
+        }
+    }
+
+    private Message notification(String eventType, String name, Map<String, String> attributes) {
+        return Message.builder()
+            .data("{\"bucket\": \"" + bucket + "\", \"name\": \"" + name + "\", \"size\": \"42\", \"generation\": \"2\", " +
+                "\"updated\": \"2024-01-01T00:00:00.000Z\"}")
+            .attributes(ImmutableMap.<String, String>builder()
+                .putAll(attributes)
+                .put("eventType", eventType)
+                .put("bucketId", bucket)
+                .put("objectId", name)
+                .put("payloadFormat", "JSON_API_V1")
+                .build()
+            )
+            .build();
+    }
+
+    private String createSubscription(String topicId) throws Exception {
+        String subId = "test-subscription-" + IdUtils.create();
+
+        try (SubscriptionAdminClient subAdmin = SubscriptionAdminClient.create()) {
+            subAdmin.createSubscription(
+                ProjectSubscriptionName.of(project, subId),
+                ProjectTopicName.of(project, topicId),
+                PushConfig.getDefaultInstance(),
+                10
+            );
+        }
+        return subId;
+    }
+
+    private void deleteSubscription(String subscriptionId) {
+        try (SubscriptionAdminClient subAdmin = SubscriptionAdminClient.create()) {
+            subAdmin.deleteSubscription(ProjectSubscriptionName.of(project, subscriptionId));
+        } catch (Exception ignored) {
+        }
+    }
+}
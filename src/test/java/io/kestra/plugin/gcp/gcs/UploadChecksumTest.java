@@ -96,6 +96,31 @@ class UploadChecksumTest {
         assertThat(ex.getMessage(), containsString("Source MD5 mismatch"));
     }
 
+    @Test
+    void multipleChunksKeepChecksums() throws Exception {
+        byte[] content = new byte[700 * 1024];
+        new java.util.Random(42).nextBytes(content);
+        Upload task = uploadOf(content)
+            .chunkSize(Property.ofValue(256 * 1024))
+            .build();
+
+        Upload.Output run = task.run(mockRunContext(task));
+
+        assertThat(run.getMd5(), equalTo(md5Base64(content)));
+        assertThat(run.getCrc32c(), equalTo(crc32cBase64(content)));
+    }
+
+    @Test
+    void invalidChunkSizeThrows() throws Exception {
+        Upload task = uploadOf("chunk".getBytes(StandardCharsets.UTF_8))
+            .chunkSize(Property.ofValue(1000))
+            .build();
+        RunContext rc = mockRunContext(task);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> task.run(rc));
+        assertThat(ex.getMessage(), containsString("chunk size"));
+    }
+
     private Upload.UploadBuilder<?, ?> uploadOf(byte[] content) throws Exception {
         URI source = storageInterface.put(
             TenantService.MAIN_TENANT,
@@ -0,0 +1,90 @@
+package io.kestra.plugin.gcp.spanner;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.cloud.Date;
+import com.google.cloud.Timestamp;
+import com.google.cloud.spanner.ResultSets;
+import com.google.cloud.spanner.Struct;
+import com.google.cloud.spanner.Type;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class SpannerRowDecoderTest {
+    private static final Type ADDRESS = Type.struct(
+        Type.StructField.of("city", Type.string())
+    );
+
+    private static final Type ROW = Type.struct(
+        Type.StructField.of("id", Type.int64()),
+        Type.StructField.of("name", Type.string()),
+        Type.StructField.of("score", Type.float64()),
+        Type.StructField.of("amount", Type.numeric()),
+        Type.StructField.of("active", Type.bool()),
+        Type.StructField.of("created", Type.timestamp()),
+        Type.StructField.of("birthday", Type.date()),
+        Type.StructField.of("tags", Type.array(Type.string())),
+        Type.StructField.of("address", ADDRESS),
+        Type.StructField.of("history", Type.array(ADDRESS))
+    );
+
+    private static Struct row(long id, String name) {
+        var address = Struct.newBuilder().set("city").to("Paris").build();
+
+        return Struct.newBuilder()
+            .set("id").to(id)
+            .set("name").to(name)
+            .set("score").to(1.5d)
+            .set("amount").to(new BigDecimal("12.34"))
+            .set("active").to(true)
+            .set("created").to(Timestamp.parseTimestamp("2026-06-24T12:00:00Z"))
+            .set("birthday").to(Date.fromYearMonthDay(2026, 6, 24))
+            .set("tags").toStringArray(List.of("a", "b"))
+            .set("address").to(address)
+            .set("history").toStructArray(ADDRESS, List.of(address))
+            .build();
+    }
+
+    @Test
+    void decodeResultSet() {
+        var rows = List.of(row(1L, "John"), row(2L, null));
+
+        try (var resultSet = ResultSets.forRows(ROW, rows)) {
+            assertThat(resultSet.next(), is(true));
+            var decoder = SpannerRowDecoder.of(resultSet.getType());
+
+            var first = decoder.decode(resultSet);
+            assertThat(first.keySet(), contains("id", "name", "score", "amount", "active", "created", "birthday", "tags", "address", "history"));
+            assertThat(first.get("id"), is(1L));
+            assertThat(first.get("name"), is("John"));
+            assertThat(first.get("score"), is(1.5d));
+            assertThat(first.get("amount"), is(new BigDecimal("12.34")));
+            assertThat(first.get("active"), is(true));
+            assertThat(first.get("created"), is(Instant.parse("2026-06-24T12:00:00Z")));
+            assertThat(first.get("birthday"), is(LocalDate.parse("2026-06-24")));
+            assertThat(first.get("tags"), is(List.of("a", "b")));
+            assertThat(first.get("address"), is(Map.of("city", "Paris")));
+            assertThat(first.get("history"), is(List.of(Map.of("city", "Paris"))));
+
+            assertThat(resultSet.next(), is(true));
+            var second = decoder.decode(resultSet);
+            assertThat(second.get("id"), is(2L));
+            assertThat(second.containsKey("name"), is(true));
+            assertThat(second.get("name"), is(nullValue()));
+        }
+    }
+
+    @Test
+    void rowToMapMatchesDecoder() {
+        var struct = row(1L, "John");
+
+        assertThat(SpannerService.rowToMap(struct), is(SpannerRowDecoder.of(ROW).decode(struct)));
+    }
+}
@@ -407,6 +407,73 @@ class SpannerTest {
         });
     }
 
+    @Test
+    void queryWithReadOptions() throws Exception {
+        var runContext = runContextFactory.of();
+
+        var dbClient = spanner.getDatabaseClient(DatabaseId.of(PROJECT_ID, INSTANCE_ID, DATABASE_ID));
+        var insert = dbClient.readWriteTransaction();
+        insert.run(transaction -> {
+            transaction.executeUpdate(Statement.of("INSERT INTO users (id, name, age) VALUES (20, 'Stale User', 50)"));
+            return null;
+        });
+        var inserted = insert.getCommitTimestamp();
+
+        var update = dbClient.readWriteTransaction();
+        update.run(transaction -> {
+            transaction.executeUpdate(Statement.of("UPDATE users SET age = 51 WHERE id = 20"));
+            return null;
+        });
+
+        // read at the insert timestamp, the later update must not be visible
+        var staleOutput = readAt(runContext, inserted.toString());
+        assertThat(staleOutput.getSize(), is(1L));
+        assertThat(staleOutput.getRows().get(0).get("name"), is("Stale User"));
+        assertThat(staleOutput.getRows().get(0).get("age"), is(50L));
+
+        var latestOutput = readAt(runContext, update.getCommitTimestamp().toString());
+        assertThat(latestOutput.getSize(), is(1L));
+        assertThat(latestOutput.getRows().get(0).get("age"), is(51L));
+
+        // before the insert, the row doesn't exist yet
+        var before = com.google.cloud.Timestamp.ofTimeSecondsAndNanos(inserted.getSeconds() - 1, inserted.getNanos());
+        var beforeOutput = readAt(runContext, before.toString());
+        assertThat(beforeOutput.getSize(), is(0L));
+
+        var invalidTask = Query.builder()
+            .id("query-invalid-bound")
+            .type(Query.class.getName())
+            .projectId(Property.ofValue(PROJECT_ID))
+            .instanceId(Property.ofValue(INSTANCE_ID))
+            .databaseId(Property.ofValue(DATABASE_ID))
+            .sql(Property.ofValue("SELECT * FROM users"))
+            .readTimestamp(Property.ofValue("2026-01-01T00:00:00Z"))
+            .exactStaleness(Property.ofValue(java.time.Duration.ofSeconds(10)))
+            .emulatorHost(Property.ofValue(getEmulatorHost()))
+            .build();
+
+        var exception = org.junit.jupiter.api.Assertions.assertThrows(IllegalArgumentException.class, () -> invalidTask.run(runContext));
+        assertThat(exception.getMessage(), containsString("Only one of"));
+    }
+
+    private Query.Output readAt(RunContext runContext, String readTimestamp) throws Exception {
+        var queryTask = Query.builder()
+            .id("query-stale")
+            .type(Query.class.getName())
+            .projectId(Property.ofValue(PROJECT_ID))
+            .instanceId(Property.ofValue(INSTANCE_ID))
+            .databaseId(Property.ofValue(DATABASE_ID))
+            .sql(Property.ofValue("SELECT * FROM users WHERE id = 20"))
+            .readTimestamp(Property.ofValue(readTimestamp))
+            .priority(Property.ofValue(Options.RpcPriority.LOW))
+            .requestTag(Property.ofValue("reporting"))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .emulatorHost(Property.ofValue(getEmulatorHost()))
+            .build();
+
+        return queryTask.run(runContext);
+    }
+
     @Test
     void executeWithArrayParameters() throws Exception {
         var runContext = runContextFactory.of();